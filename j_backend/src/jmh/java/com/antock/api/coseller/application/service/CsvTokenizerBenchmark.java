@@ -0,0 +1,149 @@
+package com.antock.api.coseller.application.service;
+
+import com.antock.api.coseller.application.dto.api.BizCsvInfoDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CsvTokenizerBenchmark {
+
+    private static final String HEADER = "통신판매번호,신고기관명,상호,사업자등록번호,법인여부,대표자명,전화번호,전자우편,신고일자,사업장소재지,사업장소재지(도로명)";
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private Path csvFile;
+
+    @Setup(Level.Trial)
+    public void generateFile() throws IOException {
+        csvFile = Files.createTempFile("coseller-bench-", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            for (int i = 0; i < rows; i++) {
+                writer.write("2025-서울강남-" + i + ",서울특별시 강남구,\"주식회사 상호, " + i + "\","
+                        + String.format("%03d-%02d-%05d", i % 1000, i % 100, i % 100000)
+                        + ",법인,홍길동,02-000-0000,test" + i + "@test.com,20250101,"
+                        + "서울특별시 강남구 테헤란로 " + i + ",\"서울특별시 강남구 테헤란로 " + i + " (역삼동)\"\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    public void legacyLineParser(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] tokens = legacyParseCsvLine(line);
+                blackhole.consume(BizCsvInfoDto.builder()
+                        .sellerId(tokens[0].trim())
+                        .city(tokens[1].trim())
+                        .bizNm(tokens[2].trim())
+                        .bizNo(tokens[3].trim())
+                        .bizType(tokens[4].trim())
+                        .ownerName(tokens[5].trim())
+                        .phone(tokens[6].trim())
+                        .email(tokens[7].trim())
+                        .date(tokens[8].trim())
+                        .address(tokens[9].trim())
+                        .bizAddress(tokens[9].trim())
+                        .bizNesAddress(tokens.length > 10 ? tokens[10].trim() : "")
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public void charBufferTokenizer(Blackhole blackhole) throws IOException {
+        try (Reader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            CsvTokenizer tokenizer = new CsvTokenizer(reader, 8192);
+            tokenizer.nextRecord();
+            while (tokenizer.nextRecord()) {
+                if (tokenizer.isBlankRecord()) {
+                    continue;
+                }
+                String address = tokenizer.field(9);
+                blackhole.consume(BizCsvInfoDto.builder()
+                        .sellerId(tokenizer.field(0))
+                        .city(tokenizer.field(1))
+                        .bizNm(tokenizer.field(2))
+                        .bizNo(tokenizer.field(3))
+                        .bizType(tokenizer.field(4))
+                        .ownerName(tokenizer.field(5))
+                        .phone(tokenizer.field(6))
+                        .email(tokenizer.field(7))
+                        .date(tokenizer.field(8))
+                        .address(address)
+                        .bizAddress(address)
+                        .bizNesAddress(tokenizer.fieldCount() > 10 ? tokenizer.field(10) : "")
+                        .build());
+            }
+        }
+    }
+
+    private static String[] legacyParseCsvLine(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder currentToken = new StringBuilder();
+        boolean inQuotes = false;
+        boolean escapeNext = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (escapeNext) {
+                currentToken.append(c);
+                escapeNext = false;
+            } else if (c == '\\') {
+                escapeNext = true;
+            } else if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == ',' && !inQuotes) {
+                tokens.add(currentToken.toString().trim());
+                currentToken = new StringBuilder();
+            } else {
+                currentToken.append(c);
+            }
+        }
+
+        tokens.add(currentToken.toString().trim());
+
+        return tokens.toArray(new String[0]);
+    }
+}
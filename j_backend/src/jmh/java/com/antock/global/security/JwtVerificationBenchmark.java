@@ -0,0 +1,84 @@
+package com.antock.global.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-the-hs512-algorithm-0123456789";
+
+    @Param({ "1024" })
+    private int tokenCount;
+
+    private String[] tokens;
+    private SecretKey secretKey;
+    private JwtTokenProvider coldProvider;
+    private JwtTokenProvider warmProvider;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        coldProvider = provider(1);
+        warmProvider = provider(tokenCount * 2);
+
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = warmProvider.createAccessToken("bench-user-" + i, "USER");
+            warmProvider.parseClaims(tokens[i]);
+        }
+    }
+
+    @Benchmark
+    public void legacyParserPerCall(Blackhole blackhole) {
+        blackhole.consume(Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(nextToken())
+                .getBody());
+    }
+
+    @Benchmark
+    public void coldVerification(Blackhole blackhole) {
+        blackhole.consume(coldProvider.parseClaims(nextToken()));
+    }
+
+    @Benchmark
+    public void warmVerification(Blackhole blackhole) {
+        blackhole.consume(warmProvider.parseClaims(nextToken()));
+    }
+
+    private String nextToken() {
+        String token = tokens[cursor];
+        cursor = cursor + 1 == tokens.length ? 0 : cursor + 1;
+        return token;
+    }
+
+    private static JwtTokenProvider provider(int verifiedCacheMaxEntries) {
+        return new JwtTokenProvider(SECRET, 3600, 86400, "antock", "antock-api", "HS512",
+                false, 24, verifiedCacheMaxEntries, null);
+    }
+}
@@ -0,0 +1,116 @@
+package com.antock.global.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RateLimiterContentionBenchmark {
+
+    private static final String KEY = "127.0.0.1:login";
+
+    @Param({ "60", "100000000" })
+    private int requestsPerMinute;
+
+    private TokenBucketRateLimiter<String> tokenBucket;
+    private ConcurrentHashMap<String, LegacyWindow> legacyWindows;
+
+    @Setup
+    public void setUp() {
+        tokenBucket = new TokenBucketRateLimiter<>(requestsPerMinute, 100);
+        legacyWindows = new ConcurrentHashMap<>();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean tokenBucket01() {
+        return tokenBucket.tryAcquire(KEY);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean tokenBucket04() {
+        return tokenBucket.tryAcquire(KEY);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean tokenBucket16() {
+        return tokenBucket.tryAcquire(KEY);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean tokenBucket64() {
+        return tokenBucket.tryAcquire(KEY);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean legacyWindow01() {
+        return legacyTryAcquire();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean legacyWindow04() {
+        return legacyTryAcquire();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean legacyWindow16() {
+        return legacyTryAcquire();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean legacyWindow64() {
+        return legacyTryAcquire();
+    }
+
+    private boolean legacyTryAcquire() {
+        LegacyWindow window = legacyWindows.computeIfAbsent(KEY, k -> new LegacyWindow(LocalDateTime.now()));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (window.createdAt.get().plusMinutes(1).isBefore(now)) {
+            window.count.set(0);
+            window.createdAt.set(now);
+        }
+
+        if (window.count.get() >= requestsPerMinute) {
+            return false;
+        }
+        window.count.incrementAndGet();
+        return true;
+    }
+
+    private static final class LegacyWindow {
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicReference<LocalDateTime> createdAt;
+
+        private LegacyWindow(LocalDateTime createdAt) {
+            this.createdAt = new AtomicReference<>(createdAt);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.antock.api.admin.presentation;
 
+import com.antock.api.coseller.application.service.CorpRegNoCache;
+import com.antock.api.coseller.application.service.RegionInfoCache;
 import com.antock.api.member.application.service.MemberApplicationService;
 import com.antock.api.member.application.service.MemberCacheService;
 import com.antock.api.member.application.service.RateLimitServiceInterface;
@@ -22,6 +24,8 @@ public class CacheMonitoringController {
 
     private final MemberApplicationService memberApplicationService;
     private final RateLimitServiceInterface rateLimitService;
+    private final RegionInfoCache regionInfoCache;
+    private final CorpRegNoCache corpRegNoCache;
 
     @GetMapping("/statistics")
     public ResponseEntity<MemberCacheService.CacheStatistics> getCacheStatistics() {
@@ -62,6 +66,41 @@ public class CacheMonitoringController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/region/statistics")
+    public ResponseEntity<Map<String, Object>> getRegionCacheStatistics() {
+        log.info("관리자 지역 정보 캐시 통계 조회 요청");
+
+        Map<String, Object> response = new HashMap<>(regionInfoCache.getStatistics());
+        response.put("timestamp", System.currentTimeMillis());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/region")
+    public ResponseEntity<Map<String, Object>> clearRegionCache() {
+        log.warn("관리자에 의한 지역 정보 캐시 무효화 요청");
+
+        long redisKeysDeleted = regionInfoCache.clear();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "지역 정보 캐시(로컬/Redis)가 무효화되었습니다");
+        response.put("redisKeysDeleted", redisKeysDeleted);
+        response.put("timestamp", System.currentTimeMillis());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/corp/statistics")
+    public ResponseEntity<Map<String, Object>> getCorpCacheStatistics() {
+        log.info("관리자 법인등록번호 캐시 통계 조회 요청");
+
+        Map<String, Object> response = new HashMap<>(corpRegNoCache.getStatistics());
+        response.put("timestamp", System.currentTimeMillis());
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/rate-limit/status")
     public ResponseEntity<Map<String, Object>> getRateLimitStatus() {
         log.info("관리자 속도 제한 상태 조회 요청");
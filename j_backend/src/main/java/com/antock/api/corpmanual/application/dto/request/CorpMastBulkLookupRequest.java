@@ -0,0 +1,28 @@
+package com.antock.api.corpmanual.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "법인 정보 일괄 조회 요청 DTO", example = """
+        {
+          "bizNos": ["124-81-00998", "1208147521"],
+          "corpRegNos": ["110111-1234567"]
+        }
+        """)
+public class CorpMastBulkLookupRequest {
+
+    @Schema(description = "사업자번호 목록 (하이픈 포함/제외 모두 가능)", nullable = true)
+    private List<String> bizNos;
+
+    @Schema(description = "법인등록번호 목록 (하이픈 포함/제외 모두 가능)", nullable = true)
+    private List<String> corpRegNos;
+}
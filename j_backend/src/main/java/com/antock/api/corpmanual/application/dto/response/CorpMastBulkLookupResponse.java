@@ -0,0 +1,35 @@
+package com.antock.api.corpmanual.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "법인 정보 일괄 조회 응답 DTO")
+public class CorpMastBulkLookupResponse {
+
+    @Schema(description = "사업자번호별 조회 결과 (요청한 값 기준)")
+    private Map<String, CorpMastManualResponse> byBizNo;
+
+    @Schema(description = "법인등록번호별 조회 결과 (요청한 값 기준)")
+    private Map<String, CorpMastManualResponse> byCorpRegNo;
+
+    @Schema(description = "찾지 못한 사업자번호 목록")
+    private List<String> notFoundBizNos;
+
+    @Schema(description = "찾지 못한 법인등록번호 목록")
+    private List<String> notFoundCorpRegNos;
+
+    @Schema(description = "요청한 고유 번호 수", example = "50000")
+    private int requestedCount;
+
+    @Schema(description = "캐시에서 찾은 건수", example = "1200")
+    private int cacheHitCount;
+
+    @Schema(description = "DB 조회 횟수", example = "49")
+    private int queryCount;
+}
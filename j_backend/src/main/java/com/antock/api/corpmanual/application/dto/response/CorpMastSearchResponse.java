@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -95,6 +96,9 @@ public class CorpMastSearchResponse {
 
         @Schema(description = "검색 조건 요약", example = "법인명: 삼성, 지역: 서울특별시")
         private String searchSummary;
+
+        @Schema(description = "최대 결과 수 초과로 결과가 잘렸는지 여부", example = "false")
+        private boolean truncated;
     }
 
     public static CorpMastSearchResponse from(Page<CorpMastManualResponse> page, CorpMastManualRequest request) {
@@ -126,6 +130,34 @@ public class CorpMastSearchResponse {
                 .build();
     }
 
+    public static CorpMastSearchResponse from(Slice<CorpMastManualResponse> slice, CorpMastManualRequest request) {
+        PaginationInfo pagination = PaginationInfo.builder()
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .totalElements(slice.getNumberOfElements())
+                .totalPages(1)
+                .hasNext(slice.hasNext())
+                .hasPrevious(false)
+                .isFirst(true)
+                .isLast(!slice.hasNext())
+                .numberOfElements(slice.getNumberOfElements())
+                .build();
+
+        SearchInfo searchInfo = SearchInfo.builder()
+                .searchConditions(request)
+                .resultCount(slice.getNumberOfElements())
+                .searchTime(java.time.LocalDateTime.now().toString())
+                .searchSummary(generateSearchSummary(request))
+                .truncated(slice.hasNext())
+                .build();
+
+        return CorpMastSearchResponse.builder()
+                .content(slice.getContent())
+                .pagination(pagination)
+                .searchInfo(searchInfo)
+                .build();
+    }
+
     private static String generateSearchSummary(CorpMastManualRequest request) {
         StringBuilder summary = new StringBuilder();
 
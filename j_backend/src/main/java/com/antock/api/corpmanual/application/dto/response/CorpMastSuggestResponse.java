@@ -0,0 +1,42 @@
+package com.antock.api.corpmanual.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "법인 자동완성 응답 DTO", example = """
+        {
+          "id": 1,
+          "bizNm": "삼성전자주식회사",
+          "bizNo": "1248100998",
+          "sellerId": "seller123",
+          "siNm": "서울특별시",
+          "sggNm": "강남구",
+          "prefixMatch": true
+        }
+        """)
+public class CorpMastSuggestResponse {
+
+    @Schema(description = "법인 고유 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "법인명", example = "삼성전자주식회사")
+    private String bizNm;
+
+    @Schema(description = "사업자번호", example = "1248100998")
+    private String bizNo;
+
+    @Schema(description = "판매자 ID", example = "seller123")
+    private String sellerId;
+
+    @Schema(description = "시/도", example = "서울특별시")
+    private String siNm;
+
+    @Schema(description = "구/군", example = "강남구")
+    private String sggNm;
+
+    @Schema(description = "접두어 일치 여부 (false 이면 부분 일치)", example = "true")
+    private boolean prefixMatch;
+}
@@ -0,0 +1,97 @@
+package com.antock.api.corpmanual.application.service;
+
+import com.antock.api.coseller.domain.CorpMast;
+import com.antock.global.cache.BoundedCache;
+import com.antock.global.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CorpMastCacheEvictor {
+
+    static final String SEARCH_PAGE = "corpMastSearchPage";
+    static final String SEARCH_PAGINATION = "corpMastSearchPagination";
+    static final String STATISTICS = "corpMastStatistics";
+    static final String CITIES = "corpMastCities";
+    static final String DISTRICTS = "corpMastDistricts";
+
+    private static final List<String> SEARCH_REGIONS = List.of(SEARCH_PAGE, SEARCH_PAGINATION, STATISTICS);
+    private static final List<String> ALL_REGIONS = List.of(SEARCH_PAGE, SEARCH_PAGINATION, STATISTICS,
+            CITIES, DISTRICTS, "corpMastById", "corpMastByBizNo", "corpMastByCorpRegNo");
+
+    private final CacheManager cacheManager;
+
+    public void evictForWrites(Collection<CorpMast> corpMasts) {
+        if (corpMasts == null || corpMasts.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<String>> districtsByCity = new LinkedHashMap<>();
+        for (CorpMast corpMast : corpMasts) {
+            districtsByCity.computeIfAbsent(CorpMast.normalizeRegionName(corpMast.getSiNm()), city -> new HashSet<>())
+                    .add(CorpMast.normalizeRegionName(corpMast.getSggNm()));
+        }
+        TransactionCallbacks.afterCommit(() -> evictRegions(districtsByCity));
+    }
+
+    public void evictAll() {
+        TransactionCallbacks.afterCommit(this::clearAll);
+    }
+
+    private void evictRegions(Map<String, Set<String>> districtsByCity) {
+        int evicted = 0;
+        for (String name : SEARCH_REGIONS) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof BoundedCache boundedCache) {
+                evicted += boundedCache.evictIf(key -> key instanceof CorpMastSearchCacheKey searchKey
+                        && affects(searchKey, districtsByCity));
+            } else if (cache != null) {
+                cache.clear();
+            }
+        }
+
+        Cache cities = cacheManager.getCache(CITIES);
+        if (cities != null) {
+            cities.clear();
+        }
+        Cache districts = cacheManager.getCache(DISTRICTS);
+        if (districts != null) {
+            districtsByCity.keySet().forEach(districts::evict);
+        }
+
+        log.debug("법인 저장에 따른 검색 캐시 무효화: 시/도 {}개, 항목 {}건", districtsByCity.size(), evicted);
+    }
+
+    private void clearAll() {
+        for (String name : ALL_REGIONS) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.info("법인 관련 캐시 전체 무효화");
+    }
+
+    private static boolean affects(CorpMastSearchCacheKey key, Map<String, Set<String>> districtsByCity) {
+        for (Map.Entry<String, Set<String>> entry : districtsByCity.entrySet()) {
+            for (String district : entry.getValue()) {
+                if (key.matchesRegion(entry.getKey(), district)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
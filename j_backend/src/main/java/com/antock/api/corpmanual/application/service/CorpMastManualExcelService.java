@@ -3,37 +3,73 @@ package com.antock.api.corpmanual.application.service;
 import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
 import com.antock.api.corpmanual.application.dto.response.CorpMastManualResponse;
 import com.antock.api.corpmanual.infrastructure.CorpMastManualRepository;
-import com.antock.api.coseller.domain.CorpMast;
-import com.antock.global.utils.ExcelExportUtil;
+import com.antock.api.coseller.infrastructure.CorpMastExportRow;
+import com.antock.global.utils.CorpListExcelWriter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CorpMastManualExcelService {
 
     private final CorpMastManualRepository corpMastManualRepository;
 
+    @Value("${excel.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${excel.export.window-size:500}")
+    private int windowSize;
+
     public void exportToExcel(CorpMastManualRequest request, OutputStream os) throws Exception {
+        long startTime = System.currentTimeMillis();
+        PageRequest page = PageRequest.of(0, fetchSize);
+
+        try (CorpListExcelWriter writer = new CorpListExcelWriter(windowSize)) {
+            Long lastId = 0L;
+            while (true) {
+                List<CorpMastExportRow> rows = corpMastManualRepository.findExportRowsAfter(
+                        request.getBizNmForSearch(),
+                        request.getBizNoForSearch(),
+                        request.getSellerIdForSearch(),
+                        request.getCorpRegNoForSearch(),
+                        request.getCityForSearch(),
+                        request.getDistrictForSearch(),
+                        lastId,
+                        page);
+
+                for (CorpMastExportRow row : rows) {
+                    writer.append(toResponse(row));
+                }
+
+                if (rows.size() < fetchSize) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).getId();
+            }
+
+            writer.writeTo(os);
+            log.info("법인 Excel 내보내기 완료: {}건, 소요시간: {}ms",
+                    writer.getRowCount(), System.currentTimeMillis() - startTime);
+        }
+    }
 
-        List<CorpMast> corpList = corpMastManualRepository.findBySearchConditions(
-                request.getBizNmForSearch(),
-                request.getBizNoForSearch(),
-                request.getSellerIdForSearch(),
-                request.getCorpRegNoForSearch(),
-                request.getCityForSearch(),
-                request.getDistrictForSearch(),
-                PageRequest.of(0, 5000)
-        ).getContent();
-
-        List<CorpMastManualResponse> responseList = corpList.stream()
-                .map(CorpMastManualResponse::from)
-                .collect(Collectors.toList());
-
-        ExcelExportUtil.writeCorpListToExcel(responseList, os);
+    private CorpMastManualResponse toResponse(CorpMastExportRow row) {
+        return CorpMastManualResponse.builder()
+                .id(row.getId())
+                .bizNm(row.getBizNm())
+                .bizNo(row.getBizNo())
+                .corpRegNo(row.getCorpRegNo())
+                .siNm(row.getSiNm())
+                .sggNm(row.getSggNm())
+                .sellerId(row.getSellerId())
+                .username(row.getUsername())
+                .description(row.getDescription())
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,46 @@
 package com.antock.api.corpmanual.application.service;
 
+import com.antock.api.corpmanual.application.dto.request.CorpMastBulkLookupRequest;
 import com.antock.api.corpmanual.application.dto.request.CorpMastForm;
 import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
+import com.antock.api.corpmanual.application.dto.response.CorpMastBulkLookupResponse;
 import com.antock.api.corpmanual.application.dto.response.CorpMastManualResponse;
 import com.antock.api.corpmanual.application.dto.response.CorpMastSearchResponse;
+import com.antock.api.corpmanual.application.dto.response.CorpMastSuggestResponse;
 import com.antock.api.corpmanual.infrastructure.CorpMastManualRepository;
+import com.antock.api.corpmanual.infrastructure.CorpMastSuggestJdbcRepository;
+import com.antock.api.corpmanual.infrastructure.CorpMastSuggestJdbcRepository.SuggestField;
 import com.antock.api.coseller.domain.CorpMast;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.cache.BoundedCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -30,28 +48,70 @@ import java.util.concurrent.Executor;
 @Transactional(readOnly = true)
 public class CorpMastManualService {
 
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    private static final String BIZ_NO_CACHE = "corpMastByBizNo";
+    private static final String CORP_REG_NO_CACHE = "corpMastByCorpRegNo";
+    private static final int WRITE_BACK_DIVISOR = 10;
+
     private final CorpMastManualRepository corpMastManualRepository;
+    private final CorpMastSuggestJdbcRepository corpMastSuggestRepository;
     private final Executor asyncExecutor;
+    private final CacheManager cacheManager;
+
+    @Value("${corp.search.max-results:1000}")
+    private int maxSearchResults;
+
+    @Value("${corp.lookup.max-keys:50000}")
+    private int maxLookupKeys;
+
+    @Value("${corp.lookup.chunk-size:1000}")
+    private int lookupChunkSize;
 
-    @Cacheable(value = "corpMastSearch", key = "#request.toString()")
-    public List<CorpMastSearchResponse> search(CorpMastManualRequest request) {
+    public CorpMastSearchResponse search(CorpMastManualRequest request) {
         log.info("법인 정보 검색 요청: {}", request);
 
-        Page<CorpMast> results = corpMastManualRepository.findBySearchConditions(
+        Slice<CorpMast> results = corpMastManualRepository.findSliceBySearchConditions(
                 request.getBizNm(),
                 request.getBizNo(),
                 request.getSellerId(),
                 request.getCorpRegNo(),
                 request.getCity(),
                 request.getDistrict(),
-                PageRequest.of(0, Integer.MAX_VALUE));
+                PageRequest.of(0, maxSearchResults, Sort.by(Sort.Direction.DESC, "id")));
+
+        if (results.hasNext()) {
+            log.warn("법인 검색 결과가 최대 {}건을 초과하여 잘렸습니다: {}", maxSearchResults, request);
+        }
+        return CorpMastSearchResponse.from(results.map(this::convertToManualResponse), request);
+    }
 
-        return results.getContent().stream()
-                .map(this::convertToSearchResponse)
-                .toList();
+    public int streamSearch(CorpMastManualRequest request, Consumer<CorpMastManualResponse> consumer) {
+        log.info("법인 정보 스트리밍 검색 요청: {}", request);
+
+        int count = 0;
+        try (Stream<CorpMast> stream = corpMastManualRepository.streamBySearchConditions(
+                request.getBizNm(),
+                request.getBizNo(),
+                request.getSellerId(),
+                request.getCorpRegNo(),
+                request.getCity(),
+                request.getDistrict(),
+                maxSearchResults)) {
+            Iterator<CorpMast> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(convertToManualResponse(iterator.next()));
+                count++;
+            }
+        }
+        return count;
     }
 
-    @Cacheable(value = "corpMastSearchPage", key = "#request.toString()")
+    public int getMaxSearchResults() {
+        return maxSearchResults;
+    }
+
+    @Cacheable(value = "corpMastSearchPage",
+            key = "T(com.antock.api.corpmanual.application.service.CorpMastSearchCacheKey).of(#request, #pageable)")
     public Page<CorpMastManualResponse> search(CorpMastManualRequest request, Pageable pageable) {
         log.info("법인 정보 페이징 검색 요청: {}", request);
 
@@ -67,7 +127,8 @@ public class CorpMastManualService {
         return results.map(this::convertToManualResponse);
     }
 
-    @Cacheable(value = "corpMastSearchPagination", key = "#request.toString() + '_' + #page + '_' + #size + '_' + #sortBy + '_' + #sortDir")
+    @Cacheable(value = "corpMastSearchPagination",
+            key = "T(com.antock.api.corpmanual.application.service.CorpMastSearchCacheKey).of(#request, #page, #size, #sortBy, #sortDir)")
     public Page<CorpMastSearchResponse> searchWithPagination(
             CorpMastManualRequest request,
             int page,
@@ -92,6 +153,24 @@ public class CorpMastManualService {
         return corpMastPage.map(this::convertToSearchResponse);
     }
 
+    public List<CorpMastSuggestResponse> suggest(String keyword, String field, int limit) {
+        if (!StringUtils.hasText(keyword)) {
+            return List.of();
+        }
+
+        String normalized = keyword.trim();
+        SuggestField suggestField = resolveSuggestField(field);
+        int boundedLimit = Math.min(Math.max(limit, 1), MAX_SUGGEST_LIMIT);
+
+        List<CorpMastSuggestResponse> results = new ArrayList<>(
+                corpMastSuggestRepository.findByPrefix(suggestField, normalized, boundedLimit));
+        if (results.size() < boundedLimit && normalized.length() >= CorpMastSuggestJdbcRepository.MIN_CONTAINS_LENGTH) {
+            results.addAll(corpMastSuggestRepository.findByContains(
+                    suggestField, normalized, boundedLimit - results.size()));
+        }
+        return results;
+    }
+
     @Cacheable(value = "corpMastById", key = "#id")
     public CorpMastManualResponse getById(Long id) {
         log.info("법인 정보 조회 요청 - ID: {}", id);
@@ -102,7 +181,8 @@ public class CorpMastManualService {
         return convertToManualResponse(corpMast);
     }
 
-    @Cacheable(value = "corpMastByBizNo", key = "#bizNo")
+    @Cacheable(value = BIZ_NO_CACHE,
+            key = "T(com.antock.api.corpmanual.application.service.CorpMastManualService).normalizeBizNo(#bizNo)")
     public CorpMastManualResponse getByBizNo(String bizNo) {
         log.info("사업자번호로 법인 정보 조회 요청: {}", bizNo);
 
@@ -114,7 +194,8 @@ public class CorpMastManualService {
         return convertToManualResponse(corpMast);
     }
 
-    @Cacheable(value = "corpMastByCorpRegNo", key = "#corpRegNo")
+    @Cacheable(value = CORP_REG_NO_CACHE,
+            key = "T(com.antock.api.corpmanual.application.service.CorpMastManualService).normalizeCorpRegNo(#corpRegNo)")
     public CorpMastManualResponse getByCorpRegNo(String corpRegNo) {
         log.info("법인등록번호로 법인 정보 조회 요청: {}", corpRegNo);
 
@@ -126,6 +207,37 @@ public class CorpMastManualService {
         return convertToManualResponse(corpMast);
     }
 
+    public CorpMastBulkLookupResponse bulkLookup(CorpMastBulkLookupRequest request) {
+        List<String> bizNos = request.getBizNos() != null ? request.getBizNos() : List.of();
+        List<String> corpRegNos = request.getCorpRegNos() != null ? request.getCorpRegNos() : List.of();
+        if (bizNos.isEmpty() && corpRegNos.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "조회할 사업자번호 또는 법인등록번호가 없습니다");
+        }
+        if (bizNos.size() + corpRegNos.size() > maxLookupKeys) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                    "일괄 조회는 최대 " + maxLookupKeys + "건까지 가능합니다");
+        }
+
+        BulkLookup byBizNo = bulkResolve(bizNos, BIZ_NO_CACHE, CorpMastManualService::normalizeBizNo,
+                corpMastManualRepository::findAllByBizNoIn, CorpMast::getBizNo);
+        BulkLookup byCorpRegNo = bulkResolve(corpRegNos, CORP_REG_NO_CACHE, CorpMastManualService::normalizeCorpRegNo,
+                corpMastManualRepository::findAllByCorpRegNoIn, CorpMast::getCorpRegNo);
+
+        log.info("법인 정보 일괄 조회 - 사업자번호 {}건, 법인등록번호 {}건, 캐시 적중 {}건, 쿼리 {}회",
+                byBizNo.requested, byCorpRegNo.requested, byBizNo.cacheHits + byCorpRegNo.cacheHits,
+                byBizNo.queries + byCorpRegNo.queries);
+
+        return CorpMastBulkLookupResponse.builder()
+                .byBizNo(byBizNo.found)
+                .byCorpRegNo(byCorpRegNo.found)
+                .notFoundBizNos(byBizNo.notFound)
+                .notFoundCorpRegNos(byCorpRegNo.notFound)
+                .requestedCount(byBizNo.requested + byCorpRegNo.requested)
+                .cacheHitCount(byBizNo.cacheHits + byCorpRegNo.cacheHits)
+                .queryCount(byBizNo.queries + byCorpRegNo.queries)
+                .build();
+    }
+
     @Cacheable(value = "corpMastCities", key = "'all'")
     public List<String> getAllCities() {
         log.info("도시 목록 조회 요청");
@@ -133,14 +245,16 @@ public class CorpMastManualService {
         return corpMastManualRepository.findDistinctCities();
     }
 
-    @Cacheable(value = "corpMastDistricts", key = "#city")
+    // 저장 시 무효화가 정규화된 시/도명으로 이뤄지므로 캐시 키와 조회 조건도 같은 형태로 맞춤
+    @Cacheable(value = "corpMastDistricts", key = "T(com.antock.api.coseller.domain.CorpMast).normalizeRegionName(#city)")
     public List<String> getDistrictsByCity(String city) {
         log.info("구/군 목록 조회 요청 - 도시: {}", city);
 
-        return corpMastManualRepository.findDistinctDistrictsByCity(city);
+        return corpMastManualRepository.findDistinctDistrictsByCity(CorpMast.normalizeRegionName(city));
     }
 
-    @Cacheable(value = "corpMastStatistics", key = "#request.toString()")
+    @Cacheable(value = "corpMastStatistics",
+            key = "T(com.antock.api.corpmanual.application.service.CorpMastSearchCacheKey).of(#request)")
     public Map<String, Object> getSearchStatistics(CorpMastManualRequest request) {
         log.info("검색 통계 요청: {}", request);
 
@@ -200,15 +314,90 @@ public class CorpMastManualService {
                 .build();
     }
 
-    private String normalizeBizNo(String bizNo) {
+    private BulkLookup bulkResolve(List<String> inputs, String cacheName, UnaryOperator<String> normalizer,
+            Function<List<String>, List<CorpMast>> loader, Function<CorpMast, String> keyOf) {
+        Map<String, List<String>> inputsByKey = new LinkedHashMap<>();
+        for (String input : inputs) {
+            if (StringUtils.hasText(input)) {
+                inputsByKey.computeIfAbsent(normalizer.apply(input), key -> new ArrayList<>(1)).add(input);
+            }
+        }
+
+        BulkLookup lookup = new BulkLookup();
+        lookup.requested = inputsByKey.size();
+        Cache cache = cacheManager.getCache(cacheName);
+        Map<String, CorpMastManualResponse> resolved = new HashMap<>(inputsByKey.size() * 2);
+        List<String> misses = new ArrayList<>();
+        for (String key : inputsByKey.keySet()) {
+            Cache.ValueWrapper cached = cache != null ? cache.get(key) : null;
+            if (cached != null && cached.get() instanceof CorpMastManualResponse response) {
+                resolved.put(key, response);
+                lookup.cacheHits++;
+            } else {
+                misses.add(key);
+            }
+        }
+
+        // 대량 조회 결과로 단건 조회용 캐시가 통째로 밀려나지 않도록, 리전 크기의 일부를 넘는 조회는 캐시에 다시 쓰지 않는다
+        boolean writeBack = cache != null
+                && (!(cache instanceof BoundedCache bounded)
+                        || misses.size() <= bounded.getMaxEntries() / WRITE_BACK_DIVISOR);
+        if (cache != null && !writeBack) {
+            log.debug("일괄 조회 캐시 저장 생략: cache={}, misses={}", cacheName, misses.size());
+        }
+        for (int from = 0; from < misses.size(); from += lookupChunkSize) {
+            List<String> chunk = misses.subList(from, Math.min(from + lookupChunkSize, misses.size()));
+            for (CorpMast corpMast : loader.apply(chunk)) {
+                String key = normalizer.apply(keyOf.apply(corpMast));
+                CorpMastManualResponse response = convertToManualResponse(corpMast);
+                resolved.put(key, response);
+                if (writeBack) {
+                    cache.put(key, response);
+                }
+            }
+            lookup.queries++;
+        }
+
+        inputsByKey.forEach((key, originals) -> {
+            CorpMastManualResponse response = resolved.get(key);
+            for (String original : originals) {
+                if (response != null) {
+                    lookup.found.put(original, response);
+                } else {
+                    lookup.notFound.add(original);
+                }
+            }
+        });
+        return lookup;
+    }
+
+    private SuggestField resolveSuggestField(String field) {
+        if (!StringUtils.hasText(field) || "bizNm".equals(field)) {
+            return SuggestField.BIZ_NM;
+        }
+        if ("sellerId".equals(field)) {
+            return SuggestField.SELLER_ID;
+        }
+        throw new BusinessException(ErrorCode.INVALID_PARAMETER, "지원하지 않는 자동완성 필드입니다: " + field);
+    }
+
+    public static String normalizeBizNo(String bizNo) {
         if (bizNo == null)
             return null;
-        return bizNo.replaceAll("-", "");
+        return bizNo.trim().replaceAll("-", "");
     }
 
-    private String normalizeCorpRegNo(String corpRegNo) {
+    public static String normalizeCorpRegNo(String corpRegNo) {
         if (corpRegNo == null)
             return null;
-        return corpRegNo.replaceAll("-", "");
+        return corpRegNo.trim().replaceAll("-", "");
+    }
+
+    private static class BulkLookup {
+        private final Map<String, CorpMastManualResponse> found = new LinkedHashMap<>();
+        private final List<String> notFound = new ArrayList<>();
+        private int requested;
+        private int cacheHits;
+        private int queries;
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.antock.api.corpmanual.application.service;
+
+import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
+import com.antock.api.coseller.domain.CorpMast;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.Objects;
+
+public final class CorpMastSearchCacheKey {
+
+    private static final int UNPAGED = -1;
+
+    private final String bizNm;
+    private final String bizNo;
+    private final String sellerId;
+    private final String corpRegNo;
+    private final String city;
+    private final String district;
+    private final int page;
+    private final int size;
+    private final String sort;
+
+    private CorpMastSearchCacheKey(CorpMastManualRequest request, int page, int size, String sort) {
+        this.bizNm = lowerTrim(request.getBizNm());
+        this.bizNo = trim(request.getBizNo());
+        this.sellerId = lowerTrim(request.getSellerId());
+        this.corpRegNo = trim(request.getCorpRegNo());
+        this.city = region(request.getCity());
+        this.district = region(request.getDistrict());
+        this.page = page;
+        this.size = size;
+        this.sort = sort;
+    }
+
+    public static CorpMastSearchCacheKey of(CorpMastManualRequest request) {
+        return new CorpMastSearchCacheKey(request, UNPAGED, UNPAGED, "");
+    }
+
+    public static CorpMastSearchCacheKey of(CorpMastManualRequest request, Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return of(request);
+        }
+        return new CorpMastSearchCacheKey(request, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString());
+    }
+
+    public static CorpMastSearchCacheKey of(CorpMastManualRequest request, int page, int size,
+            String sortBy, String sortDir) {
+        return new CorpMastSearchCacheKey(request, page, size,
+                sortBy + ": " + (sortDir != null ? sortDir.toUpperCase(Locale.ROOT) : ""));
+    }
+
+    public boolean matchesRegion(String siNm, String sggNm) {
+        return (city == null || city.equals(CorpMast.normalizeRegionName(siNm)))
+                && (district == null || district.equals(CorpMast.normalizeRegionName(sggNm)));
+    }
+
+    private static String trim(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+
+    private static String lowerTrim(String value) {
+        return StringUtils.hasText(value) ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static String region(String value) {
+        return StringUtils.hasText(value) ? CorpMast.normalizeRegionName(value) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CorpMastSearchCacheKey other)) {
+            return false;
+        }
+        return page == other.page && size == other.size
+                && Objects.equals(bizNm, other.bizNm)
+                && Objects.equals(bizNo, other.bizNo)
+                && Objects.equals(sellerId, other.sellerId)
+                && Objects.equals(corpRegNo, other.corpRegNo)
+                && Objects.equals(city, other.city)
+                && Objects.equals(district, other.district)
+                && Objects.equals(sort, other.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bizNm, bizNo, sellerId, corpRegNo, city, district, page, size, sort);
+    }
+
+    @Override
+    public String toString() {
+        return "CorpMastSearchCacheKey{bizNm=" + bizNm + ", bizNo=" + bizNo + ", sellerId=" + sellerId
+                + ", corpRegNo=" + corpRegNo + ", city=" + city + ", district=" + district
+                + ", page=" + page + ", size=" + size + ", sort=" + sort + "}";
+    }
+}
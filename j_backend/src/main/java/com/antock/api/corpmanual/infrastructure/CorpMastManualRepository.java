@@ -1,6 +1,8 @@
 package com.antock.api.corpmanual.infrastructure;
 
 import com.antock.api.coseller.domain.CorpMast;
+import com.antock.api.coseller.infrastructure.CorpMastExportRow;
+import com.antock.api.coseller.infrastructure.CorpMastRepository;
 import com.antock.api.coseller.infrastructure.CorpMastRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,47 +11,33 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CorpMastManualRepository extends JpaRepository<CorpMast, Long>, CorpMastRepositoryCustom {
+public interface CorpMastManualRepository extends JpaRepository<CorpMast, Long>, CorpMastRepositoryCustom,
+        CorpMastSearchRepository {
 
-        @Query("SELECT c FROM CorpMast c " +
-                        "WHERE (:bizNm IS NULL OR :bizNm = '' OR LOWER(c.bizNm) LIKE LOWER(CONCAT('%', :bizNm, '%'))) "
-                        +
+        @Query("SELECT " + CorpMastRepository.EXPORT_ROW_COLUMNS + " FROM CorpMast c " +
+                        "WHERE c.id > :lastId " +
+                        "AND (:bizNm IS NULL OR :bizNm = '' OR LOWER(c.bizNm) LIKE LOWER(CONCAT('%', :bizNm, '%'))) " +
                         "AND (:bizNo IS NULL OR :bizNo = '' OR c.bizNo = :bizNo) " +
-                        "AND (:sellerId IS NULL OR :sellerId = '' OR LOWER(c.sellerId) LIKE LOWER(CONCAT('%', :sellerId, '%'))) "
-                        +
+                        "AND (:sellerId IS NULL OR :sellerId = '' OR LOWER(c.sellerId) LIKE LOWER(CONCAT('%', :sellerId, '%'))) " +
                         "AND (:corpRegNo IS NULL OR :corpRegNo = '' OR c.corpRegNo = :corpRegNo) " +
-                        "AND (:city IS NULL OR :city = '' OR LOWER(TRIM(c.siNm)) = LOWER(TRIM(:city))) " +
-                        "AND (:district IS NULL OR :district = '' OR LOWER(TRIM(c.sggNm)) = LOWER(TRIM(:district)))")
-        Page<CorpMast> findBySearchConditions(
+                        "AND (:city IS NULL OR :city = '' OR c.siNm = TRIM(:city)) " +
+                        "AND (:district IS NULL OR :district = '' OR c.sggNm = TRIM(:district)) " +
+                        "ORDER BY c.id ASC")
+        List<CorpMastExportRow> findExportRowsAfter(
                         @Param("bizNm") String bizNm,
                         @Param("bizNo") String bizNo,
                         @Param("sellerId") String sellerId,
                         @Param("corpRegNo") String corpRegNo,
                         @Param("city") String city,
                         @Param("district") String district,
+                        @Param("lastId") Long lastId,
                         Pageable pageable);
 
-        @Query("SELECT COUNT(c) FROM CorpMast c " +
-                        "WHERE (:bizNm IS NULL OR :bizNm = '' OR LOWER(c.bizNm) LIKE LOWER(CONCAT('%', :bizNm, '%'))) "
-                        +
-                        "AND (:bizNo IS NULL OR :bizNo = '' OR c.bizNo = :bizNo) " +
-                        "AND (:sellerId IS NULL OR :sellerId = '' OR LOWER(c.sellerId) LIKE LOWER(CONCAT('%', :sellerId, '%'))) "
-                        +
-                        "AND (:corpRegNo IS NULL OR :corpRegNo = '' OR c.corpRegNo = :corpRegNo) " +
-                        "AND (:city IS NULL OR :city = '' OR LOWER(TRIM(c.siNm)) = LOWER(TRIM(:city))) " +
-                        "AND (:district IS NULL OR :district = '' OR LOWER(TRIM(c.sggNm)) = LOWER(TRIM(:district)))")
-        long countBySearchConditions(
-                        @Param("bizNm") String bizNm,
-                        @Param("bizNo") String bizNo,
-                        @Param("sellerId") String sellerId,
-                        @Param("corpRegNo") String corpRegNo,
-                        @Param("city") String city,
-                        @Param("district") String district);
-
         @Query("SELECT DISTINCT c.siNm FROM CorpMast c WHERE c.siNm IS NOT NULL AND c.siNm != '' ORDER BY c.siNm")
         List<String> findDistinctCities();
 
@@ -65,13 +53,19 @@ public interface CorpMastManualRepository extends JpaRepository<CorpMast, Long>,
         @Query("SELECT c FROM CorpMast c WHERE c.corpRegNo = :corpRegNo")
         Optional<CorpMast> findByCorpRegNo(@Param("corpRegNo") String corpRegNo);
 
+        @Query("SELECT c FROM CorpMast c WHERE c.bizNo IN :bizNos")
+        List<CorpMast> findAllByBizNoIn(@Param("bizNos") Collection<String> bizNos);
+
+        @Query("SELECT c FROM CorpMast c WHERE c.corpRegNo IN :corpRegNos")
+        List<CorpMast> findAllByCorpRegNoIn(@Param("corpRegNos") Collection<String> corpRegNos);
+
         @Query("SELECT c FROM CorpMast c " +
                         "WHERE (:isAdmin = true OR c.username = :username) " +
                         "AND (:bizNm IS NULL OR :bizNm = '' OR LOWER(c.bizNm) LIKE LOWER(CONCAT('%', :bizNm, '%'))) " +
                         "AND (:bizNo IS NULL OR :bizNo = '' OR c.bizNo = :bizNo) " +
                         "AND (:corpRegNo IS NULL OR :corpRegNo = '' OR c.corpRegNo = :corpRegNo) " +
-                        "AND (:siNm IS NULL OR :siNm = '' OR LOWER(TRIM(c.siNm)) = LOWER(TRIM(:siNm))) " +
-                        "AND (:sggNm IS NULL OR :sggNm = '' OR LOWER(TRIM(c.sggNm)) = LOWER(TRIM(:sggNm)))")
+                        "AND (:siNm IS NULL OR :siNm = '' OR c.siNm = TRIM(:siNm)) " +
+                        "AND (:sggNm IS NULL OR :sggNm = '' OR c.sggNm = TRIM(:sggNm))")
         Page<CorpMast> searchCorpMast(
                         @Param("isAdmin") boolean isAdmin,
                         @Param("username") String username,
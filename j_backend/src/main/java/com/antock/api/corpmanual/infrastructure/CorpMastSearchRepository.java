@@ -0,0 +1,23 @@
+package com.antock.api.corpmanual.infrastructure;
+
+import com.antock.api.coseller.domain.CorpMast;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.stream.Stream;
+
+public interface CorpMastSearchRepository {
+
+    Page<CorpMast> findBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district, Pageable pageable);
+
+    Slice<CorpMast> findSliceBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district, Pageable pageable);
+
+    Stream<CorpMast> streamBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district, int maxResults);
+
+    long countBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district);
+}
@@ -0,0 +1,162 @@
+package com.antock.api.corpmanual.infrastructure;
+
+import com.antock.api.coseller.domain.CorpMast;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+@Repository
+public class CorpMastSearchRepositoryImpl implements CorpMastSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<CorpMast> findBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district, Pageable pageable) {
+        SearchFilter filter = new SearchFilter(bizNm, bizNo, sellerId, corpRegNo, city, district);
+        TypedQuery<CorpMast> query = selectQuery(filter, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<CorpMast> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    @Override
+    public Slice<CorpMast> findSliceBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district, Pageable pageable) {
+        SearchFilter filter = new SearchFilter(bizNm, bizNo, sellerId, corpRegNo, city, district);
+        TypedQuery<CorpMast> query = selectQuery(filter, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<CorpMast> content = new ArrayList<>(query.getResultList());
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<CorpMast> streamBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district, int maxResults) {
+        SearchFilter filter = new SearchFilter(bizNm, bizNo, sellerId, corpRegNo, city, district);
+        TypedQuery<CorpMast> query = selectQuery(filter, Sort.by(Sort.Direction.DESC, "id"));
+        query.setMaxResults(maxResults);
+        query.setHint(AvailableHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(AvailableHints.HINT_READ_ONLY, true);
+
+        return query.getResultStream().map(corpMast -> {
+            em.detach(corpMast);
+            return corpMast;
+        });
+    }
+
+    @Override
+    public long countBySearchConditions(String bizNm, String bizNo, String sellerId, String corpRegNo,
+            String city, String district) {
+        return count(new SearchFilter(bizNm, bizNo, sellerId, corpRegNo, city, district));
+    }
+
+    private TypedQuery<CorpMast> selectQuery(SearchFilter filter, Sort sort) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<CorpMast> query = cb.createQuery(CorpMast.class);
+        Root<CorpMast> root = query.from(CorpMast.class);
+        query.select(root).where(filter.toPredicates(cb, root));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return em.createQuery(query);
+    }
+
+    private long count(SearchFilter filter) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<CorpMast> root = query.from(CorpMast.class);
+        query.select(cb.count(root)).where(filter.toPredicates(cb, root));
+        return em.createQuery(query).getSingleResult();
+    }
+
+    private static final class SearchFilter {
+        private final String bizNm;
+        private final String bizNo;
+        private final String sellerId;
+        private final String corpRegNo;
+        private final String city;
+        private final String district;
+
+        private SearchFilter(String bizNm, String bizNo, String sellerId, String corpRegNo,
+                String city, String district) {
+            this.bizNm = trimToNull(bizNm);
+            this.bizNo = trimToNull(bizNo);
+            this.sellerId = trimToNull(sellerId);
+            this.corpRegNo = trimToNull(corpRegNo);
+            this.city = StringUtils.hasText(city) ? CorpMast.normalizeRegionName(city) : null;
+            this.district = StringUtils.hasText(district) ? CorpMast.normalizeRegionName(district) : null;
+        }
+
+        private Predicate[] toPredicates(CriteriaBuilder cb, Root<CorpMast> root) {
+            List<Predicate> predicates = new ArrayList<>(6);
+            if (bizNo != null) {
+                predicates.add(cb.equal(root.get("bizNo"), bizNo));
+            }
+            if (corpRegNo != null) {
+                predicates.add(cb.equal(root.get("corpRegNo"), corpRegNo));
+            }
+            if (city != null) {
+                predicates.add(cb.equal(root.get("siNm"), city));
+            }
+            if (district != null) {
+                predicates.add(cb.equal(root.get("sggNm"), district));
+            }
+            if (bizNm != null) {
+                predicates.add(cb.like(cb.lower(root.get("bizNm")), containsPattern(bizNm), LIKE_ESCAPE));
+            }
+            if (sellerId != null) {
+                predicates.add(cb.like(cb.lower(root.get("sellerId")), containsPattern(sellerId), LIKE_ESCAPE));
+            }
+            return predicates.toArray(new Predicate[0]);
+        }
+
+        private static String containsPattern(String value) {
+            String escaped = value.toLowerCase(Locale.ROOT)
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+            return "%" + escaped + "%";
+        }
+
+        private static String trimToNull(String value) {
+            return StringUtils.hasText(value) ? value.trim() : null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.antock.api.corpmanual.infrastructure;
+
+import com.antock.api.corpmanual.application.dto.response.CorpMastSuggestResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+@Repository
+@RequiredArgsConstructor
+public class CorpMastSuggestJdbcRepository {
+
+    public static final int MIN_CONTAINS_LENGTH = 3;
+
+    private static final String SELECT_COLUMNS = "SELECT id, biz_nm, biz_no, seller_id, si_nm, sgg_nm FROM corp_mast ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<CorpMastSuggestResponse> findByPrefix(SuggestField field, String keyword, int limit) {
+        String sql = SELECT_COLUMNS +
+                "WHERE lower(" + field.column + ") COLLATE \"C\" LIKE ? " +
+                "ORDER BY lower(" + field.column + ") COLLATE \"C\" LIMIT ?";
+        return jdbcTemplate.query(sql, rowMapper(true), escape(keyword) + "%", limit);
+    }
+
+    public List<CorpMastSuggestResponse> findByContains(SuggestField field, String keyword, int limit) {
+        String escaped = escape(keyword);
+        String sql = SELECT_COLUMNS +
+                "WHERE lower(" + field.column + ") LIKE ? " +
+                "AND lower(" + field.column + ") COLLATE \"C\" NOT LIKE ? LIMIT ?";
+        return jdbcTemplate.query(sql, rowMapper(false), "%" + escaped + "%", escaped + "%", limit);
+    }
+
+    private static RowMapper<CorpMastSuggestResponse> rowMapper(boolean prefixMatch) {
+        return (rs, rowNum) -> CorpMastSuggestResponse.builder()
+                .id(rs.getLong("id"))
+                .bizNm(rs.getString("biz_nm"))
+                .bizNo(rs.getString("biz_no"))
+                .sellerId(rs.getString("seller_id"))
+                .siNm(rs.getString("si_nm"))
+                .sggNm(rs.getString("sgg_nm"))
+                .prefixMatch(prefixMatch)
+                .build();
+    }
+
+    static String escape(String keyword) {
+        return keyword.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    public enum SuggestField {
+        BIZ_NM("biz_nm"),
+        SELLER_ID("seller_id");
+
+        private final String column;
+
+        SuggestField(String column) {
+            this.column = column;
+        }
+    }
+}
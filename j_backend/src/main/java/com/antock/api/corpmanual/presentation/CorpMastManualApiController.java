@@ -1,13 +1,17 @@
 package com.antock.api.corpmanual.presentation;
 
+import com.antock.api.corpmanual.application.dto.request.CorpMastBulkLookupRequest;
 import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
+import com.antock.api.corpmanual.application.dto.response.CorpMastBulkLookupResponse;
 import com.antock.api.corpmanual.application.dto.response.CorpMastManualResponse;
 import com.antock.api.corpmanual.application.dto.response.CorpMastSearchResponse;
+import com.antock.api.corpmanual.application.dto.response.CorpMastSuggestResponse;
 import com.antock.api.corpmanual.application.service.CorpMastManualService;
 import com.antock.api.corpmanual.application.service.CorpMastManualExcelService;
 import com.antock.global.common.response.ApiResponse;
 import com.antock.global.security.annotation.CurrentUser;
 import com.antock.global.security.dto.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -28,6 +32,11 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +50,10 @@ public class CorpMastManualApiController {
   private static final Logger log = LoggerFactory.getLogger(CorpMastManualApiController.class);
   private final CorpMastManualService corpMastManualService;
   private final CorpMastManualExcelService excelService;
+  private final ObjectMapper objectMapper;
+
+  private static final String NDJSON_VALUE = "application/x-ndjson";
+  private static final String RESULT_LIMIT_HEADER = "X-Result-Limit";
 
   @Operation(summary = "법인 정보 Excel 내보내기", description = """
       법인 정보를 Excel 파일 형태로 내보냅니다.
@@ -159,11 +172,41 @@ public class CorpMastManualApiController {
           sortBy, sortDir);
       return ApiResponse.of(HttpStatus.OK, "검색 완료", paginatedResult);
     } else {
-      List<CorpMastSearchResponse> result = corpMastManualService.search(request);
+      CorpMastSearchResponse result = corpMastManualService.search(request);
       return ApiResponse.of(HttpStatus.OK, "검색 완료", result);
     }
   }
 
+  @Operation(summary = "법인 정보 스트리밍 검색", description = """
+      검색 결과를 NDJSON(application/x-ndjson) 형식으로 한 줄에 한 건씩 전송합니다.
+
+      ### 특징
+      - DB 커서 기반으로 읽은 즉시 전송하므로 전체 결과를 메모리에 적재하지 않습니다
+      - 최대 결과 수(corp.search.max-results)를 초과하는 결과는 전송되지 않습니다
+      - 결과는 캐시되지 않습니다
+      """, tags = { "CorpMast Management" })
+  @GetMapping(value = "/search/stream", produces = NDJSON_VALUE)
+  public void searchStream(
+      @ModelAttribute CorpMastManualRequest request,
+      HttpServletResponse response) throws IOException {
+
+    response.setContentType(NDJSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(RESULT_LIMIT_HEADER, String.valueOf(corpMastManualService.getMaxSearchResults()));
+
+    OutputStream out = response.getOutputStream();
+    int count = corpMastManualService.streamSearch(request, item -> {
+      try {
+        out.write(objectMapper.writeValueAsBytes(item));
+        out.write('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    out.flush();
+    log.info("법인 스트리밍 검색 완료: {}건", count);
+  }
+
   @Operation(summary = "법인 정보 상세 조회", description = """
       ID를 이용하여 특정 법인의 상세 정보를 조회합니다.
 
@@ -302,6 +345,27 @@ public class CorpMastManualApiController {
     }
   }
 
+  @Operation(summary = "사업자번호/법인등록번호 일괄 조회", description = """
+      여러 건의 사업자번호와 법인등록번호를 한 번의 요청으로 조회합니다.
+
+      ### 기능
+      - 캐시에 있는 번호는 캐시에서 바로 반환
+      - 캐시에 없는 번호는 묶어서(IN 조회) 한 번에 조회한 뒤 캐시에 저장
+      - 결과는 요청한 값을 키로 반환하며, 찾지 못한 번호는 별도 목록으로 반환
+
+      ### 제한
+      - 사업자번호와 법인등록번호 합계 최대 50,000건 (corp.lookup.max-keys)
+      """, tags = { "CorpMast Management" })
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "요청 번호가 없거나 최대 건수 초과", content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse")))
+  })
+  @PostMapping("/lookup")
+  public ApiResponse<CorpMastBulkLookupResponse> bulkLookup(@RequestBody CorpMastBulkLookupRequest request) {
+    CorpMastBulkLookupResponse result = corpMastManualService.bulkLookup(request);
+    return ApiResponse.success(result);
+  }
+
   @Operation(summary = "시/도 목록 조회", description = """
       등록된 법인들의 시/도 목록을 조회합니다.
 
@@ -494,4 +558,29 @@ public class CorpMastManualApiController {
     }
   }
 
+  @Operation(summary = "법인명/판매자 ID 자동완성", description = """
+      법인명 또는 판매자 ID의 일부로 후보 목록을 조회합니다.
+
+      ### 검색 방식
+      - **접두어 일치**를 먼저 채우고, 남은 개수를 **부분 일치** 결과로 채웁니다
+      - 부분 일치는 3자 이상 입력 시에만 수행됩니다 (트라이그램 인덱스 사용)
+      - 대소문자 무관
+
+      ### 제한
+      - 기본 10건, 최대 50건
+      """, tags = { "CorpMast Management" })
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 필드", content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse")))
+  })
+  @GetMapping("/autocomplete")
+  public ApiResponse<List<CorpMastSuggestResponse>> autocomplete(
+      @Parameter(description = "검색어", example = "삼성", required = true) @RequestParam("q") String keyword,
+      @Parameter(description = "대상 필드 (bizNm, sellerId)", example = "bizNm") @RequestParam(defaultValue = "bizNm") String field,
+      @Parameter(description = "최대 결과 수 (1~50)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+
+    List<CorpMastSuggestResponse> suggestions = corpMastManualService.suggest(keyword, field, limit);
+    return ApiResponse.success(suggestions);
+  }
+
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.antock.api.coseller.application.client;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 public interface CorpApiClient {
     CompletableFuture<String> getCorpRegNo(String bizNo);
+    String fetchCorpRegNo(String bizNo);
+    Optional<String> findCachedCorpRegNo(String bizNo);
 }
@@ -2,9 +2,12 @@ package com.antock.api.coseller.application.client;
 
 import com.antock.api.coseller.application.dto.api.RegionInfoDto;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 public interface RegionApiClient {
     CompletableFuture<String> getRegionCode(String address);
     CompletableFuture<RegionInfoDto> getRegionInfo(String address);
+    RegionInfoDto fetchRegionInfo(String address);
+    Optional<RegionInfoDto> findCachedRegionInfo(String address);
 }
\ No newline at end of file
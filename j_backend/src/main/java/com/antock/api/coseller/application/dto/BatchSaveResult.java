@@ -0,0 +1,52 @@
+package com.antock.api.coseller.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public class BatchSaveResult {
+
+    private final List<RowResult> rowResults = new ArrayList<>();
+    private int savedCount;
+    private int duplicateCount;
+    private int failedCount;
+
+    public void saved(String bizNo) {
+        rowResults.add(new RowResult(bizNo, RowStatus.SAVED, "정상 저장"));
+        savedCount++;
+    }
+
+    public void duplicate(String bizNo, String message) {
+        rowResults.add(new RowResult(bizNo, RowStatus.DUPLICATE, message));
+        duplicateCount++;
+    }
+
+    public void failed(String bizNo, String message) {
+        rowResults.add(new RowResult(bizNo, RowStatus.FAILED, message));
+        failedCount++;
+    }
+
+    public List<RowResult> getRowResults() {
+        return Collections.unmodifiableList(rowResults);
+    }
+
+    public int getTotalCount() {
+        return savedCount + duplicateCount + failedCount;
+    }
+
+    public enum RowStatus {
+        SAVED, DUPLICATE, FAILED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowResult {
+        private final String bizNo;
+        private final RowStatus status;
+        private final String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.antock.api.coseller.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CsvReadResult {
+    private String fileName;
+    private int totalLines;
+    private int validCount;
+    private int invalidCount;
+    private int errorCount;
+    private boolean truncated;
+    private long processingTimeMillis;
+}
@@ -0,0 +1,21 @@
+package com.antock.api.coseller.application.dto.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.coseller.enrichment")
+@Getter
+@Setter
+@ToString
+public class EnrichmentProperties {
+    private int threadPoolSize = 16;
+    private int maxInFlight = 32;
+    private long requestTimeoutMillis = 5000;
+    private long acquireTimeoutMillis = 30000;
+    private double corpPermitsPerSecond = 20;
+    private double regionPermitsPerSecond = 20;
+}
@@ -7,9 +7,10 @@ import com.antock.api.coseller.application.dto.api.BizCsvInfoDto;
 import com.antock.api.coseller.application.dto.api.RegionInfoDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -21,23 +22,53 @@ public class CoSellerApiService {
     private final CorpApiClient corpApiClient;
     private final RegionApiClient regionApiClient;
     private final CoSellerDataMapper dataMapper;
+    private final CoSellerEnrichmentEngine enrichmentEngine;
 
-    @Async
     public CompletableFuture<Optional<CorpMastCreateDTO>> processAsync(BizCsvInfoDto csvInfo, String username) {
+        CompletableFuture<String> corpRegNoFuture = corpRegNo(csvInfo.getBizNo());
+        CompletableFuture<RegionInfoDto> regionInfoFuture = regionInfo(csvInfo.getBizAddress());
+
+        return corpRegNoFuture
+                .thenCombine(regionInfoFuture,
+                        (corpRegNo, regionInfo) -> dataMapper.mapFromApiData(csvInfo, corpRegNo, regionInfo, username))
+                .exceptionally(e -> {
+                    log.warn("비동기 처리 실패: bizNo={}, error={}", csvInfo.getBizNo(), e.getMessage());
+                    return Optional.empty();
+                });
+    }
+
+    // 캐시 적중은 외부 호출이 아니므로 호출 허용량과 동시 요청 한도를 거치지 않음
+    private CompletableFuture<String> corpRegNo(String bizNo) {
+        Optional<String> cached = corpApiClient.findCachedCorpRegNo(bizNo);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return enrichmentEngine.callCorpApi(() -> corpApiClient.fetchCorpRegNo(bizNo));
+    }
+
+    private CompletableFuture<RegionInfoDto> regionInfo(String address) {
         try {
-            CompletableFuture<String> corpRegNoFuture = corpApiClient.getCorpRegNo(csvInfo.getBizNo());
-            CompletableFuture<RegionInfoDto> regionInfoFuture = regionApiClient.getRegionInfo(csvInfo.getBizAddress());
-            CompletableFuture<Void> allFutures = CompletableFuture.allOf(corpRegNoFuture, regionInfoFuture);
-
-            return allFutures.thenApply(v -> {
-                String corpRegNo = corpRegNoFuture.join();
-                RegionInfoDto regionInfo = regionInfoFuture.join();
-                return dataMapper.mapFromApiData(csvInfo, corpRegNo, regionInfo, username);
-            });
-        } catch (Exception e) {
-            log.warn("비동기 처리 실패: bizNo={}", csvInfo.getBizNo(), e);
-            return CompletableFuture.completedFuture(Optional.empty());
+            Optional<RegionInfoDto> cached = regionApiClient.findCachedRegionInfo(address);
+            if (cached.isPresent()) {
+                return CompletableFuture.completedFuture(cached.get());
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
+        return enrichmentEngine.callRegionApi(() -> regionApiClient.fetchRegionInfo(address));
     }
-}
 
+    public List<CorpMastCreateDTO> enrichAll(List<BizCsvInfoDto> csvList, String username) {
+        List<CompletableFuture<Optional<CorpMastCreateDTO>>> futures = new ArrayList<>(csvList.size());
+        for (BizCsvInfoDto csvInfo : csvList) {
+            futures.add(processAsync(csvInfo, username));
+        }
+
+        List<CorpMastCreateDTO> enriched = new ArrayList<>(futures.size());
+        for (CompletableFuture<Optional<CorpMastCreateDTO>> future : futures) {
+            future.join().ifPresent(enriched::add);
+        }
+        log.debug("외부 API 보강 완료: requested={}, enriched={}", csvList.size(), enriched.size());
+        return enriched;
+    }
+}
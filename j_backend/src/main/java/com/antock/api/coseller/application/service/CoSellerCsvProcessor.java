@@ -1,5 +1,6 @@
 package com.antock.api.coseller.application.service;
 
+import com.antock.api.coseller.application.dto.CsvReadResult;
 import com.antock.api.coseller.application.dto.RegionRequestDto;
 import com.antock.api.coseller.application.dto.api.BizCsvInfoDto;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
@@ -28,5 +30,20 @@ public class CoSellerCsvProcessor {
             throw new RuntimeException("CSV 파일을 읽을 수 없습니다: " + fileName, e);
         }
     }
-}
 
+    public CsvReadResult readCsvByRegionInChunks(RegionRequestDto requestDto, int chunkSize,
+            Consumer<List<BizCsvInfoDto>> chunkConsumer) {
+        String fileName = requestDto.getCity().getValue() + "_" + requestDto.getDistrict().getValue() + ".csv";
+        return csvService.readCsvFileInChunks(fileName, chunkSize, chunkConsumer);
+    }
+
+    public CsvReadResult readCsvByCityAndDistrictInChunks(String city, String district, int chunkSize,
+            Consumer<List<BizCsvInfoDto>> chunkConsumer) {
+        String fileName = city + "_" + district + ".csv";
+        try {
+            return csvService.readCsvFileInChunks(fileName, chunkSize, chunkConsumer);
+        } catch (Exception e) {
+            throw new RuntimeException("CSV 파일을 읽을 수 없습니다: " + fileName, e);
+        }
+    }
+}
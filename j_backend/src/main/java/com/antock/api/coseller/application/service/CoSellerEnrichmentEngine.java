@@ -0,0 +1,157 @@
+package com.antock.api.coseller.application.service;
+
+import com.antock.api.coseller.application.dto.properties.EnrichmentProperties;
+import com.antock.global.common.exception.ExternalApiException;
+import com.antock.global.utils.PermitRateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoSellerEnrichmentEngine {
+
+    private static final String THREAD_NAME_PREFIX = "coseller-enrich-";
+    private static final String CORP_API = "Corp API";
+    private static final String REGION_API = "Region Info API";
+
+    private final EnrichmentProperties properties;
+
+    private ThreadPoolExecutor executor;
+    private Semaphore inFlight;
+    private int maxInFlight;
+    private PermitRateLimiter corpLimiter;
+    private PermitRateLimiter regionLimiter;
+
+    @PostConstruct
+    public void init() {
+        maxInFlight = Math.max(1, properties.getMaxInFlight());
+        inFlight = new Semaphore(maxInFlight);
+
+        // 대기열에 들어가는 작업은 모두 동시 요청 허용치를 보유하므로 허용치만큼이면 충분
+        int poolSize = Math.max(1, properties.getThreadPoolSize());
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxInFlight),
+                runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        corpLimiter = new PermitRateLimiter(properties.getCorpPermitsPerSecond());
+        regionLimiter = new PermitRateLimiter(properties.getRegionPermitsPerSecond());
+
+        log.info("외부 API 보강 엔진 초기화: {}", properties);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public <T> CompletableFuture<T> callCorpApi(Supplier<T> call) {
+        return submit(corpLimiter, CORP_API, call);
+    }
+
+    public <T> CompletableFuture<T> callRegionApi(Supplier<T> call) {
+        return submit(regionLimiter, REGION_API, call);
+    }
+
+    public int getInFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private <T> CompletableFuture<T> submit(PermitRateLimiter limiter, String apiName, Supplier<T> call) {
+        long acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getAcquireTimeoutMillis());
+        long startNanos = System.nanoTime();
+        try {
+            if (!limiter.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new ExternalApiException(
+                        HttpStatus.TOO_MANY_REQUESTS,
+                        apiName + " 호출 허용량 대기 시간이 초과되었습니다.",
+                        apiName,
+                        null));
+            }
+
+            long remainingNanos = acquireTimeoutNanos - (System.nanoTime() - startNanos);
+            if (!inFlight.tryAcquire(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new ExternalApiException(
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        apiName + " 동시 요청 한도(" + maxInFlight + ")를 초과했습니다.",
+                        apiName,
+                        null));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        AtomicBoolean permitHeld = new AtomicBoolean(true);
+        Runnable releasePermit = () -> {
+            if (permitHeld.compareAndSet(true, false)) {
+                inFlight.release();
+            }
+        };
+
+        // 허용치는 호출이 실제로 끝날 때 반납한다. 제한 시간이 지나도 인터럽트를 무시하는 I/O는 계속 실행되므로
+        // 그 전에 반납하면 동시 요청 한도가 실제 외부 호출 수를 제한하지 못한다.
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                started.set(true);
+                try {
+                    T result = call.get();
+                    releasePermit.run();
+                    future.complete(result);
+                } catch (Throwable e) {
+                    releasePermit.run();
+                    future.completeExceptionally(new CompletionException(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releasePermit.run();
+            return CompletableFuture.failedFuture(new ExternalApiException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    apiName + " 작업 대기열이 가득 찼습니다.",
+                    apiName,
+                    null));
+        }
+
+        return future.orTimeout(properties.getRequestTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    // 시작 전에 취소된 작업은 실행되지 않으므로 여기서 반납
+                    if (error instanceof TimeoutException && task.cancel(true) && !started.get()) {
+                        releasePermit.run();
+                    }
+                });
+    }
+}
@@ -1,5 +1,6 @@
 package com.antock.api.coseller.application.service;
 
+import com.antock.api.coseller.application.dto.BatchSaveResult;
 import com.antock.api.coseller.application.dto.CorpMastCreateDTO;
 import com.antock.api.coseller.application.dto.RegionRequestDto;
 import com.antock.api.coseller.application.dto.api.BizCsvInfoDto;
@@ -7,6 +8,7 @@ import com.antock.api.coseller.domain.CorpMast;
 import com.antock.api.coseller.infrastructure.CorpMastStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,28 +27,42 @@ public class CoSellerService {
     private final CoSellerApiService apiService;
     private final CsvService csvService;
 
+    private static final int BATCH_SIZE = 100;
+
+    @Value("${app.coseller.bulk-insert.enabled:true}")
+    private boolean bulkInsertEnabled;
+
     public CsvService getCsvService() {
         return csvService;
     }
 
     @Transactional
     public int saveCoSeller(RegionRequestDto requestDto, String username) {
-        List<BizCsvInfoDto> csvList = csvProcessor.readCsvByRegion(requestDto);
-        if (csvList.isEmpty()) {
-            return 0;
-        }
+        IngestTally tally = new IngestTally();
+        csvProcessor.readCsvByRegionInChunks(requestDto, BATCH_SIZE,
+                chunk -> saveChunk(chunk, username, null, null, tally));
 
-        return processBatch(csvList, username, null, null);
+        tally.logSummary();
+        return tally.savedCount;
     }
 
     @Transactional
     public int saveCoSeller(String city, String district, String username) {
-        List<BizCsvInfoDto> csvList = csvProcessor.readCsvByCityAndDistrict(city, district);
-        if (csvList.isEmpty()) {
-            return 0;
-        }
+        IngestTally tally = new IngestTally();
+        csvProcessor.readCsvByCityAndDistrictInChunks(city, district, BATCH_SIZE,
+                chunk -> saveChunk(chunk, username, city, district, tally));
+
+        tally.logSummary();
+        return tally.savedCount;
+    }
+
+    public int saveCoSellerWithApi(String city, String district, String username) {
+        IngestTally tally = new IngestTally();
+        csvProcessor.readCsvByCityAndDistrictInChunks(city, district, BATCH_SIZE,
+                chunk -> saveEnrichedChunk(chunk, username, tally));
 
-        return processBatch(csvList, username, city, district);
+        tally.logSummary();
+        return tally.savedCount;
     }
 
     @Transactional
@@ -65,26 +81,60 @@ public class CoSellerService {
     }
 
     private int processBatch(List<BizCsvInfoDto> csvList, String username, String city, String district) {
-        int batchSize = 100;
-        int totalSaved = 0;
-
-        for (int i = 0; i < csvList.size(); i += batchSize) {
-            int end = Math.min(i + batchSize, csvList.size());
-            List<BizCsvInfoDto> batch = csvList.subList(i, end);
-
-            List<CorpMastCreateDTO> corpCreateDtoList;
-            if (city != null && district != null) {
-                corpCreateDtoList = dataMapper.mapToCorpMastCreateDTO(batch, username, city, district);
-            } else {
-                corpCreateDtoList = dataMapper.mapToCorpMastCreateDTO(batch, username);
-            }
-
-            if (!corpCreateDtoList.isEmpty()) {
-                int savedCnt = storageService.saveCorpMastList(corpCreateDtoList, username);
-                totalSaved += savedCnt;
-            }
+        IngestTally tally = new IngestTally();
+
+        for (int i = 0; i < csvList.size(); i += BATCH_SIZE) {
+            int end = Math.min(i + BATCH_SIZE, csvList.size());
+            saveChunk(csvList.subList(i, end), username, city, district, tally);
+        }
+
+        tally.logSummary();
+        return tally.savedCount;
+    }
+
+    private void saveChunk(List<BizCsvInfoDto> batch, String username, String city, String district,
+            IngestTally tally) {
+        List<CorpMastCreateDTO> corpCreateDtoList;
+        if (city != null && district != null) {
+            corpCreateDtoList = dataMapper.mapToCorpMastCreateDTO(batch, username, city, district);
+        } else {
+            corpCreateDtoList = dataMapper.mapToCorpMastCreateDTO(batch, username);
         }
 
-        return totalSaved;
+        if (corpCreateDtoList.isEmpty()) {
+            return;
+        }
+
+        if (bulkInsertEnabled) {
+            tally.add(storageService.saveCorpMastBatch(corpCreateDtoList, username));
+        } else {
+            tally.savedCount += storageService.saveCorpMastList(corpCreateDtoList, username);
+        }
+    }
+
+    private void saveEnrichedChunk(List<BizCsvInfoDto> batch, String username, IngestTally tally) {
+        List<CorpMastCreateDTO> enriched = apiService.enrichAll(batch, username);
+        tally.failedCount += batch.size() - enriched.size();
+
+        if (enriched.isEmpty()) {
+            return;
+        }
+        tally.add(storageService.saveCorpMastBatch(enriched, username));
+    }
+
+    private static class IngestTally {
+        private int savedCount;
+        private int duplicateCount;
+        private int failedCount;
+
+        private void add(BatchSaveResult result) {
+            savedCount += result.getSavedCount();
+            duplicateCount += result.getDuplicateCount();
+            failedCount += result.getFailedCount();
+        }
+
+        private void logSummary() {
+            log.info("코셀러 배치 저장 완료: saved={}, duplicate={}, failed={}", savedCount, duplicateCount, failedCount);
+        }
     }
 }
@@ -1,18 +1,32 @@
 package com.antock.api.coseller.application.service;
 
+import com.antock.api.corpmanual.application.service.CorpMastCacheEvictor;
+import com.antock.api.coseller.application.dto.BatchSaveResult;
 import com.antock.api.coseller.application.dto.CorpMastCreateDTO;
 import com.antock.api.coseller.domain.CorpMast;
 import com.antock.api.coseller.domain.CorpMastHistory;
 import com.antock.api.coseller.infrastructure.CorpMastStore;
 import com.antock.api.coseller.infrastructure.CorpMastHistoryStore;
+import com.antock.api.dashboard.application.service.ActivityFeed;
+import com.antock.api.dashboard.application.service.DashboardService;
+import com.antock.api.dashboard.application.service.RegionStatSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
@@ -22,13 +36,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CoSellerStorageService {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final CorpMastStore corpMastStore;
     private final CorpMastHistoryStore corpMastHistoryStore;
+    private final RegionStatSummaryService regionStatSummaryService;
+    private final CorpMastCacheEvictor corpMastCacheEvictor;
+    private final DashboardService dashboardService;
+    private final ActivityFeed activityFeed;
     private final Executor asyncExecutor;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional
     public int saveCorpMastList(List<CorpMastCreateDTO> corpCreateDtoList, String username) {
-        int savedCount = 0;
+        List<CorpMast> savedEntities = new ArrayList<>();
         List<String> bizNos = corpCreateDtoList.stream()
                 .map(CorpMastCreateDTO::getBizNo)
                 .collect(Collectors.toList());
@@ -43,7 +64,7 @@ public class CoSellerStorageService {
                     recordHistory(user, entity.getBizNo(), "INSERT", "DUPLICATE", "중복 bizNo, 저장 스킵");
                 } else {
                     corpMastStore.save(entity);
-                    savedCount++;
+                    savedEntities.add(entity);
                     recordHistory(user, entity.getBizNo(), "INSERT", "SUCCESS", "정상 저장");
                 }
             } catch (DataIntegrityViolationException ex) {
@@ -53,7 +74,78 @@ public class CoSellerStorageService {
             }
         }
 
-        return savedCount;
+        regionStatSummaryService.recordInserted(savedEntities);
+        corpMastCacheEvictor.evictForWrites(savedEntities);
+        dashboardService.requestRefresh();
+        return savedEntities.size();
+    }
+
+    @Transactional
+    public BatchSaveResult saveCorpMastBatch(List<CorpMastCreateDTO> corpCreateDtoList, String username) {
+        BatchSaveResult result = new BatchSaveResult();
+        if (corpCreateDtoList.isEmpty()) {
+            return result;
+        }
+
+        List<String> bizNos = corpCreateDtoList.stream()
+                .map(CorpMastCreateDTO::getBizNo)
+                .collect(Collectors.toList());
+        Set<String> knownBizNos = new HashSet<>(corpMastStore.findExistingBizNos(bizNos));
+
+        List<CorpMast> candidates = new ArrayList<>();
+        List<CorpMast> savedEntities = new ArrayList<>();
+        List<String> candidateUsers = new ArrayList<>();
+        List<CorpMastHistory> histories = new ArrayList<>();
+
+        for (CorpMastCreateDTO dto : corpCreateDtoList) {
+            CorpMast entity = dto.toEntity();
+            String user = dto.getUsername() != null ? dto.getUsername() : username;
+
+            if (!knownBizNos.add(entity.getBizNo())) {
+                result.duplicate(entity.getBizNo(), "중복 bizNo, 저장 스킵");
+                histories.add(buildHistory(user, entity.getBizNo(), "INSERT", "DUPLICATE", "중복 bizNo, 저장 스킵"));
+                continue;
+            }
+            candidates.add(entity);
+            candidateUsers.add(user);
+        }
+
+        // 배치 INSERT 실패가 바깥 트랜잭션을 중단시키지 않도록 savepoint 안에서 실행
+        TransactionTemplate savepoint = transactionTemplate(TransactionDefinition.PROPAGATION_NESTED);
+        try {
+            int[] updateCounts = savepoint.execute(status -> corpMastStore.insertIgnoringDuplicates(candidates));
+            for (int i = 0; i < candidates.size(); i++) {
+                String bizNo = candidates.get(i).getBizNo();
+                int count = i < updateCounts.length ? updateCounts[i] : Statement.EXECUTE_FAILED;
+
+                if (count > 0) {
+                    result.saved(bizNo);
+                    savedEntities.add(candidates.get(i));
+                    histories.add(buildHistory(candidateUsers.get(i), bizNo, "INSERT", "SUCCESS", "정상 저장"));
+                } else if (count == 0) {
+                    result.duplicate(bizNo, "중복 bizNo, 저장 스킵");
+                    histories.add(buildHistory(candidateUsers.get(i), bizNo, "INSERT", "DUPLICATE", "중복 bizNo, 저장 스킵"));
+                } else {
+                    String message = count == Statement.SUCCESS_NO_INFO ? "배치 INSERT 결과 확인 불가" : "배치 INSERT 실패";
+                    result.failed(bizNo, message);
+                    histories.add(buildHistory(candidateUsers.get(i), bizNo, "INSERT", "FAIL", message));
+                }
+            }
+        } catch (Exception ex) {
+            log.warn("배치 INSERT 실패, 건별 저장으로 전환: size={}, error={}", candidates.size(), ex.getMessage());
+            TransactionTemplate perRow = transactionTemplate(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            for (int i = 0; i < candidates.size(); i++) {
+                if (saveOne(perRow, candidates.get(i), candidateUsers.get(i), result, histories)) {
+                    savedEntities.add(candidates.get(i));
+                }
+            }
+        }
+
+        regionStatSummaryService.recordInserted(savedEntities);
+        corpMastCacheEvictor.evictForWrites(savedEntities);
+        dashboardService.requestRefresh();
+        recordHistories(histories);
+        return result;
     }
 
     @Transactional
@@ -64,9 +156,78 @@ public class CoSellerStorageService {
         for (CorpMast corp : allCorps) {
             corpMastStore.delete(corp);
         }
+        regionStatSummaryService.recordDeleted(allCorps);
+        corpMastCacheEvictor.evictAll();
+        dashboardService.requestRefresh();
         return totalCount;
     }
 
+    private boolean saveOne(TransactionTemplate transaction, CorpMast entity, String user,
+            BatchSaveResult result, List<CorpMastHistory> histories) {
+        try {
+            transaction.executeWithoutResult(status -> corpMastStore.save(entity));
+            result.saved(entity.getBizNo());
+            histories.add(buildHistory(user, entity.getBizNo(), "INSERT", "SUCCESS", "정상 저장"));
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateKey(ex)) {
+                result.duplicate(entity.getBizNo(), "중복 bizNo, 저장 스킵");
+                histories.add(buildHistory(user, entity.getBizNo(), "INSERT", "DUPLICATE", "중복 bizNo, 저장 스킵"));
+                return false;
+            }
+            result.failed(entity.getBizNo(), ex.getMessage());
+            histories.add(buildHistory(user, entity.getBizNo(), "INSERT", "FAIL",
+                    "DataIntegrityViolationException: " + ex.getMessage()));
+        } catch (Exception ex) {
+            result.failed(entity.getBizNo(), ex.getMessage());
+            histories.add(buildHistory(user, entity.getBizNo(), "INSERT", "FAIL", "Exception: " + ex.getMessage()));
+        }
+        return false;
+    }
+
+    private TransactionTemplate transactionTemplate(int propagation) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(propagation);
+        return transaction;
+    }
+
+    private boolean isDuplicateKey(DataIntegrityViolationException ex) {
+        if (ex instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CorpMastHistory buildHistory(String username, String bizNo, String action, String result, String message) {
+        return CorpMastHistory.builder()
+                .username(username)
+                .action(action)
+                .bizNo(bizNo)
+                .result(result)
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private void recordHistories(List<CorpMastHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                corpMastHistoryStore.saveAll(histories);
+                histories.forEach(activityFeed::publish);
+            } catch (Exception e) {
+                log.warn("히스토리 일괄 저장 실패: size={}", histories.size(), e);
+            }
+        }, asyncExecutor);
+    }
+
     private void recordHistory(String username, String bizNo, String action, String result, String message) {
         CompletableFuture.runAsync(() -> {
             try {
@@ -79,6 +240,7 @@ public class CoSellerStorageService {
                         .timestamp(java.time.LocalDateTime.now())
                         .build();
                 corpMastHistoryStore.save(history);
+                activityFeed.publish(history);
             } catch (Exception e) {
                 log.warn("히스토리 저장 실패: bizNo={}", bizNo, e);
             }
@@ -14,6 +14,7 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -24,47 +25,60 @@ public class CorpApiService implements CorpApiClient {
     private final RestTemplate restTemplate;
     private final CorpApiProperties corpProp;
     private final ObjectMapper objectMapper;
+    private final CorpRegNoCache corpRegNoCache;
 
     @Override
     public CompletableFuture<String> getCorpRegNo(String bizNo) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                URI requestUrl = corpProp.buildRequestUrlWithBizNo(bizNo);
-                log.info("법인 API 요청 URL: {}", requestUrl);
+        return CompletableFuture.supplyAsync(() -> fetchCorpRegNo(bizNo));
+    }
 
-                ResponseEntity<String> response = restTemplate.getForEntity(requestUrl, String.class);
+    @Override
+    public String fetchCorpRegNo(String bizNo) {
+        return corpRegNoCache.get(bizNo, this::requestCorpRegNo);
+    }
 
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    String corpRegNo = parseCorpRegNoFromResponse(response.getBody());
-                    log.info("법인등록번호 추출 성공: bizNo={}, corpRegNo={}", bizNo, corpRegNo);
-                    return corpRegNo;
-                } else {
-                    log.warn("법인 API 응답 실패: status={}, body={}", response.getStatusCode(), response.getBody());
-                    throw new ExternalApiException(
-                            HttpStatus.BAD_REQUEST,
-                            "법인 API 응답이 올바르지 않습니다: " + response.getStatusCode(),
-                            "Corp API",
-                            requestUrl.toString()
-                    );
-                }
-            } catch (RestClientException e) {
-                log.error("법인 API 호출 중 RestClientException 발생: bizNo={}, error={}", bizNo, e.getMessage(), e);
-                throw new ExternalApiException(
-                        HttpStatus.SERVICE_UNAVAILABLE,
-                        "법인 API 서비스에 연결할 수 없습니다: " + e.getMessage(),
-                        "Corp API",
-                        corpProp.getUrl()
-                );
-            } catch (Exception e) {
-                log.error("법인 API 호출 중 예상치 못한 오류 발생: bizNo={}, error={}", bizNo, e.getMessage(), e);
+    @Override
+    public Optional<String> findCachedCorpRegNo(String bizNo) {
+        return Optional.ofNullable(corpRegNoCache.getIfPresent(bizNo));
+    }
+
+    private String requestCorpRegNo(String bizNo) {
+        try {
+            URI requestUrl = corpProp.buildRequestUrlWithBizNo(bizNo);
+            log.info("법인 API 요청 URL: {}", requestUrl);
+
+            ResponseEntity<String> response = restTemplate.getForEntity(requestUrl, String.class);
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                String corpRegNo = parseCorpRegNoFromResponse(response.getBody());
+                log.info("법인등록번호 추출 성공: bizNo={}, corpRegNo={}", bizNo, corpRegNo);
+                return corpRegNo;
+            } else {
+                log.warn("법인 API 응답 실패: status={}, body={}", response.getStatusCode(), response.getBody());
                 throw new ExternalApiException(
-                        HttpStatus.INTERNAL_SERVER_ERROR,
-                        "법인 API 처리 중 오류가 발생했습니다: " + e.getMessage(),
+                        HttpStatus.BAD_REQUEST,
+                        "법인 API 응답이 올바르지 않습니다: " + response.getStatusCode(),
                         "Corp API",
-                        corpProp.getUrl()
+                        requestUrl.toString()
                 );
             }
-        });
+        } catch (RestClientException e) {
+            log.error("법인 API 호출 중 RestClientException 발생: bizNo={}, error={}", bizNo, e.getMessage(), e);
+            throw new ExternalApiException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "법인 API 서비스에 연결할 수 없습니다: " + e.getMessage(),
+                    "Corp API",
+                    corpProp.getUrl()
+            );
+        } catch (Exception e) {
+            log.error("법인 API 호출 중 예상치 못한 오류 발생: bizNo={}, error={}", bizNo, e.getMessage(), e);
+            throw new ExternalApiException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    "법인 API 처리 중 오류가 발생했습니다: " + e.getMessage(),
+                    "Corp API",
+                    corpProp.getUrl()
+            );
+        }
     }
 
     private String parseCorpRegNoFromResponse(String responseBody) {
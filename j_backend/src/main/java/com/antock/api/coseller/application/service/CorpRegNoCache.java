@@ -0,0 +1,105 @@
+package com.antock.api.coseller.application.service;
+
+import com.antock.global.utils.LruTtlCache;
+import com.antock.global.utils.SingleFlight;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class CorpRegNoCache {
+
+    @Value("${app.coseller.corp-cache.max-size:50000}")
+    private int maxSize;
+
+    @Value("${app.coseller.corp-cache.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    private LruTtlCache<String, String> localCache;
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        localCache = new LruTtlCache<>(maxSize);
+        log.info("법인등록번호 캐시 초기화 - 최대 {}건, TTL: {}분", maxSize, ttlMinutes);
+    }
+
+    public String get(String bizNo, Function<String, String> loader) {
+        String key = normalizeBizNo(bizNo);
+        if (key.isEmpty()) {
+            return loader.apply(bizNo);
+        }
+
+        String cached = getIfPresent(bizNo);
+        if (cached != null) {
+            return cached;
+        }
+
+        return singleFlight.execute(key, () -> {
+            String corpRegNo = loader.apply(bizNo);
+            if (corpRegNo != null) {
+                localCache.put(key, corpRegNo, TimeUnit.MINUTES.toMillis(ttlMinutes));
+            }
+            return corpRegNo;
+        });
+    }
+
+    public String getIfPresent(String bizNo) {
+        String key = normalizeBizNo(bizNo);
+        if (key.isEmpty()) {
+            return null;
+        }
+        String cached = localCache.get(key);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+        }
+        return cached;
+    }
+
+    public void clear() {
+        localCache.clear();
+        log.warn("법인등록번호 캐시 전체 삭제");
+    }
+
+    public Map<String, Object> getStatistics() {
+        long hits = cacheHits.get();
+        long issued = singleFlight.getIssuedCount();
+        long coalesced = singleFlight.getCoalescedCount();
+        long total = hits + issued + coalesced;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cacheHits", hits);
+        stats.put("issuedCalls", issued);
+        stats.put("coalescedCalls", coalesced);
+        stats.put("inFlight", singleFlight.getInFlightCount());
+        stats.put("savedCallRate", total > 0 ? (double) (hits + coalesced) / total * 100 : 0.0);
+        stats.put("localSize", localCache.size());
+        stats.put("localEvictions", localCache.getEvictionCount());
+        return stats;
+    }
+
+    @Scheduled(fixedDelay = 600000)
+    public void evictExpiredEntries() {
+        int removed = localCache.purgeExpired();
+        if (removed > 0) {
+            log.debug("만료된 법인등록번호 캐시 {}건 제거", removed);
+        }
+    }
+
+    private static String normalizeBizNo(String bizNo) {
+        if (bizNo == null) {
+            return "";
+        }
+        return bizNo.replaceAll("[^0-9]", "");
+    }
+}
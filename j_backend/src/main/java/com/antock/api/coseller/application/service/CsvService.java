@@ -1,9 +1,11 @@
 package com.antock.api.coseller.application.service;
 
+import com.antock.api.coseller.application.dto.CsvReadResult;
 import com.antock.api.coseller.application.dto.api.BizCsvInfoDto;
 import com.antock.api.coseller.application.service.strategy.CsvFileReadStrategy;
 import com.antock.global.common.constants.CsvConstants;
 import com.antock.global.common.exception.CsvParsingException;
+import com.antock.global.utils.CharsetDetector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,21 +14,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
 import org.springframework.util.StringUtils;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CsvService {
 
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
     private final CsvFileReadStrategy csvFileReadStrategy;
+    private final CharsetDetector charsetDetector;
 
     @Value("${app.csv.encoding:UTF-8}")
     private String csvEncoding;
@@ -42,22 +48,43 @@ public class CsvService {
     }
 
     public List<BizCsvInfoDto> readCsvFile(String fileName) {
+        List<BizCsvInfoDto> validData = new ArrayList<>();
+        CsvReadResult result = readCsv(fileName, DEFAULT_CHUNK_SIZE, maxLines, validData::addAll);
+
+        if (result.isTruncated()) {
+            log.warn("CSV 파일이 최대 라인 수({})를 초과하여 일부만 읽었습니다: {}", maxLines, fileName);
+        }
+        return validData;
+    }
+
+    public CsvReadResult readCsvFileInChunks(String fileName, int chunkSize,
+            Consumer<List<BizCsvInfoDto>> chunkConsumer) {
+        return readCsv(fileName, chunkSize, Integer.MAX_VALUE, chunkConsumer);
+    }
+
+    private CsvReadResult readCsv(String fileName, int chunkSize, int lineLimit,
+            Consumer<List<BizCsvInfoDto>> chunkConsumer) {
         StopWatch stopWatch = new StopWatch();
         stopWatch.start("CSV 파일 읽기");
 
-        List<BizCsvInfoDto> validData = new ArrayList<>();
-        List<String> invalidLines = new ArrayList<>();
-        int errorCount = 0;
+        List<BizCsvInfoDto> chunk = new ArrayList<>(chunkSize);
         int totalLines = 0;
+        int validCount = 0;
+        int invalidCount = 0;
+        int errorCount = 0;
+        boolean truncated = false;
 
-        try (InputStream inputStream = csvFileReadStrategy.readFile(fileName);
-                BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(inputStream, detectEncoding(inputStream)), bufferSize)) {
+        try (InputStream inputStream = toMarkSupported(csvFileReadStrategy.readFile(fileName));
+                Reader reader = new InputStreamReader(inputStream, detectEncoding(inputStream))) {
 
-            String line;
+            CsvTokenizer tokenizer = new CsvTokenizer(reader, bufferSize);
             boolean isFirstLine = true;
 
-            while ((line = reader.readLine()) != null && totalLines < maxLines) {
+            while (tokenizer.nextRecord()) {
+                if (totalLines >= lineLimit) {
+                    truncated = true;
+                    break;
+                }
                 totalLines++;
 
                 if (isFirstLine) {
@@ -65,26 +92,30 @@ public class CsvService {
                     continue;
                 }
 
-                if (line.trim().isEmpty()) {
+                if (tokenizer.isBlankRecord()) {
                     continue;
                 }
 
                 try {
-                    String[] tokens = parseCsvLine(line);
-
-                    if (tokens != null && tokens.length >= CsvConstants.MIN_REQUIRED_COLUMNS) {
-                        BizCsvInfoDto dto = parseCsvData(tokens);
-                        if (dto != null) {
-                            validData.add(dto);
-                        } else {
-                            invalidLines.add(line);
-                        }
+                    if (tokenizer.fieldCount() >= CsvConstants.MIN_REQUIRED_COLUMNS) {
+                        chunk.add(toBizCsvInfo(tokenizer));
+                        validCount++;
                     } else {
-                        invalidLines.add(line);
+                        invalidCount++;
+                        log.debug("컬럼 수 부족 CSV 라인: fileName={}, line={}", fileName, tokenizer.lineNumber());
                     }
                 } catch (Exception e) {
                     errorCount++;
                 }
+
+                if (chunk.size() >= chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
             }
 
         } catch (IOException e) {
@@ -92,128 +123,58 @@ public class CsvService {
         }
 
         stopWatch.stop();
-        long processingTime = stopWatch.getTotalTimeMillis();
 
-        return validData;
+        CsvReadResult result = CsvReadResult.builder()
+                .fileName(fileName)
+                .totalLines(totalLines)
+                .validCount(validCount)
+                .invalidCount(invalidCount)
+                .errorCount(errorCount)
+                .truncated(truncated)
+                .processingTimeMillis(stopWatch.getTotalTimeMillis())
+                .build();
+
+        log.info("CSV 파일 읽기 완료: fileName={}, totalLines={}, valid={}, invalid={}, error={}, {}ms",
+                fileName, totalLines, validCount, invalidCount, errorCount, result.getProcessingTimeMillis());
+        return result;
+    }
+
+    private InputStream toMarkSupported(InputStream inputStream) {
+        return inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream, bufferSize);
     }
 
     private Charset detectEncoding(InputStream inputStream) {
         try {
-            inputStream.mark(3);
-            byte[] bom = new byte[3];
-            int bytesRead = inputStream.read(bom);
-            inputStream.reset();
-
-            if (bytesRead >= 3 &&
-                    bom[0] == (byte) 0xEF &&
-                    bom[1] == (byte) 0xBB &&
-                    bom[2] == (byte) 0xBF) {
-                return StandardCharsets.UTF_8;
-            }
-
-            inputStream.mark(1024);
-            byte[] buffer = new byte[1024];
-            int bytesRead2 = inputStream.read(buffer);
-            inputStream.reset();
-
-            if (bytesRead2 > 0) {
-                String testString = new String(buffer, 0, bytesRead2, Charset.forName("EUC-KR"));
-                if (isValidKoreanText(testString)) {
-                    log.debug("EUC-KR 인코딩으로 감지됨");
-                    return Charset.forName("EUC-KR");
-                }
-
-                testString = new String(buffer, 0, bytesRead2, Charset.forName("CP949"));
-                if (isValidKoreanText(testString)) {
-                    log.debug("CP949 인코딩으로 감지됨");
-                    return Charset.forName("CP949");
-                }
-
-                testString = new String(buffer, 0, bytesRead2, StandardCharsets.UTF_8);
-                if (isValidKoreanText(testString)) {
-                    log.debug("UTF-8 인코딩으로 감지됨");
-                    return StandardCharsets.UTF_8;
-                }
+            CharsetDetector.Detection detection = charsetDetector.detect(inputStream);
+            if (detection.isAsciiOnly()) {
+                log.debug("ASCII 전용 샘플, 설정 인코딩 사용: {}", csvEncoding);
+                return Charset.forName(csvEncoding);
             }
 
-            log.debug("인코딩 감지 실패, 기본값 EUC-KR 사용");
-            return Charset.forName("EUC-KR");
+            log.debug("CSV 인코딩 감지: charset={}, confidence={}", detection.getCharset(), detection.getConfidence());
+            return detection.getCharset();
 
         } catch (Exception e) {
             log.warn("인코딩 감지 중 오류 발생, 기본값 EUC-KR 사용: {}", e.getMessage());
-            return Charset.forName("EUC-KR");
-        }
-    }
-
-    private boolean isValidKoreanText(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return false;
-        }
-
-        boolean hasKorean = text.matches(".*[가-힣]+.*");
-        boolean hasValidChars = text.matches(".*[가-힣a-zA-Z0-9\\s\\-_.,()]+.*");
-        boolean hasBrokenChars = text.contains("") || text.contains("");
-
-        if (hasKorean && hasValidChars) {
-            long brokenCharCount = text.chars().filter(ch -> ch == 0xFFFD).count();
-            double brokenCharRatio = (double) brokenCharCount / text.length();
-            return brokenCharRatio < 0.3;
+            return CharsetDetector.EUC_KR;
         }
-
-        return false;
     }
 
-    private String[] parseCsvLine(String line) {
-        if (line == null || line.trim().isEmpty()) {
-            return null;
-        }
-
-        List<String> tokens = new ArrayList<>();
-        StringBuilder currentToken = new StringBuilder();
-        boolean inQuotes = false;
-        boolean escapeNext = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (escapeNext) {
-                currentToken.append(c);
-                escapeNext = false;
-            } else if (c == '\\') {
-                escapeNext = true;
-            } else if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                tokens.add(currentToken.toString().trim());
-                currentToken = new StringBuilder();
-            } else {
-                currentToken.append(c);
-            }
-        }
-
-        tokens.add(currentToken.toString().trim());
-
-        return tokens.toArray(new String[0]);
-    }
-
-    private BizCsvInfoDto parseCsvData(String[] tokens) {
-        try {
-            return BizCsvInfoDto.builder()
-                    .sellerId(tokens[0].trim())
-                    .city(tokens[1].trim())
-                    .bizNm(tokens[2].trim())
-                    .bizNo(tokens[3].trim())
-                    .bizType(tokens[4].trim())
-                    .ownerName(tokens[5].trim())
-                    .phone(tokens[6].trim())
-                    .email(tokens[7].trim())
-                    .date(tokens[8].trim())
-                    .address(tokens[9].trim())
-                    .bizAddress(tokens[9].trim())
-                    .bizNesAddress(tokens.length > 10 ? tokens[10].trim() : "")
-                    .build();
-        } catch (Exception e) {
-            return null;
-        }
+    private BizCsvInfoDto toBizCsvInfo(CsvTokenizer tokenizer) {
+        String address = tokenizer.field(9);
+        return BizCsvInfoDto.builder()
+                .sellerId(tokenizer.field(0))
+                .city(tokenizer.field(1))
+                .bizNm(tokenizer.field(2))
+                .bizNo(tokenizer.field(3))
+                .bizType(tokenizer.field(4))
+                .ownerName(tokenizer.field(5))
+                .phone(tokenizer.field(6))
+                .email(tokenizer.field(7))
+                .date(tokenizer.field(8))
+                .address(address)
+                .bizAddress(address)
+                .bizNesAddress(tokenizer.fieldCount() > 10 ? tokenizer.field(10) : "")
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,158 @@
+package com.antock.api.coseller.application.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+public final class CsvTokenizer {
+
+    private static final int EOF = -1;
+    private static final String EMPTY = "";
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int bufferPosition;
+    private int bufferLimit;
+
+    private char[] record = new char[512];
+    private int recordLength;
+
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+
+    private long lineNumber;
+
+    public CsvTokenizer(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buffer = new char[Math.max(bufferSize, 1024)];
+    }
+
+    public boolean nextRecord() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+
+        int c = read();
+        if (c == EOF) {
+            return false;
+        }
+
+        boolean inQuotes = false;
+        boolean escapeNext = false;
+        int fieldStart = 0;
+
+        while (true) {
+            if (c == EOF) {
+                lineNumber++;
+                endField(fieldStart);
+                return true;
+            }
+
+            char ch = (char) c;
+            if (escapeNext) {
+                append(ch);
+                escapeNext = false;
+            } else if (ch == '\\') {
+                escapeNext = true;
+            } else if (ch == '"') {
+                if (inQuotes && peek() == '"') {
+                    read();
+                    append('"');
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (ch == ',' && !inQuotes) {
+                endField(fieldStart);
+                fieldStart = recordLength;
+            } else if ((ch == '\n' || ch == '\r') && !inQuotes) {
+                if (ch == '\r' && peek() == '\n') {
+                    read();
+                }
+                lineNumber++;
+                endField(fieldStart);
+                return true;
+            } else {
+                if (ch == '\n') {
+                    lineNumber++;
+                }
+                append(ch);
+            }
+
+            c = read();
+        }
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    public String field(int index) {
+        if (index >= fieldCount) {
+            throw new IndexOutOfBoundsException("field " + index + " of " + fieldCount);
+        }
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        return start == end ? EMPTY : new String(record, start, end - start);
+    }
+
+    public boolean isBlankRecord() {
+        return fieldCount == 1 && fieldStarts[0] == fieldEnds[0];
+    }
+
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    private void endField(int start) {
+        int end = recordLength;
+        while (start < end && record[start] <= ' ') {
+            start++;
+        }
+        while (end > start && record[end - 1] <= ' ') {
+            end--;
+        }
+
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    private void append(char ch) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, recordLength * 2);
+        }
+        record[recordLength++] = ch;
+    }
+
+    private int read() throws IOException {
+        if (bufferPosition >= bufferLimit && !fill()) {
+            return EOF;
+        }
+        return buffer[bufferPosition++];
+    }
+
+    private int peek() throws IOException {
+        if (bufferPosition >= bufferLimit && !fill()) {
+            return EOF;
+        }
+        return buffer[bufferPosition];
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+
+        if (read == EOF) {
+            return false;
+        }
+        bufferPosition = 0;
+        bufferLimit = read;
+        return true;
+    }
+}
@@ -0,0 +1,252 @@
+package com.antock.api.coseller.application.service;
+
+import com.antock.api.coseller.application.dto.api.RegionInfoDto;
+import com.antock.global.common.exception.ExternalApiException;
+import com.antock.global.utils.AddressUtil;
+import com.antock.global.utils.LruTtlCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class RegionInfoCache {
+
+    private static final String REDIS_KEY_PREFIX = "region-info:";
+    private static final String NOT_FOUND_MARKER = "NOT_FOUND";
+    private static final String REGION_API = "Region Info API";
+    private static final int CLEAR_BATCH_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    @Qualifier("customStringRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Value("${app.coseller.region-cache.max-size:20000}")
+    private int maxSize;
+
+    @Value("${app.coseller.region-cache.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${app.coseller.region-cache.negative-ttl-minutes:60}")
+    private long negativeTtlMinutes;
+
+    @Value("${app.coseller.region-cache.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    private LruTtlCache<String, Optional<RegionInfoDto>> localCache;
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong negativeStores = new AtomicLong();
+    private final AtomicLong redisErrors = new AtomicLong();
+
+    public RegionInfoCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() {
+        localCache = new LruTtlCache<>(maxSize);
+        log.info("지역 정보 캐시 초기화 - 최대 {}건, TTL: {}분, 부정 캐시 TTL: {}분, Redis: {}",
+                maxSize, ttlMinutes, negativeTtlMinutes, isRedisAvailable());
+    }
+
+    public RegionInfoDto get(String address, Function<String, RegionInfoDto> loader) {
+        String key = AddressUtil.normalize(address);
+        if (key.isEmpty()) {
+            return loader.apply(address);
+        }
+
+        Optional<RegionInfoDto> cached = lookup(key);
+        if (cached != null) {
+            return unwrap(cached, address);
+        }
+
+        misses.incrementAndGet();
+        try {
+            RegionInfoDto regionInfo = loader.apply(address);
+            store(key, Optional.of(regionInfo));
+            return regionInfo;
+        } catch (ExternalApiException e) {
+            if (e.getHttpStatus() == HttpStatus.NOT_FOUND) {
+                negativeStores.incrementAndGet();
+                store(key, Optional.empty());
+            }
+            throw e;
+        }
+    }
+
+    // 캐시에 없으면 null, 부정 캐시 적중이면 NOT_FOUND 예외
+    public RegionInfoDto getIfPresent(String address) {
+        String key = AddressUtil.normalize(address);
+        if (key.isEmpty()) {
+            return null;
+        }
+        Optional<RegionInfoDto> cached = lookup(key);
+        return cached != null ? unwrap(cached, address) : null;
+    }
+
+    public long clear() {
+        localCache.clear();
+        long deleted = clearRedis();
+        log.warn("지역 정보 캐시 전체 삭제 - 로컬 전체, Redis {}건", deleted);
+        return deleted;
+    }
+
+    public Map<String, Object> getStatistics() {
+        long hits = localHits.get() + redisHits.get();
+        long total = hits + misses.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("localHits", localHits.get());
+        stats.put("redisHits", redisHits.get());
+        stats.put("negativeHits", negativeHits.get());
+        stats.put("misses", misses.get());
+        stats.put("negativeStores", negativeStores.get());
+        stats.put("redisErrors", redisErrors.get());
+        stats.put("hitRate", total > 0 ? (double) hits / total * 100 : 0.0);
+        stats.put("localSize", localCache.size());
+        stats.put("localEvictions", localCache.getEvictionCount());
+        stats.put("redisAvailable", isRedisAvailable());
+        return stats;
+    }
+
+    @Scheduled(fixedDelay = 600000)
+    public void evictExpiredEntries() {
+        int removed = localCache.purgeExpired();
+        if (removed > 0) {
+            log.debug("만료된 지역 정보 캐시 {}건 제거", removed);
+        }
+    }
+
+    private Optional<RegionInfoDto> lookup(String key) {
+        Optional<RegionInfoDto> cached = localCache.get(key);
+        if (cached != null) {
+            localHits.incrementAndGet();
+            return cached;
+        }
+
+        cached = readRedis(key);
+        if (cached != null) {
+            redisHits.incrementAndGet();
+            localCache.put(key, cached, ttlMillis(cached));
+        }
+        return cached;
+    }
+
+    private RegionInfoDto unwrap(Optional<RegionInfoDto> cached, String address) {
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        negativeHits.incrementAndGet();
+        throw new ExternalApiException(
+                HttpStatus.NOT_FOUND,
+                "주소 정보(juso)가 존재하지 않습니다(캐시): " + address,
+                REGION_API,
+                null
+        );
+    }
+
+    private void store(String key, Optional<RegionInfoDto> value) {
+        long ttl = ttlMillis(value);
+        localCache.put(key, value, ttl);
+
+        if (!isRedisAvailable()) {
+            return;
+        }
+        try {
+            String payload = value.isPresent() ? objectMapper.writeValueAsString(value.get()) : NOT_FOUND_MARKER;
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key, payload, Duration.ofMillis(ttl));
+        } catch (Exception e) {
+            handleRedisError("캐시 저장", e);
+        }
+    }
+
+    private Optional<RegionInfoDto> readRedis(String key) {
+        if (!isRedisAvailable()) {
+            return null;
+        }
+        try {
+            String payload = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            if (payload == null) {
+                return null;
+            }
+            if (NOT_FOUND_MARKER.equals(payload)) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(payload, RegionInfoDto.class));
+        } catch (Exception e) {
+            handleRedisError("캐시 조회", e);
+            return null;
+        }
+    }
+
+    private long clearRedis() {
+        if (!isRedisAvailable()) {
+            return 0;
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(REDIS_KEY_PREFIX + "*").count(CLEAR_BATCH_SIZE).build();
+        long deleted = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= CLEAR_BATCH_SIZE) {
+                    deleted += deleteKeys(batch);
+                }
+            }
+            deleted += deleteKeys(batch);
+        } catch (Exception e) {
+            handleRedisError("캐시 전체 삭제", e);
+        }
+        return deleted;
+    }
+
+    private long deleteKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.delete(keys);
+        keys.clear();
+        return deleted != null ? deleted : 0;
+    }
+
+    private long ttlMillis(Optional<RegionInfoDto> value) {
+        return TimeUnit.MINUTES.toMillis(value.isPresent() ? ttlMinutes : negativeTtlMinutes);
+    }
+
+    private boolean isRedisAvailable() {
+        return redisEnabled && redisTemplate != null;
+    }
+
+    private void handleRedisError(String operation, Exception e) {
+        long errors = redisErrors.incrementAndGet();
+        log.debug("지역 정보 Redis {} 실패 - {}", operation, e.getMessage());
+        if (errors % 100 == 0) {
+            log.warn("지역 정보 Redis 오류 빈발 - 총 {}회", errors);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.hibernate.annotations.FetchMode;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 @Entity
 @Table(name = "corp_mast", uniqueConstraints = {
@@ -30,6 +31,8 @@ import java.util.List;
 @EqualsAndHashCode(callSuper = false, onlyExplicitlyIncluded = true)
 public class CorpMast extends BaseTimeEntity {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     @Column(nullable = false, length = 100)
     private String sellerId;
 
@@ -95,11 +98,11 @@ public class CorpMast extends BaseTimeEntity {
     }
 
     public void setSiNm(String siNm) {
-        this.siNm = siNm != null ? siNm.trim() : "";
+        this.siNm = normalizeRegionName(siNm);
     }
 
     public void setSggNm(String sggNm) {
-        this.sggNm = sggNm != null ? sggNm.trim() : "";
+        this.sggNm = normalizeRegionName(sggNm);
     }
 
     public void setBizNo(String bizNo) {
@@ -138,6 +141,20 @@ public class CorpMast extends BaseTimeEntity {
         this.corpStatus = corpStatus != null ? corpStatus.trim() : "";
     }
 
+    @PrePersist
+    @PreUpdate
+    void normalizeRegion() {
+        this.siNm = normalizeRegionName(siNm);
+        this.sggNm = normalizeRegionName(sggNm);
+    }
+
+    public static String normalizeRegionName(String regionName) {
+        if (regionName == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(regionName.trim()).replaceAll(" ");
+    }
+
     public void addHistory(CorpMastHistory history) {
         this.histories.add(history);
         history.setCorpMast(this);
@@ -0,0 +1,10 @@
+package com.antock.api.coseller.infrastructure;
+
+public interface CorpMastDashboardSummary {
+
+    Long getTotal();
+
+    Long getValidCorpRegNo();
+
+    Long getValidRegionCd();
+}
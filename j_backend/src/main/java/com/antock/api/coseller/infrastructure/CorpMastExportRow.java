@@ -0,0 +1,30 @@
+package com.antock.api.coseller.infrastructure;
+
+import java.time.LocalDateTime;
+
+public interface CorpMastExportRow {
+
+    Long getId();
+
+    String getBizNm();
+
+    String getBizNo();
+
+    String getCorpRegNo();
+
+    String getRegionCd();
+
+    String getSiNm();
+
+    String getSggNm();
+
+    String getSellerId();
+
+    String getUsername();
+
+    String getDescription();
+
+    LocalDateTime getCreateDate();
+
+    LocalDateTime getModifyDate();
+}
@@ -2,6 +2,10 @@ package com.antock.api.coseller.infrastructure;
 
 import com.antock.api.coseller.domain.CorpMastHistory;
 
+import java.util.List;
+
 public interface CorpMastHistoryStore {
     void save(CorpMastHistory history);
+
+    void saveAll(List<CorpMastHistory> histories);
 }
\ No newline at end of file
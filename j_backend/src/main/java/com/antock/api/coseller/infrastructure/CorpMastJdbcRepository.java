@@ -0,0 +1,174 @@
+package com.antock.api.coseller.infrastructure;
+
+import com.antock.api.coseller.domain.CorpMast;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CorpMastJdbcRepository {
+
+    private static final String INSERT_COLUMNS = "seller_id, biz_nm, biz_no, corp_reg_no, region_cd, si_nm, sgg_nm, " +
+            "username, description, rep_nm, estb_dt, road_nm_addr, jibun_addr, corp_status, create_date, modify_date";
+
+    private static final String INSERT_VALUES = "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?";
+
+    private static final int INSERT_PARAM_COUNT = 16;
+
+    // PostgreSQL 바인드 파라미터 한도(32767) 안에서 한 구문에 담을 행 수
+    private static final int RETURNING_CHUNK_SIZE = 1000;
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String databaseProduct;
+    private volatile String insertSql;
+
+    // 행별 결과: 1 = 저장, 0 = 중복 스킵
+    public int[] insertIgnoringDuplicates(List<CorpMast> entityList) {
+        if (entityList.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        if (resolveDatabaseProduct().contains("postgresql")) {
+            return insertReturning(entityList, now);
+        }
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(resolveInsertSql(), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bindRow(ps, 0, entityList.get(i), now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entityList.size();
+            }
+        });
+        return resolveUnknownCounts(entityList, updateCounts);
+    }
+
+    private int[] insertReturning(List<CorpMast> entityList, Timestamp now) {
+        int[] counts = new int[entityList.size()];
+        for (int from = 0; from < entityList.size(); from += RETURNING_CHUNK_SIZE) {
+            List<CorpMast> chunk = entityList.subList(from, Math.min(from + RETURNING_CHUNK_SIZE, entityList.size()));
+            String sql = "INSERT INTO corp_mast (" + INSERT_COLUMNS + ") VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(" + INSERT_VALUES + ")"))
+                    + " ON CONFLICT (biz_no) DO NOTHING RETURNING biz_no";
+
+            Set<String> inserted = new HashSet<>(jdbcTemplate.query(sql, ps -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    bindRow(ps, i * INSERT_PARAM_COUNT, chunk.get(i), now);
+                }
+            }, (rs, rowNum) -> rs.getString(1)));
+
+            for (int i = 0; i < chunk.size(); i++) {
+                counts[from + i] = inserted.contains(chunk.get(i).getBizNo()) ? 1 : 0;
+            }
+        }
+        return counts;
+    }
+
+    // 재작성된 배치는 행별 결과 대신 SUCCESS_NO_INFO를 돌려주므로 같은 트랜잭션에서 존재 여부로 확인한다.
+    // 후보는 호출 전에 미존재가 확인된 bizNo만 넘어온다.
+    private int[] resolveUnknownCounts(List<CorpMast> entityList, int[] updateCounts) {
+        List<String> unknown = new ArrayList<>();
+        for (int i = 0; i < entityList.size(); i++) {
+            if (i < updateCounts.length && updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(entityList.get(i).getBizNo());
+            }
+        }
+        if (unknown.isEmpty()) {
+            return updateCounts;
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < unknown.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = unknown.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, unknown.size()));
+            String sql = "SELECT biz_no FROM corp_mast WHERE biz_no IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            existing.addAll(jdbcTemplate.queryForList(sql, String.class, chunk.toArray()));
+        }
+
+        int[] resolved = updateCounts.clone();
+        for (int i = 0; i < resolved.length && i < entityList.size(); i++) {
+            if (resolved[i] == Statement.SUCCESS_NO_INFO) {
+                resolved[i] = existing.contains(entityList.get(i).getBizNo()) ? 1 : 0;
+            }
+        }
+        return resolved;
+    }
+
+    private void bindRow(PreparedStatement ps, int offset, CorpMast corpMast, Timestamp now) throws SQLException {
+        ps.setString(offset + 1, corpMast.getSellerId());
+        ps.setString(offset + 2, corpMast.getBizNm());
+        ps.setString(offset + 3, corpMast.getBizNo());
+        ps.setString(offset + 4, corpMast.getCorpRegNo());
+        ps.setString(offset + 5, corpMast.getRegionCd());
+        ps.setString(offset + 6, CorpMast.normalizeRegionName(corpMast.getSiNm()));
+        ps.setString(offset + 7, CorpMast.normalizeRegionName(corpMast.getSggNm()));
+        ps.setString(offset + 8, corpMast.getUsername());
+        ps.setString(offset + 9, corpMast.getDescription());
+        ps.setString(offset + 10, corpMast.getRepNm());
+        ps.setString(offset + 11, corpMast.getEstbDt());
+        ps.setString(offset + 12, corpMast.getRoadNmAddr());
+        ps.setString(offset + 13, corpMast.getJibunAddr());
+        ps.setString(offset + 14, corpMast.getCorpStatus());
+        ps.setTimestamp(offset + 15, now);
+        ps.setTimestamp(offset + 16, now);
+    }
+
+    private String resolveDatabaseProduct() {
+        String product = databaseProduct;
+        if (product == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            product = productName != null ? productName.toLowerCase(Locale.ROOT) : "";
+            databaseProduct = product;
+        }
+        return product;
+    }
+
+    private String resolveInsertSql() {
+        String sql = insertSql;
+        if (sql == null) {
+            sql = buildInsertSql(resolveDatabaseProduct());
+            insertSql = sql;
+            log.info("corp_mast 배치 INSERT 구문 결정: database={}, sql={}", databaseProduct, sql);
+        }
+        return sql;
+    }
+
+    static String buildInsertSql(String databaseProductName) {
+        String product = databaseProductName != null ? databaseProductName.toLowerCase(Locale.ROOT) : "";
+        String insert = "INSERT INTO corp_mast (" + INSERT_COLUMNS + ") VALUES (" + INSERT_VALUES + ")";
+
+        if (product.contains("postgresql")) {
+            return insert + " ON CONFLICT (biz_no) DO NOTHING";
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return "INSERT IGNORE" + insert.substring("INSERT".length());
+        }
+        return insert;
+    }
+}
@@ -15,6 +15,11 @@ import java.util.Optional;
 @Repository
 public interface CorpMastRepository extends JpaRepository<CorpMast, Long>, CorpMastRepositoryCustom {
 
+        String EXPORT_ROW_COLUMNS = "c.id AS id, c.bizNm AS bizNm, c.bizNo AS bizNo, c.corpRegNo AS corpRegNo, " +
+                        "c.regionCd AS regionCd, c.siNm AS siNm, c.sggNm AS sggNm, c.sellerId AS sellerId, " +
+                        "c.username AS username, c.description AS description, " +
+                        "c.createDate AS createDate, c.modifyDate AS modifyDate";
+
         boolean existsByBizNo(String bizNo);
 
         Optional<CorpMast> findByBizNo(@Param("bizNo") String bizNo);
@@ -31,6 +36,14 @@ public interface CorpMastRepository extends JpaRepository<CorpMast, Long>, CorpM
         @Query("SELECT c FROM CorpMast c WHERE c.siNm = :siNm")
         Page<CorpMast> findBySiNm(@Param("siNm") String siNm, Pageable pageable);
 
+        @Query("SELECT " + EXPORT_ROW_COLUMNS + " FROM CorpMast c " +
+                        "WHERE c.id > :lastId " +
+                        "AND (:siNm IS NULL OR :siNm = '' OR c.siNm = :siNm) " +
+                        "AND (:sggNm IS NULL OR :sggNm = '' OR c.sggNm = :sggNm) " +
+                        "ORDER BY c.id ASC")
+        List<CorpMastExportRow> findExportRowsAfter(@Param("siNm") String siNm, @Param("sggNm") String sggNm,
+                        @Param("lastId") Long lastId, Pageable pageable);
+
         @Query("SELECT DISTINCT c.siNm, c.sggNm FROM CorpMast c WHERE c.siNm LIKE %:city% OR c.sggNm LIKE %:district%")
         List<Object[]> findDistinctCityDistrict(@Param("city") String city, @Param("district") String district);
 
@@ -48,6 +61,12 @@ public interface CorpMastRepository extends JpaRepository<CorpMast, Long>, CorpM
         @Query("SELECT COUNT(c) FROM CorpMast c WHERE c.regionCd IS NOT NULL AND c.regionCd != ''")
         long countValidRegionCd();
 
+        @Query("SELECT COUNT(c) AS total, " +
+                        "COALESCE(SUM(CASE WHEN c.corpRegNo IS NOT NULL AND c.corpRegNo <> '' THEN 1 ELSE 0 END), 0) AS validCorpRegNo, " +
+                        "COALESCE(SUM(CASE WHEN c.regionCd IS NOT NULL AND c.regionCd <> '' THEN 1 ELSE 0 END), 0) AS validRegionCd " +
+                        "FROM CorpMast c")
+        CorpMastDashboardSummary summarizeDashboard();
+
         @Query("SELECT c.siNm as city, c.sggNm as district, COUNT(c) as totalCount, " +
                         "SUM(CASE WHEN c.corpRegNo IS NOT NULL AND c.corpRegNo <> '' AND c.corpRegNo NOT LIKE '0%' AND c.corpRegNo NOT LIKE '%N/A%' THEN 1 ELSE 0 END) as validCorpRegNoCount, "
                         +
@@ -4,6 +4,8 @@ import com.antock.api.coseller.domain.CorpMastHistory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class JpaCorpMastHistoryStore implements CorpMastHistoryStore {
@@ -13,4 +15,9 @@ public class JpaCorpMastHistoryStore implements CorpMastHistoryStore {
     public void save(CorpMastHistory history) {
         repo.save(history);
     }
+
+    @Override
+    public void saveAll(List<CorpMastHistory> histories) {
+        repo.saveAll(histories);
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import java.util.Optional;
 public class JpaCorpMastStore implements CorpMastStore {
 
     private final CorpMastRepository corpMastRepository;
+    private final CorpMastJdbcRepository corpMastJdbcRepository;
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -28,6 +29,11 @@ public class JpaCorpMastStore implements CorpMastStore {
         corpMastRepository.saveAll(entityList);
     }
 
+    @Override
+    public int[] insertIgnoringDuplicates(List<CorpMast> entityList) {
+        return corpMastJdbcRepository.insertIgnoringDuplicates(entityList);
+    }
+
     @Override
     public boolean existsByBizNo(String bizNo) {
         return corpMastRepository.existsByBizNo(bizNo);
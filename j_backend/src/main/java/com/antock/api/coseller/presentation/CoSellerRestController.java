@@ -61,6 +61,29 @@ public class CoSellerRestController {
         }
     }
 
+    @PostMapping("/save-enriched")
+    public ApiResponse<Integer> saveCoSellerEnriched(
+            @RequestBody Map<String, String> request,
+            @CurrentUser AuthenticatedUser user) {
+        try {
+            String city = request.get("city");
+            String district = request.get("district");
+
+            if (city == null || district == null) {
+                return ApiResponse.error("시/도와 구/군 정보가 필요합니다.");
+            }
+
+            String username = (user != null) ? user.getUsername() : "system";
+            int savedCount = cosellerService.saveCoSellerWithApi(city, district, username);
+            return ApiResponse.success(savedCount,
+                    String.format("외부 API 보강 수집이 완료되었습니다. %d건이 저장되었습니다.", savedCount));
+        } catch (Exception e) {
+            log.error("코셀러 보강 데이터 저장 실패: {} {} - {}",
+                    request.get("city"), request.get("district"), e.getMessage(), e);
+            return ApiResponse.error("데이터 저장에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/debug/minio-files")
     public ApiResponse<Map<String, Object>> debugMinioFiles() {
         try {
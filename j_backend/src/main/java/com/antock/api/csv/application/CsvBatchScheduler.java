@@ -3,6 +3,7 @@ package com.antock.api.csv.application;
 import com.antock.api.csv.application.service.CsvBatchService;
 import com.antock.api.csv.domain.CsvBatchHistory;
 import com.antock.api.csv.infrastructure.CsvBatchHistoryRepository;
+import com.antock.api.dashboard.application.service.ActivityFeed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,6 +20,7 @@ public class CsvBatchScheduler {
 
     private final CsvBatchService batchService;
     private final CsvBatchHistoryRepository historyRepository;
+    private final ActivityFeed activityFeed;
 
     @Scheduled(cron = "0 0 6 ? * MON")
     public void runCsvBatch() {
@@ -56,6 +58,7 @@ public class CsvBatchScheduler {
                     .build();
 
             historyRepository.save(failureHistory);
+            activityFeed.publish(failureHistory);
 
         } catch (Exception saveException) {
             log.error("실패 이력 저장 중 오류 발생", saveException);
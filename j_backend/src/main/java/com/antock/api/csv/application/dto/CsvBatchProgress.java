@@ -0,0 +1,101 @@
+package com.antock.api.csv.application.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CsvBatchProgress {
+
+    @Getter
+    private final String runId = UUID.randomUUID().toString();
+    @Getter
+    private final int totalTasks;
+    @Getter
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    @Getter
+    private volatile LocalDateTime finishedAt;
+
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger retried = new AtomicInteger();
+    private final AtomicLong recordCount = new AtomicLong();
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<String> failedDistricts = new ConcurrentLinkedQueue<>();
+
+    public CsvBatchProgress(int totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    public void started(String city, String district) {
+        inProgress.add(key(city, district));
+    }
+
+    public void succeeded(String city, String district, int records) {
+        inProgress.remove(key(city, district));
+        recordCount.addAndGet(records);
+        succeeded.incrementAndGet();
+    }
+
+    public void failed(String city, String district) {
+        String key = key(city, district);
+        inProgress.remove(key);
+        failedDistricts.add(key);
+        failed.incrementAndGet();
+    }
+
+    public void retried() {
+        retried.incrementAndGet();
+    }
+
+    public void finish() {
+        finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isRunning() {
+        return finishedAt == null;
+    }
+
+    public int getSucceeded() {
+        return succeeded.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public int getRetried() {
+        return retried.get();
+    }
+
+    public long getRecordCount() {
+        return recordCount.get();
+    }
+
+    public int getCompletedTasks() {
+        return succeeded.get() + failed.get();
+    }
+
+    public double getPercentComplete() {
+        return totalTasks == 0 ? 100.0 : getCompletedTasks() * 100.0 / totalTasks;
+    }
+
+    public List<String> getInProgress() {
+        return new ArrayList<>(inProgress);
+    }
+
+    public List<String> getFailedDistricts() {
+        return new ArrayList<>(failedDistricts);
+    }
+
+    private static String key(String city, String district) {
+        return city + " " + district;
+    }
+}
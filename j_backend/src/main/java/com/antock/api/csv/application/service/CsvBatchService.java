@@ -1,32 +1,33 @@
 package com.antock.api.csv.application.service;
 
+import com.antock.api.csv.application.dto.CsvBatchProgress;
 import com.antock.api.csv.domain.CsvBatchHistory;
 import com.antock.api.csv.infrastructure.CorpInfoApiClient;
 import com.antock.api.csv.infrastructure.CsvBatchHistoryRepository;
 import com.antock.api.csv.infrastructure.CsvFileWriter;
+import com.antock.api.csv.infrastructure.CsvWriteSession;
+import com.antock.api.dashboard.application.service.ActivityFeed;
 import com.antock.api.coseller.value.City;
 import com.antock.api.coseller.value.District;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientException;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -36,6 +37,7 @@ public class CsvBatchService {
     private final CorpInfoApiClient apiClient;
     private final CsvFileWriter fileWriter;
     private final CsvBatchHistoryRepository historyRepo;
+    private final ActivityFeed activityFeed;
 
     @Value("${batch.retry.max-attempts:3}")
     private int maxRetryAttempts;
@@ -43,23 +45,14 @@ public class CsvBatchService {
     @Value("${batch.retry.delay:1000}")
     private long retryDelay;
 
-    @Value("${batch.chunk-size:1000}")
-    private int chunkSize;
-
     @Value("${batch.max-concurrent:5}")
     private int maxConcurrent;
 
+    private final AtomicReference<CsvBatchProgress> currentRun = new AtomicReference<>();
+
     private static final List<String> HEADERS = List.of(
             "sellerId", "bizNm", "bizNo", "bizType", "bizAddress", "bizNesAddress");
 
-    private static final Map<String, String> HEADER_TO_API_FIELD = Map.ofEntries(
-            Map.entry("sellerId", "sellerId"),
-            Map.entry("bizNm", "bizNm"),
-            Map.entry("bizNo", "bizNo"),
-            Map.entry("bizType", "bizType"),
-            Map.entry("bizAddress", "bizAddress"),
-            Map.entry("bizNesAddress", "bizNesAddress"));
-
     private static final Map<City, List<District>> CITY_DISTRICT_MAP = Map.ofEntries(
             Map.entry(City.서울특별시, List.of(District.강남구, District.강동구, District.강북구, District.강서구)),
             Map.entry(City.부산광역시, List.of(District.부산강서구, District.부산금정구, District.부산남구, District.부산동구)),
@@ -81,62 +74,68 @@ public class CsvBatchService {
 
     @Async
     public void runBatch() {
-        log.info("CSV 배치 처리 시작");
-        AtomicLong totalProcessed = new AtomicLong(0);
-        AtomicLong totalSuccess = new AtomicLong(0);
-        AtomicLong totalFailed = new AtomicLong(0);
+        List<DistrictTask> tasks = CITY_DISTRICT_MAP.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(district -> new DistrictTask(entry.getKey(), district)))
+                .toList();
+
+        CsvBatchProgress previous = currentRun.get();
+        CsvBatchProgress progress = new CsvBatchProgress(tasks.size());
+        if ((previous != null && previous.isRunning()) || !currentRun.compareAndSet(previous, progress)) {
+            log.warn("이미 실행 중인 CSV 배치가 있어 이번 실행을 건너뜁니다");
+            return;
+        }
+
+        log.info("CSV 배치 처리 시작 - 대상 지역: {}개, 동시 처리: {}개", tasks.size(), maxConcurrent);
         long startTime = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, maxConcurrent));
 
         try {
-            List<CompletableFuture<Void>> futures = CITY_DISTRICT_MAP.entrySet().stream()
-                    .limit(maxConcurrent)
-                    .map(entry -> CompletableFuture.runAsync(() -> processCityDistricts(entry.getKey(),
-                            entry.getValue(), totalProcessed, totalSuccess, totalFailed)))
+            List<CompletableFuture<Void>> futures = tasks.stream()
+                    .map(task -> CompletableFuture.runAsync(() -> runDistrictTask(task, progress), pool))
                     .toList();
 
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
 
-            long endTime = System.currentTimeMillis();
-            long totalTime = endTime - startTime;
-
-            log.info("CSV 배치 처리 완료 - 총 처리: {}, 성공: {}, 실패: {}, 소요시간: {}ms",
-                    totalProcessed.get(), totalSuccess.get(), totalFailed.get(), totalTime);
+            log.info("CSV 배치 처리 완료 - 총 처리: {}, 성공: {}, 실패: {}, 재시도: {}, 소요시간: {}ms",
+                    progress.getCompletedTasks(), progress.getSucceeded(), progress.getFailed(),
+                    progress.getRetried(), System.currentTimeMillis() - startTime);
 
         } catch (Exception e) {
             log.error("CSV 배치 처리 중 치명적 오류 발생", e);
             saveBatchHistory("BATCH_FAILED", "전체 배치 처리 실패: " + e.getMessage(), 0);
+        } finally {
+            progress.finish();
+            pool.shutdown();
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processDistrict(City city, District district) {
+    public Optional<CsvBatchProgress> getProgress() {
+        return Optional.ofNullable(currentRun.get());
+    }
+
+    public int processDistrict(City city, District district) {
+        return processDistrict(city, district, null);
+    }
+
+    private int processDistrict(City city, District district, CsvBatchProgress progress) {
         String cityName = city.name();
         String districtName = district.name();
 
         log.info("지역 처리 시작: {} {}", cityName, districtName);
 
-        CsvBatchHistory history = CsvBatchHistory.builder()
-                .city(cityName)
-                .district(districtName)
-                .status("PROCESSING")
-                .timestamp(LocalDateTime.now())
-                .build();
-
         try {
+            int fetched = writeDistrictWithRetry(cityName, districtName, progress);
 
-            List<Map<String, Object>> data = fetchDataWithRetry(cityName, districtName);
-
-            if (data.isEmpty()) {
+            if (fetched == 0) {
                 log.warn("{} {} 지역에서 데이터를 찾을 수 없음", cityName, districtName);
                 saveBatchHistory("NO_DATA", "데이터 없음", cityName, districtName, 0);
-                return;
+                return 0;
             }
 
-            processDataInChunks(data, cityName, districtName);
-
-            saveBatchHistory("SUCCESS", "처리 완료", cityName, districtName, data.size());
+            saveBatchHistory("SUCCESS", "처리 완료", cityName, districtName, fetched);
 
-            log.info("{} {} 지역 처리 완료: {}건", cityName, districtName, data.size());
+            log.info("{} {} 지역 처리 완료: {}건", cityName, districtName, fetched);
+            return fetched;
 
         } catch (Exception e) {
             log.error("{} {} 지역 처리 중 오류 발생", cityName, districtName, e);
@@ -146,71 +145,50 @@ public class CsvBatchService {
         }
     }
 
-    private void processCityDistricts(City city, List<District> districts,
-            AtomicLong totalProcessed, AtomicLong totalSuccess, AtomicLong totalFailed) {
-        String cityName = city.name();
-        log.info("도시 {} 처리 시작 ({}개 구/군)", cityName, districts.size());
-
-        for (District district : districts) {
-            try {
-                processDistrict(city, district);
-                totalSuccess.incrementAndGet();
-            } catch (Exception e) {
-                totalFailed.incrementAndGet();
-                log.error("{} {} 처리 실패", cityName, district.name(), e);
-            } finally {
-                totalProcessed.incrementAndGet();
-            }
-        }
-    }
+    private void runDistrictTask(DistrictTask task, CsvBatchProgress progress) {
+        String cityName = task.getCity().name();
+        String districtName = task.getDistrict().name();
+        progress.started(cityName, districtName);
 
-    @Retryable(retryFor = { IOException.class,
-            DataAccessException.class }, maxAttempts = 3, backoff = @Backoff(delay = 1000, multiplier = 2))
-    private List<Map<String, Object>> fetchDataWithRetry(String city, String district) {
         try {
-            return apiClient.fetchAll(city, district);
+            int records = processDistrict(task.getCity(), task.getDistrict(), progress);
+            progress.succeeded(cityName, districtName, records);
         } catch (Exception e) {
-            log.warn("API 호출 실패 (재시도 예정): {} {}, 오류: {}", city, district, e.getMessage());
-            throw e;
+            progress.failed(cityName, districtName);
+            log.error("{} {} 처리 실패", cityName, districtName, e);
         }
     }
 
-    private void processDataInChunks(List<Map<String, Object>> data, String city, String district) {
-        int totalSize = data.size();
-        int chunkCount = (int) Math.ceil((double) totalSize / chunkSize);
-
-        log.info("{} {} 데이터 청크 처리 시작: 총 {}건, 청크 크기: {}, 청크 수: {}",
-                city, district, totalSize, chunkSize, chunkCount);
-
-        for (int i = 0; i < chunkCount; i++) {
-            int startIndex = i * chunkSize;
-            int endIndex = Math.min(startIndex + chunkSize, totalSize);
-
-            List<Map<String, Object>> chunk = data.subList(startIndex, endIndex);
-
-            try {
-                processChunk(chunk, city, district, i + 1, chunkCount);
-            } catch (Exception e) {
-                log.error("청크 {} 처리 실패: {} {}", i + 1, city, district, e);
-                throw new BusinessException(ErrorCode.CORP_SEARCH_ERROR,
-                        String.format("청크 %d 처리 실패: %s", i + 1, e.getMessage()));
+    private int writeDistrictWithRetry(String city, String district, CsvBatchProgress progress) throws IOException {
+        int attempts = Math.max(1, maxRetryAttempts);
+        for (int attempt = 1; ; attempt++) {
+            try (CsvWriteSession session = fileWriter.openSession(city, district, HEADERS)) {
+                int fetched = apiClient.fetchAll(city, district, session::append);
+                if (fetched > 0) {
+                    session.commit();
+                }
+                return fetched;
+            } catch (RestClientException | DataAccessException e) {
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                long delay = retryDelay << Math.min(attempt - 1, 10);
+                log.warn("API 호출 실패 (재시도 {}/{}, {}ms 후): {} {}, 오류: {}",
+                        attempt, attempts - 1, delay, city, district, e.getMessage());
+                if (progress != null) {
+                    progress.retried();
+                }
+                sleep(delay);
             }
         }
     }
 
-    private void processChunk(List<Map<String, Object>> chunk, String city, String district,
-            int chunkNumber, int totalChunks) {
+    private void sleep(long millis) {
         try {
-            String fileName = String.format("%s_%s_chunk_%d_of_%d.csv", city, district, chunkNumber, totalChunks);
-
-            fileWriter.writeCsv(city, district, HEADERS, chunk, HEADER_TO_API_FIELD);
-
-            log.debug("청크 {} 처리 완료: {}건", chunkNumber, chunk.size());
-
-        } catch (IOException e) {
-            log.error("청크 {} 파일 작성 실패", chunkNumber, e);
-            throw new BusinessException(ErrorCode.CORP_SEARCH_ERROR,
-                    String.format("청크 %d 파일 작성 실패: %s", chunkNumber, e.getMessage()));
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CORP_SEARCH_ERROR, "재시도 대기 중 중단되었습니다");
         }
     }
 
@@ -227,6 +205,7 @@ public class CsvBatchService {
                     .build();
 
             historyRepo.save(history);
+            activityFeed.publish(history);
 
         } catch (Exception e) {
             log.error("배치 이력 저장 실패", e);
@@ -246,9 +225,17 @@ public class CsvBatchService {
                     .build();
 
             historyRepo.save(history);
+            activityFeed.publish(history);
 
         } catch (Exception e) {
             log.error("배치 이력 저장 실패", e);
         }
     }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class DistrictTask {
+        private final City city;
+        private final District district;
+    }
 }
\ No newline at end of file
@@ -1,68 +1,243 @@
 package com.antock.api.csv.infrastructure;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import java.util.*;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 public class CorpInfoApiClient {
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
     private final String url;
     private final String endpoint;
     private final String serviceKey;
+    private final int pageSize;
+    private final int maxPages;
+    private final int fetchConcurrency;
+    private final ExecutorService pageExecutor;
 
     public CorpInfoApiClient(
             RestTemplate restTemplate,
+            ObjectMapper objectMapper,
             @Value("${corp-info.url:https://apis.data.go.kr/1130000/MllBsDtl_2Service}") String url,
             @Value("${corp-info.endpoint:/getMllBsInfoDetail_2}") String endpoint,
-            @Value("${corp-info.serviceKey:gm4VRA9rbbd%2BQ6%2F%2FknBcl3lZ5GIm0fq37PbyHPrRJdJ9xjsQlHOsqcb2j0M1coSz2AWOduxHVBLZwj8pSsm88A%3D%3D}") String serviceKey) {
+            @Value("${corp-info.serviceKey:gm4VRA9rbbd%2BQ6%2F%2FknBcl3lZ5GIm0fq37PbyHPrRJdJ9xjsQlHOsqcb2j0M1coSz2AWOduxHVBLZwj8pSsm88A%3D%3D}") String serviceKey,
+            @Value("${corp-info.page-size:1000}") int pageSize,
+            @Value("${corp-info.max-pages:49}") int maxPages,
+            @Value("${corp-info.fetch-concurrency:4}") int fetchConcurrency) {
         this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
         this.url = url;
         this.endpoint = endpoint;
         this.serviceKey = serviceKey;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.fetchConcurrency = Math.max(1, fetchConcurrency);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pageExecutor = Executors.newFixedThreadPool(this.fetchConcurrency * 2, runnable -> {
+            Thread thread = new Thread(runnable, "corp-info-page-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    public List<Map<String, Object>> fetchAll(String city, String district) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        ObjectMapper mapper = new ObjectMapper();
-        for (int page = 1; page <= 49; page++) {
-            String apiUrl = String.format(
-                    "%s%s?serviceKey=%s&pageNo=%d&numOfRows=1000&resultType=json&ctpvNm=%s&signguNm=%s",
-                    url, endpoint, serviceKey, page, encode(city), encode(district));
-            log.info("API 호출 URL: {}", apiUrl);
-            String responseStr = restTemplate.getForObject(apiUrl, String.class);
-            if (responseStr == null || responseStr.trim().isEmpty())
-                break;
-            if (responseStr.trim().startsWith("<")) {
-                log.error("API 파싱에러 확인: " + responseStr);
-                break;
+    @PreDestroy
+    public void shutdown() {
+        pageExecutor.shutdownNow();
+    }
+
+    public int fetchAll(String city, String district, Consumer<List<CorpInfoItem>> pageConsumer) {
+        CorpInfoPage firstPage = fetchPage(city, district, 1);
+        if (firstPage.items.isEmpty()) {
+            return 0;
+        }
+        pageConsumer.accept(firstPage.items);
+        int delivered = firstPage.items.size();
+
+        if (firstPage.totalCount <= 0) {
+            return delivered + fetchSequentially(city, district, pageConsumer);
+        }
+
+        int lastPage = Math.min(maxPages, (int) Math.ceil((double) firstPage.totalCount / pageSize));
+        log.info("{} {} 전체 {}건, {}페이지 병렬 조회 (동시 {}건)", city, district, firstPage.totalCount, lastPage,
+                fetchConcurrency);
+        return delivered + fetchConcurrently(city, district, lastPage, pageConsumer);
+    }
+
+    private int fetchConcurrently(String city, String district, int lastPage,
+            Consumer<List<CorpInfoItem>> pageConsumer) {
+        CompletionService<CorpInfoPage> completionService = new ExecutorCompletionService<>(pageExecutor);
+        List<Future<CorpInfoPage>> submitted = new ArrayList<>();
+        int nextPage = 2;
+        int pending = 0;
+        int delivered = 0;
+
+        try {
+            while (nextPage <= lastPage && pending < fetchConcurrency) {
+                submitted.add(submitPage(completionService, city, district, nextPage++, lastPage));
+                pending++;
             }
-            try {
-                Map<String, Object> response = mapper.readValue(responseStr, Map.class);
-                Object itemsObj = response.get("items");
-                if (itemsObj instanceof List<?> items) {
-                    if (items.isEmpty())
-                        break;
-                    for (Object item : items) {
-                        if (item instanceof Map) {
-                            result.add((Map<String, Object>) item);
-                        }
-                    }
-                } else {
-                    break;
+
+            while (pending > 0) {
+                CorpInfoPage page = completionService.take().get();
+                pending--;
+
+                if (!page.items.isEmpty()) {
+                    pageConsumer.accept(page.items);
+                    delivered += page.items.size();
+                }
+                if (nextPage <= lastPage) {
+                    submitted.add(submitPage(completionService, city, district, nextPage++, lastPage));
+                    pending++;
                 }
-            } catch (Exception e) {
-                log.error("JSON 파싱 실패: " + e.getMessage());
+            }
+            return delivered;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("페이지 조회가 중단되었습니다: " + city + " " + district, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("페이지 조회 실패: " + city + " " + district, cause);
+        } finally {
+            submitted.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private int fetchSequentially(String city, String district, Consumer<List<CorpInfoItem>> pageConsumer) {
+        int delivered = 0;
+        for (int page = 2; page <= maxPages; page++) {
+            CorpInfoPage result = fetchPage(city, district, page);
+            if (result.items.isEmpty()) {
                 break;
             }
+            pageConsumer.accept(result.items);
+            delivered += result.items.size();
+        }
+        return delivered;
+    }
+
+    private Future<CorpInfoPage> submitPage(CompletionService<CorpInfoPage> completionService,
+            String city, String district, int page, int lastPage) {
+        return completionService.submit(() -> {
+            CorpInfoPage result = fetchPage(city, district, page);
+            if (result.items.isEmpty() && page < lastPage) {
+                throw new CorpInfoPageException(page, "마지막 페이지(" + lastPage + ") 이전에 빈 페이지 수신");
+            }
+            return result;
+        });
+    }
+
+    private CorpInfoPage fetchPage(String city, String district, int page) {
+        String apiUrl = String.format(
+                "%s%s?serviceKey=%s&pageNo=%d&numOfRows=%d&resultType=json&ctpvNm=%s&signguNm=%s",
+                url, endpoint, serviceKey, page, pageSize, encode(city), encode(district));
+        log.info("API 호출 URL: {}", apiUrl);
+
+        CorpInfoPage result = restTemplate.execute(apiUrl, HttpMethod.GET, null,
+                response -> parsePage(response.getBody(), page));
+        if (result == null) {
+            throw new CorpInfoPageException(page, "응답 본문 없음");
         }
         return result;
     }
 
+    CorpInfoPage parsePage(InputStream body, int page) throws IOException {
+        InputStream in = body.markSupported() ? body : new BufferedInputStream(body);
+        in.mark(1);
+        int first = in.read();
+        while (first != -1 && Character.isWhitespace(first)) {
+            in.mark(1);
+            first = in.read();
+        }
+        if (first == -1) {
+            throw new CorpInfoPageException(page, "빈 응답 본문");
+        }
+        if (first == '<') {
+            throw new CorpInfoPageException(page, "XML/HTML 응답 수신");
+        }
+        in.reset();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new CorpInfoPageException(page, "JSON 객체가 아닌 응답 수신");
+            }
+
+            int totalCount = 0;
+            List<CorpInfoItem> items = Collections.emptyList();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("totalCount".equals(name) && token.isScalarValue()) {
+                    totalCount = parseInt(parser.getValueAsString());
+                } else if ("items".equals(name) && token == JsonToken.START_ARRAY) {
+                    items = readItems(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new CorpInfoPage(totalCount, items);
+        } catch (IOException e) {
+            throw new CorpInfoPageException(page, "JSON 파싱 실패 - " + e.getMessage(), e);
+        }
+    }
+
+    private List<CorpInfoItem> readItems(JsonParser parser) throws IOException {
+        List<CorpInfoItem> items = new ArrayList<>(pageSize);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            CorpInfoItem item = new CorpInfoItem();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token.isScalarValue()) {
+                    item.assign(field, token == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value == null ? 0 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     private static String encode(String s) {
         try {
             return java.net.URLEncoder.encode(s, "UTF-8");
@@ -70,4 +245,22 @@ public class CorpInfoApiClient {
             return s;
         }
     }
-}
\ No newline at end of file
+
+    static final class CorpInfoPage {
+        private final int totalCount;
+        private final List<CorpInfoItem> items;
+
+        CorpInfoPage(int totalCount, List<CorpInfoItem> items) {
+            this.totalCount = totalCount;
+            this.items = items;
+        }
+
+        int getTotalCount() {
+            return totalCount;
+        }
+
+        List<CorpInfoItem> getItems() {
+            return items;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.antock.api.csv.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CorpInfoItem {
+    private String sellerId;
+    private String bizNm;
+    private String bizNo;
+    private String bizType;
+    private String bizAddress;
+    private String bizNesAddress;
+
+    public String valueOf(String field) {
+        return switch (field) {
+            case "sellerId" -> sellerId;
+            case "bizNm" -> bizNm;
+            case "bizNo" -> bizNo;
+            case "bizType" -> bizType;
+            case "bizAddress" -> bizAddress;
+            case "bizNesAddress" -> bizNesAddress;
+            default -> null;
+        };
+    }
+
+    boolean assign(String field, String value) {
+        switch (field) {
+            case "sellerId" -> sellerId = value;
+            case "bizNm" -> bizNm = value;
+            case "bizNo" -> bizNo = value;
+            case "bizType" -> bizType = value;
+            case "bizAddress" -> bizAddress = value;
+            case "bizNesAddress" -> bizNesAddress = value;
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
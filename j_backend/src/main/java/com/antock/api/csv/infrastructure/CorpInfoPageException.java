@@ -0,0 +1,19 @@
+package com.antock.api.csv.infrastructure;
+
+import lombok.Getter;
+import org.springframework.web.client.RestClientException;
+
+@Getter
+public class CorpInfoPageException extends RestClientException {
+    private final int page;
+
+    public CorpInfoPageException(int page, String message) {
+        super(page + "페이지 응답 오류: " + message);
+        this.page = page;
+    }
+
+    public CorpInfoPageException(int page, String message, Throwable cause) {
+        super(page + "페이지 응답 오류: " + message, cause);
+        this.page = page;
+    }
+}
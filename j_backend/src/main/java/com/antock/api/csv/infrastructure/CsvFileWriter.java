@@ -3,10 +3,8 @@ package com.antock.api.csv.infrastructure;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.List;
-import java.util.Map;
 
 @Component
 public class CsvFileWriter {
@@ -16,6 +14,9 @@ public class CsvFileWriter {
     @Value("${file.upload-dir:}")
     private String uploadDir;
 
+    @Value("${csv.write-buffer-size:1048576}")
+    private int bufferSize;
+
     public String getFilePath(String city, String district) {
         String fileName = String.format(fileTemplate, city, district);
         return uploadDir.isEmpty() ? fileName : Paths.get(uploadDir, fileName).toString();
@@ -25,24 +26,12 @@ public class CsvFileWriter {
         return Files.exists(Paths.get(getFilePath(city, district)));
     }
 
-    public void writeCsv(String city, String district, List<String> headers, List<Map<String, Object>> data, Map<String, String> headerToApiField) throws IOException {
-        String path = getFilePath(city, district);
-        try (OutputStreamWriter writer = new OutputStreamWriter(
-                new FileOutputStream(path), StandardCharsets.UTF_8)) {
-            writer.write('\uFEFF');
-            writer.write(String.join(",", headers));
-            writer.write("\n");
-            for (Map<String, Object> row : data) {
-                List<String> values = headers.stream()
-                        .map(h -> {
-                            String apiField = headerToApiField.getOrDefault(h, h);
-                            Object v = row.get(apiField);
-                            return v == null ? "" : v.toString().replaceAll("[\r\n,]", " ");
-                        })
-                        .toList();
-                writer.write(String.join(",", values));
-                writer.write("\n");
-            }
+    public CsvWriteSession openSession(String city, String district, List<String> headers) throws IOException {
+        Path target = Paths.get(getFilePath(city, district));
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
         }
+        return new CsvWriteSession(target, headers, bufferSize);
     }
 }
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.antock.api.csv.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@Slf4j
+public class CsvWriteSession implements AutoCloseable {
+
+    private static final byte[] UTF8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+    private final Path target;
+    private final Path tempFile;
+    private final List<String> headers;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private long rowCount;
+    private boolean committed;
+    private boolean closed;
+
+    CsvWriteSession(Path target, List<String> headers, int bufferSize) throws IOException {
+        this.target = target;
+        this.tempFile = target.resolveSibling(target.getFileName() + ".part");
+        this.headers = List.copyOf(headers);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        write(UTF8_BOM);
+        write((String.join(",", this.headers) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void append(List<CorpInfoItem> rows) {
+        ensureOpen();
+        try {
+            for (CorpInfoItem row : rows) {
+                line.setLength(0);
+                for (int i = 0; i < headers.size(); i++) {
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    appendEscaped(line, row.valueOf(headers.get(i)));
+                }
+                line.append('\n');
+                write(line.toString().getBytes(StandardCharsets.UTF_8));
+                rowCount++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("CSV 파일 쓰기 실패: " + tempFile, e);
+        }
+    }
+
+    public void commit() throws IOException {
+        ensureOpen();
+        flushBuffer();
+        channel.force(true);
+        channel.close();
+        closed = true;
+
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        committed = true;
+        log.debug("CSV 파일 확정: {} ({}건)", target, rowCount);
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public Path getTarget() {
+        return target;
+    }
+
+    @Override
+    public void close() {
+        if (committed) {
+            return;
+        }
+        try {
+            if (!closed) {
+                channel.close();
+                closed = true;
+            }
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 CSV 파일 정리 실패: {} - {}", tempFile, e.getMessage());
+        }
+    }
+
+    static void appendEscaped(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            sb.append(c == '\r' || c == '\n' || c == ',' ? ' ' : c);
+        }
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 종료된 CSV 쓰기 세션입니다: " + target);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.antock.api.csv.presentation;
+
+import com.antock.api.csv.application.dto.CsvBatchProgress;
+import com.antock.api.csv.application.service.CsvBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/csv-batch")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class CsvBatchController {
+
+    private final CsvBatchService csvBatchService;
+
+    @GetMapping("/progress")
+    public ResponseEntity<CsvBatchProgress> getProgress() {
+        return csvBatchService.getProgress()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
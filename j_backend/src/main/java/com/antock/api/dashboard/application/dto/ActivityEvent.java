@@ -0,0 +1,17 @@
+package com.antock.api.dashboard.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder(toBuilder = true)
+public class ActivityEvent {
+    private long sequence;
+    private LocalDateTime timestamp;
+    private String source;
+    private String message;
+    private String type;
+    private String icon;
+}
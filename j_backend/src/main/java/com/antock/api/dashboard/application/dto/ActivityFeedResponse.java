@@ -0,0 +1,14 @@
+package com.antock.api.dashboard.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ActivityFeedResponse {
+    private List<RecentActivityDto> activities;
+    private long cursor;
+    private boolean truncated;
+}
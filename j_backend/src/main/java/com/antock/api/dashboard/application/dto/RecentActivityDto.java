@@ -5,11 +5,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecentActivityDto {
+    private Long id;
+    private LocalDateTime timestamp;
     private String message;
     private String timeAgo;
     private String type;
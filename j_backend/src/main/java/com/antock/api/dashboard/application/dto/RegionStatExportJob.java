@@ -0,0 +1,72 @@
+package com.antock.api.dashboard.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+@Getter
+public class RegionStatExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String city;
+    private final String district;
+    private final String fileName;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int rowCount;
+    private volatile String errorMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+
+    @JsonIgnore
+    private volatile String storedFileName;
+
+    public RegionStatExportJob(String city, String district) {
+        this.city = city;
+        this.district = district;
+        this.fileName = fileNameFor(city, district, requestedAt);
+    }
+
+    public static String fileNameFor(String city, String district, LocalDateTime at) {
+        String fileName = "지역별통계_";
+        if (city != null && !city.isEmpty()) {
+            fileName += city;
+            if (district != null && !district.isEmpty()) {
+                fileName += "_" + district;
+            }
+        } else {
+            fileName += "전체";
+        }
+        return fileName + "_" + at.format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".xlsx";
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void complete(String storedFileName, int rowCount) {
+        this.storedFileName = storedFileName;
+        this.rowCount = rowCount;
+        completedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        completedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
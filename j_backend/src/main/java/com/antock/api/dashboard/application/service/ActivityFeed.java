@@ -0,0 +1,224 @@
+package com.antock.api.dashboard.application.service;
+
+import com.antock.api.coseller.domain.CorpMastHistory;
+import com.antock.api.coseller.infrastructure.CorpMastHistoryRepository;
+import com.antock.api.csv.domain.CsvBatchHistory;
+import com.antock.api.csv.infrastructure.CsvBatchHistoryRepository;
+import com.antock.api.dashboard.application.dto.ActivityEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityFeed {
+
+    static final String SOURCE_CORP = "CORP";
+    static final String SOURCE_CSV = "CSV";
+
+    private static final Comparator<ActivityEvent> NEWEST_FIRST = Comparator.comparing(
+            (ActivityEvent event) -> event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.MIN)
+            .reversed();
+
+    private final CorpMastHistoryRepository corpMastHistoryRepository;
+    private final CsvBatchHistoryRepository csvBatchHistoryRepository;
+
+    @Value("${dashboard.activity.capacity:200}")
+    private int capacity;
+
+    private ActivityEvent[] ring;
+    private long nextSequence = 1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedFromHistory() {
+        try {
+            List<ActivityEvent> corpEvents = corpMastHistoryRepository.findTop10ByOrderByTimestampDesc().stream()
+                    .map(ActivityFeed::fromCorpHistory)
+                    .toList();
+            List<ActivityEvent> csvEvents = csvBatchHistoryRepository.findTop10ByOrderByTimestampDesc().stream()
+                    .map(ActivityFeed::fromCsvHistory)
+                    .toList();
+            List<ActivityEvent> merged = mergeNewestFirst(List.of(corpEvents, csvEvents), buffer().length);
+
+            synchronized (this) {
+                if (nextSequence > 1) {
+                    log.debug("최근 활동 피드에 이미 이벤트가 있어 이력 적재를 건너뜁니다");
+                    return;
+                }
+                for (int i = merged.size() - 1; i >= 0; i--) {
+                    append(merged.get(i));
+                }
+            }
+            log.info("최근 활동 피드 초기화 - {}건", merged.size());
+        } catch (Exception e) {
+            log.warn("최근 활동 피드 초기화 실패", e);
+        }
+    }
+
+    public void publish(CorpMastHistory history) {
+        append(fromCorpHistory(history));
+    }
+
+    public void publish(CsvBatchHistory history) {
+        append(fromCsvHistory(history));
+    }
+
+    public List<ActivityEvent> latest(int limit) {
+        return since(0, limit).getEvents();
+    }
+
+    public synchronized FeedWindow since(long cursor, int limit) {
+        ActivityEvent[] events = buffer();
+        long latestSequence = nextSequence - 1;
+        long oldestSequence = Math.max(1, nextSequence - events.length);
+        boolean staleCursor = cursor > latestSequence;
+        long after = staleCursor ? 0 : Math.max(cursor, 0);
+
+        List<ActivityEvent> result = new ArrayList<>(Math.min(Math.max(limit, 0), events.length));
+        long from = Math.max(after + 1, oldestSequence);
+        for (long sequence = latestSequence; sequence >= from && result.size() < limit; sequence--) {
+            result.add(events[slot(sequence)]);
+        }
+
+        long available = latestSequence - Math.max(after, oldestSequence - 1);
+        boolean truncated = staleCursor || after < oldestSequence - 1 || available > result.size();
+        return new FeedWindow(result, latestSequence, truncated);
+    }
+
+    static List<ActivityEvent> mergeNewestFirst(List<List<ActivityEvent>> sources, int limit) {
+        PriorityQueue<SourceCursor> heads = new PriorityQueue<>(
+                Comparator.comparing(SourceCursor::peek, NEWEST_FIRST));
+        for (List<ActivityEvent> source : sources) {
+            if (!source.isEmpty()) {
+                heads.add(new SourceCursor(source));
+            }
+        }
+
+        List<ActivityEvent> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            SourceCursor head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private synchronized void append(ActivityEvent event) {
+        ActivityEvent[] events = buffer();
+        long sequence = nextSequence++;
+        events[slot(sequence)] = event.toBuilder().sequence(sequence).build();
+    }
+
+    private ActivityEvent[] buffer() {
+        if (ring == null) {
+            ring = new ActivityEvent[Math.max(1, capacity)];
+        }
+        return ring;
+    }
+
+    private int slot(long sequence) {
+        return (int) ((sequence - 1) % ring.length);
+    }
+
+    static ActivityEvent fromCorpHistory(CorpMastHistory history) {
+        String action = history.getAction() != null ? history.getAction() : "";
+        String message = history.getMessage();
+        if (message == null || message.trim().isEmpty()) {
+            message = switch (action) {
+                case "INSERT" -> "새로운 법인 정보가 등록되었습니다: " + history.getBizNo();
+                case "UPDATE" -> "법인 정보가 수정되었습니다: " + history.getBizNo();
+                case "DELETE" -> "법인 정보가 삭제되었습니다: " + history.getBizNo();
+                default -> "법인 정보 " + action + ": " + history.getBizNo();
+            };
+        }
+
+        return ActivityEvent.builder()
+                .timestamp(history.getTimestamp())
+                .source(SOURCE_CORP)
+                .message(message)
+                .type(switch (action) {
+                    case "INSERT" -> "success";
+                    case "UPDATE" -> "info";
+                    case "DELETE" -> "error";
+                    default -> "warning";
+                })
+                .icon(switch (action) {
+                    case "INSERT" -> "➕";
+                    case "UPDATE" -> "✏️";
+                    case "DELETE" -> "🗑️";
+                    default -> "🏢";
+                })
+                .build();
+    }
+
+    static ActivityEvent fromCsvHistory(CsvBatchHistory history) {
+        String status = history.getStatus() != null ? history.getStatus() : "";
+        String city = history.getCity();
+        String district = history.getDistrict();
+
+        return ActivityEvent.builder()
+                .timestamp(history.getTimestamp())
+                .source(SOURCE_CSV)
+                .message(switch (status) {
+                    case "SUCCESS" -> String.format("CSV 배치 처리 완료: %s %s (%d건)", city, district, history.getRecordCount());
+                    case "FAILED" -> String.format("CSV 배치 처리 실패: %s %s", city, district);
+                    case "PROCESSING" -> String.format("CSV 배치 처리 중: %s %s", city, district);
+                    default -> String.format("CSV 배치 %s: %s %s", status, city, district);
+                })
+                .type(switch (status) {
+                    case "SUCCESS" -> "success";
+                    case "FAILED" -> "error";
+                    case "PROCESSING" -> "warning";
+                    default -> "info";
+                })
+                .icon(switch (status) {
+                    case "SUCCESS" -> "✅";
+                    case "FAILED" -> "❌";
+                    case "PROCESSING" -> "⏳";
+                    default -> "📊";
+                })
+                .build();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class FeedWindow {
+        private final List<ActivityEvent> events;
+        private final long cursor;
+        private final boolean truncated;
+    }
+
+    private static class SourceCursor {
+        private final List<ActivityEvent> events;
+        private int index;
+
+        private SourceCursor(List<ActivityEvent> events) {
+            this.events = events;
+        }
+
+        private ActivityEvent peek() {
+            return events.get(index);
+        }
+
+        private ActivityEvent next() {
+            return events.get(index++);
+        }
+
+        private boolean hasNext() {
+            return index < events.size();
+        }
+    }
+}
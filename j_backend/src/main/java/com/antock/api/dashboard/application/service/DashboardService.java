@@ -1,25 +1,34 @@
 package com.antock.api.dashboard.application.service;
 
-import com.antock.api.coseller.domain.CorpMastHistory;
-import com.antock.api.coseller.infrastructure.CorpMastHistoryRepository;
+import com.antock.api.coseller.infrastructure.CorpMastDashboardSummary;
 import com.antock.api.coseller.infrastructure.CorpMastRepository;
-import com.antock.api.csv.infrastructure.CsvBatchHistoryRepository;
+import com.antock.api.dashboard.application.dto.ActivityEvent;
+import com.antock.api.dashboard.application.dto.ActivityFeedResponse;
 import com.antock.api.dashboard.application.dto.RecentActivityDto;
 import com.antock.global.utils.NumberFormatUtil;
+import com.antock.global.utils.TransactionCallbacks;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,163 +36,119 @@ import java.util.concurrent.Executor;
 public class DashboardService {
 
     private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    private static final int MAX_ACTIVITY_LIMIT = 100;
 
     private final CorpMastRepository corpMastRepository;
-    private final CorpMastHistoryRepository corpMastHistoryRepository;
-    private final CsvBatchHistoryRepository csvBatchHistoryRepo;
+    private final ActivityFeed activityFeed;
     private final Executor asyncExecutor;
+    private final TaskScheduler taskScheduler;
 
-    @Cacheable(value = "dashboardStats", key = "'summary'")
-    public DashboardStats getStats() {
-        long total = corpMastRepository.count();
-        long validCorpRegNo = corpMastRepository.countValidCorpRegNo();
-        long validRegionCd = corpMastRepository.countValidRegionCd();
-        double successRate = total > 0 ? (double) (validCorpRegNo + validRegionCd) / (2 * total) * 100 : 0.0;
-
-        return new DashboardStats(total, validCorpRegNo, validRegionCd, successRate);
-    }
-
-    @Cacheable(value = "recentActivities", key = "#limit")
-    public List<RecentActivityDto> getRecentActivities(int limit) {
-        List<RecentActivityDto> activities = new ArrayList<>();
-
-        List<CorpMastHistory> corpHistories = corpMastHistoryRepository
-                .findTop10ByOrderByTimestampDesc();
-
-        for (CorpMastHistory history : corpHistories) {
-            String message = getCorpHistoryMessage(history);
-            String icon = getCorpHistoryIcon(history);
-            String type = getCorpHistoryType(history);
-
-            activities.add(RecentActivityDto.builder()
-                    .message(message)
-                    .timeAgo(timeAgo(history.getTimestamp()))
-                    .type(type)
-                    .icon(icon)
-                    .build());
-        }
-
-        List<com.antock.api.csv.domain.CsvBatchHistory> csvHistories = csvBatchHistoryRepo
-                .findTop10ByOrderByTimestampDesc();
+    @Value("${dashboard.stats.min-refresh-interval-ms:10000}")
+    private long minRefreshIntervalMs;
 
-        for (com.antock.api.csv.domain.CsvBatchHistory history : csvHistories) {
-            String message = getCsvHistoryMessage(history);
-            String icon = getCsvHistoryIcon(history);
-            String type = getCsvHistoryType(history);
+    private final AtomicReference<DashboardStats> statsSnapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final AtomicBoolean refreshRunning = new AtomicBoolean();
+    private volatile long lastRefreshStartedAt;
 
-            activities.add(RecentActivityDto.builder()
-                    .message(message)
-                    .timeAgo(timeAgo(history.getTimestamp()))
-                    .type(type)
-                    .icon(icon)
-                    .build());
-        }
+    public DashboardStats getStats() {
+        DashboardStats snapshot = statsSnapshot.get();
+        return snapshot != null ? snapshot : computeStats();
+    }
 
-        activities.addAll(getSystemStatusActivities());
+    @Scheduled(fixedDelayString = "${dashboard.stats.refresh-interval-ms:300000}")
+    public void refreshStats() {
+        computeStats();
+    }
 
-        return activities.stream()
-                .sorted((a, b) -> b.getTimeAgo().compareTo(a.getTimeAgo()))
-                .limit(limit)
-                .collect(java.util.stream.Collectors.toList());
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpStats() {
+        requestRefresh();
     }
 
-    private String getCorpHistoryMessage(CorpMastHistory history) {
-        String action = history.getAction();
-        String bizNo = history.getBizNo();
-        String message = history.getMessage();
+    public void requestRefresh() {
+        TransactionCallbacks.afterCommit(() -> {
+            refreshPending.set(true);
+            startRefresh();
+        });
+    }
 
-        if (message != null && !message.trim().isEmpty()) {
-            return message;
+    private void startRefresh() {
+        if (!refreshPending.get() || !refreshRunning.compareAndSet(false, true)) {
+            return;
         }
-
-        switch (action) {
-            case "INSERT":
-                return "새로운 법인 정보가 등록되었습니다: " + bizNo;
-            case "UPDATE":
-                return "법인 정보가 수정되었습니다: " + bizNo;
-            case "DELETE":
-                return "법인 정보가 삭제되었습니다: " + bizNo;
-            default:
-                return "법인 정보 " + action + ": " + bizNo;
+        long delay = lastRefreshStartedAt + minRefreshIntervalMs - System.currentTimeMillis();
+        try {
+            if (delay > 0) {
+                taskScheduler.schedule(this::runRefresh, Instant.now().plusMillis(delay));
+            } else {
+                asyncExecutor.execute(this::runRefresh);
+            }
+        } catch (RuntimeException e) {
+            refreshRunning.set(false);
+            log.warn("대시보드 통계 갱신 예약 실패", e);
         }
     }
 
-    private String getCorpHistoryIcon(CorpMastHistory history) {
-        String action = history.getAction();
-
-        switch (action) {
-            case "INSERT":
-                return "➕";
-            case "UPDATE":
-                return "✏️";
-            case "DELETE":
-                return "🗑️";
-            default:
-                return "🏢";
+    private void runRefresh() {
+        lastRefreshStartedAt = System.currentTimeMillis();
+        refreshPending.set(false);
+        try {
+            computeStats();
+        } catch (Exception e) {
+            log.warn("대시보드 통계 갱신 실패", e);
+        } finally {
+            refreshRunning.set(false);
         }
+        startRefresh();
     }
 
-    private String getCorpHistoryType(CorpMastHistory history) {
-        String action = history.getAction();
-
-        switch (action) {
-            case "INSERT":
-                return "success";
-            case "UPDATE":
-                return "info";
-            case "DELETE":
-                return "error";
-            default:
-                return "warning";
-        }
+    private DashboardStats computeStats() {
+        CorpMastDashboardSummary summary = corpMastRepository.summarizeDashboard();
+        long total = summary.getTotal();
+        long validCorpRegNo = summary.getValidCorpRegNo();
+        long validRegionCd = summary.getValidRegionCd();
+        double successRate = total > 0 ? (double) (validCorpRegNo + validRegionCd) / (2 * total) * 100 : 0.0;
+
+        DashboardStats stats = new DashboardStats(total, validCorpRegNo, validRegionCd, successRate, LocalDateTime.now());
+        statsSnapshot.set(stats);
+        log.debug("대시보드 통계 갱신 - 전체: {}, 계산 시각: {}", total, stats.getComputedAt());
+        return stats;
     }
 
-    private String getCsvHistoryMessage(com.antock.api.csv.domain.CsvBatchHistory history) {
-        String city = history.getCity();
-        String district = history.getDistrict();
-        String status = history.getStatus();
-        int recordCount = history.getRecordCount();
-
-        switch (status) {
-            case "SUCCESS":
-                return String.format("CSV 배치 처리 완료: %s %s (%d건)", city, district, recordCount);
-            case "FAILED":
-                return String.format("CSV 배치 처리 실패: %s %s", city, district);
-            case "PROCESSING":
-                return String.format("CSV 배치 처리 중: %s %s", city, district);
-            default:
-                return String.format("CSV 배치 %s: %s %s", status, city, district);
+    public List<RecentActivityDto> getRecentActivities(int limit) {
+        List<RecentActivityDto> activities = activityFeed.latest(limit).stream()
+                .map(this::toActivityDto)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        for (RecentActivityDto status : getSystemStatusActivities()) {
+            if (activities.size() >= limit) {
+                break;
+            }
+            activities.add(status);
         }
+        return activities;
     }
 
-    private String getCsvHistoryIcon(com.antock.api.csv.domain.CsvBatchHistory history) {
-        String status = history.getStatus();
-
-        switch (status) {
-            case "SUCCESS":
-                return "✅";
-            case "FAILED":
-                return "❌";
-            case "PROCESSING":
-                return "⏳";
-            default:
-                return "📊";
-        }
+    public ActivityFeedResponse getActivitiesSince(long cursor, int limit) {
+        ActivityFeed.FeedWindow window = activityFeed.since(cursor, Math.min(Math.max(limit, 1), MAX_ACTIVITY_LIMIT));
+
+        return ActivityFeedResponse.builder()
+                .activities(window.getEvents().stream().map(this::toActivityDto).toList())
+                .cursor(window.getCursor())
+                .truncated(window.isTruncated())
+                .build();
     }
 
-    private String getCsvHistoryType(com.antock.api.csv.domain.CsvBatchHistory history) {
-        String status = history.getStatus();
-
-        switch (status) {
-            case "SUCCESS":
-                return "success";
-            case "FAILED":
-                return "error";
-            case "PROCESSING":
-                return "warning";
-            default:
-                return "info";
-        }
+    private RecentActivityDto toActivityDto(ActivityEvent event) {
+        return RecentActivityDto.builder()
+                .id(event.getSequence())
+                .timestamp(event.getTimestamp())
+                .message(event.getMessage())
+                .timeAgo(timeAgo(event.getTimestamp()))
+                .type(event.getType())
+                .icon(event.getIcon())
+                .build();
     }
 
     private List<RecentActivityDto> getSystemStatusActivities() {
@@ -196,21 +161,15 @@ public class DashboardService {
                 .icon("🟢")
                 .build());
 
-        try {
-            long totalCount = corpMastRepository.count();
+        DashboardStats stats = statsSnapshot.get();
+        if (stats != null) {
             systemActivities.add(RecentActivityDto.builder()
                     .message("데이터베이스 연결 확인됨")
-                    .timeAgo("1분 전")
+                    .timestamp(stats.getComputedAt())
+                    .timeAgo(timeAgo(stats.getComputedAt()))
                     .type("success")
                     .icon("🟢")
                     .build());
-        } catch (Exception e) {
-            systemActivities.add(RecentActivityDto.builder()
-                    .message("데이터베이스 연결 오류")
-                    .timeAgo("방금 전")
-                    .type("error")
-                    .icon("🔴")
-                    .build());
         }
 
         systemActivities.add(RecentActivityDto.builder()
@@ -239,19 +198,16 @@ public class DashboardService {
         return days + "일 전";
     }
 
-    @Scheduled(fixedDelay = 300000)
-    @Cacheable(value = "dashboardStats", key = "'refresh'")
-    public void refreshStats() {
-        log.info("대시보드 통계 정보 새로고침");
-    }
-
     @Getter
     @AllArgsConstructor
     public static class DashboardStats {
+        private static final DateTimeFormatter COMPUTED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
         private long total;
         private long validCorpRegNo;
         private long validRegionCd;
         private double successRate;
+        private LocalDateTime computedAt;
 
         public String getFormattedTotal() {
             return NumberFormatUtil.formatLong(total);
@@ -269,6 +225,10 @@ public class DashboardService {
             return String.format("%.1f%%", successRate);
         }
 
+        public String getFormattedComputedAt() {
+            return computedAt != null ? computedAt.format(COMPUTED_AT_FORMAT) : "";
+        }
+
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.antock.api.dashboard.application.service;
+
+import com.antock.api.dashboard.application.dto.RegionStatExportJob;
+import com.antock.api.file.infrastructure.storage.FileStorageStrategy;
+import com.antock.global.common.exception.BusinessException;
+import com.antock.global.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionStatExportService {
+
+    public static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final RegionStatService regionStatService;
+    private final FileStorageStrategy fileStorageStrategy;
+
+    @Value("${app.export.region-stat.concurrency:2}")
+    private int concurrency;
+
+    @Value("${app.export.region-stat.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${app.export.region-stat.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, RegionStatExportJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "region-stat-export-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public RegionStatExportJob submit(String city, String district) {
+        RegionStatExportJob job = new RegionStatExportJob(city, district);
+        jobs.put(job.getJobId(), job);
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            throw new BusinessException(ErrorCode.EXPORT_QUEUE_FULL);
+        }
+
+        log.info("지역별 통계 내보내기 작업 등록: jobId={}, city={}, district={}", job.getJobId(), city, district);
+        return job;
+    }
+
+    public RegionStatExportJob getJob(String jobId) {
+        RegionStatExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    public InputStreamResource openDownload(RegionStatExportJob job) {
+        if (job.getStatus() != RegionStatExportJob.Status.COMPLETED) {
+            throw new BusinessException(ErrorCode.EXPORT_JOB_NOT_READY);
+        }
+        try {
+            return fileStorageStrategy.downloadFile(job.getStoredFileName());
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.FILE_DOWNLOAD_ERROR, e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.export.region-stat.cleanup-interval-ms:600000}")
+    public void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getCompletedAt().isAfter(cutoff)) {
+                return false;
+            }
+            deleteStoredFile(job);
+            return true;
+        });
+    }
+
+    private void run(RegionStatExportJob job) {
+        job.start();
+        long startTime = System.currentTimeMillis();
+        Path tempFile = null;
+        String storedFileName = null;
+        int rowCount = 0;
+
+        try {
+            tempFile = Files.createTempFile("region-stat-export-", ".xlsx");
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                rowCount = regionStatService.writeExcel(job.getCity(), job.getDistrict(), os);
+            }
+
+            storedFileName = "region-stat-export-" + job.getJobId() + ".xlsx";
+            fileStorageStrategy.uploadFile(tempFile, storedFileName, CONTENT_TYPE);
+        } catch (Exception e) {
+            log.error("지역별 통계 내보내기 실패: jobId={}", job.getJobId(), e);
+            job.fail("Excel 파일 생성 중 오류가 발생했습니다: " + e.getMessage());
+            return;
+        } finally {
+            deleteTempFile(tempFile);
+        }
+
+        job.complete(storedFileName, rowCount);
+        log.info("지역별 통계 내보내기 완료: jobId={}, {}건, 소요시간: {}ms",
+                job.getJobId(), rowCount, System.currentTimeMillis() - startTime);
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+
+    private void deleteStoredFile(RegionStatExportJob job) {
+        if (job.getStoredFileName() == null) {
+            return;
+        }
+        try {
+            fileStorageStrategy.deleteFile(job.getStoredFileName());
+        } catch (Exception e) {
+            log.warn("만료된 내보내기 파일 삭제 실패: {}", job.getStoredFileName(), e);
+        }
+    }
+}
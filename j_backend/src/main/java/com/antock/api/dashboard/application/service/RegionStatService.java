@@ -1,20 +1,27 @@
 package com.antock.api.dashboard.application.service;
 
-import com.antock.api.coseller.domain.CorpMast;
+import com.antock.api.coseller.infrastructure.CorpMastExportRow;
 import com.antock.api.coseller.infrastructure.CorpMastRepository;
 import com.antock.api.dashboard.application.dto.RegionStatDto;
-import com.antock.global.utils.ExcelExportUtil;
 import lombok.RequiredArgsConstructor;
+import com.antock.global.utils.RollingSheetWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,7 +29,20 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class RegionStatService {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int[] COLUMN_WIDTHS = { 3000, 9000, 4500, 5000, 3500, 4000, 4000, 5000, 4000, 9000, 5500, 5500 };
+
     private final CorpMastRepository corpMastRepository;
+    private final RegionStatSummaryService regionStatSummaryService;
+
+    @Value("${excel.export.fetch-size:1000}")
+    private int excelFetchSize;
+
+    @Value("${excel.export.window-size:500}")
+    private int excelWindowSize;
+
+    @Value("${excel.export.max-rows-per-sheet:1048576}")
+    private int maxRowsPerSheet;
 
     public RegionStatDto getTopRegionStat() {
         List<RegionStatDto> allStats = getAllRegionStats();
@@ -30,35 +50,32 @@ public class RegionStatService {
     }
 
     public List<RegionStatDto> getAllRegionStats() {
-        List<Object[]> rawStats = corpMastRepository.getRegionStats();
-        log.info("Raw stats count: {}", rawStats.size());
-
-        return rawStats.stream()
+        return regionStatSummaryService.findAll().stream()
                 .map(this::convertToRegionStatDto)
                 .collect(Collectors.toList());
     }
 
     public Page<RegionStatDto> getRegionStatsWithPaging(Pageable pageable, String city, String district) {
         try {
-            log.info("Getting region stats with paging - page: {}, size: {}, city: {}, district: {}",
-                    pageable.getPageNumber(), pageable.getPageSize(), city, district);
-
-            Page<Object[]> rawStatsPage = corpMastRepository.getRegionStatsWithPaging(pageable, city, district);
+            log.debug("Getting region stats with paging - page: {}, city: {}, district: {}",
+                    pageable.isPaged() ? pageable.getPageNumber() : "unpaged", city, district);
 
-            log.info("Raw stats page - total: {}, current page: {}, content size: {}",
-                    rawStatsPage.getTotalElements(), rawStatsPage.getNumber(), rawStatsPage.getContent().size());
+            List<RegionStatDto> filtered = getAllRegionStats().stream()
+                    .filter(dto -> city == null || city.isEmpty() || city.equals(dto.getCity()))
+                    .filter(dto -> district == null || district.isEmpty() || district.equals(dto.getDistrict()))
+                    .collect(Collectors.toCollection(ArrayList::new));
 
-            List<RegionStatDto> result = rawStatsPage.getContent().stream()
-                    .map(this::convertToRegionStatDto)
-                    .collect(Collectors.toList());
-
-            log.info("Converted {} region stats", result.size());
-            for (RegionStatDto dto : result) {
-                log.info("RegionStatDto: city='{}', district='{}', totalCount={}",
-                        dto.getCity(), dto.getDistrict(), dto.getTotalCount());
+            Comparator<RegionStatDto> comparator = toComparator(pageable.getSort());
+            if (comparator != null) {
+                filtered.sort(comparator);
             }
 
-            return rawStatsPage.map(this::convertToRegionStatDto);
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(filtered, pageable, filtered.size());
+            }
+            int from = (int) Math.min(pageable.getOffset(), filtered.size());
+            int to = Math.min(from + pageable.getPageSize(), filtered.size());
+            return new PageImpl<>(filtered.subList(from, to), pageable, filtered.size());
         } catch (Exception e) {
             log.error("Error getting region stats with paging", e);
             throw new RuntimeException("Failed to get region stats", e);
@@ -73,32 +90,31 @@ public class RegionStatService {
         return corpMastRepository.findDistinctDistrictsByCity(city);
     }
 
-    public byte[] exportToExcel(String city, String district) throws Exception {
+    public int writeExcel(String city, String district, OutputStream os) throws IOException {
         log.info("Exporting region stats to Excel - city: {}, district: {}", city, district);
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = createCombinedSheet(workbook, city, district);
-
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
-        } catch (Exception e) {
-            log.error("Error creating Excel file", e);
-            throw new Exception("Excel 파일 생성 중 오류가 발생했습니다.", e);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(excelWindowSize);
+        workbook.setCompressTempFiles(true);
+        try {
+            int detailRows = writeCombinedSheet(workbook, city, district);
+            workbook.write(os);
+            os.flush();
+            return detailRows;
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
-    private Sheet createCombinedSheet(XSSFWorkbook workbook, String city, String district) {
-        Sheet sheet = workbook.createSheet("지역별 통계");
+    private int writeCombinedSheet(SXSSFWorkbook workbook, String city, String district) {
+        RollingSheetWriter sheet = new RollingSheetWriter(workbook, "지역별 통계", COLUMN_WIDTHS, maxRowsPerSheet);
 
         CellStyle headerStyle = createHeaderStyle(workbook);
         CellStyle dataStyle = createDataStyle(workbook);
         CellStyle titleStyle = createTitleStyle(workbook);
         CellStyle summaryStyle = createSummaryStyle(workbook);
 
-        int rowIdx = 0;
-
-        Row titleRow = sheet.createRow(rowIdx++);
+        Row titleRow = sheet.createRow();
         Cell titleCell = titleRow.createCell(0);
         String title = "지역별 통계";
         if (city != null && !city.isEmpty()) {
@@ -110,110 +126,117 @@ public class RegionStatService {
         titleCell.setCellValue(title);
         titleCell.setCellStyle(titleStyle);
 
-        Row dateRow = sheet.createRow(rowIdx++);
+        Row dateRow = sheet.createRow();
         Cell dateCell = dateRow.createCell(0);
-        dateCell.setCellValue(
-                "생성일시: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        dateCell.setCellValue("생성일시: " + LocalDateTime.now().format(DATE_TIME_FORMATTER));
         dateCell.setCellStyle(dataStyle);
 
-        rowIdx += 2;
+        sheet.skipRows(2);
 
-        Row summaryTitleRow = sheet.createRow(rowIdx++);
+        Row summaryTitleRow = sheet.createRow();
         Cell summaryTitleCell = summaryTitleRow.createCell(0);
         summaryTitleCell.setCellValue("지역별 통계 요약");
         summaryTitleCell.setCellStyle(summaryStyle);
 
-        Row summaryHeaderRow = sheet.createRow(rowIdx++);
         String[] summaryHeaders = { "시/도", "구/군", "총 법인 수", "유효한 법인등록번호", "유효한 지역코드", "완성도(%)" };
+        sheet.writeHeader(summaryHeaders, headerStyle);
 
-        for (int i = 0; i < summaryHeaders.length; i++) {
-            Cell cell = summaryHeaderRow.createCell(i);
-            cell.setCellValue(summaryHeaders[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        List<Object[]> rawStats = corpMastRepository.getRegionStatsWithPaging(
-                Pageable.unpaged(), city, district).getContent();
-
-        for (Object[] rawData : rawStats) {
-            Row dataRow = sheet.createRow(rowIdx++);
+        List<RegionStatDto> regionStats = getRegionStatsWithPaging(Pageable.unpaged(), city, district).getContent();
 
-            dataRow.createCell(0).setCellValue((String) rawData[0]);
-            dataRow.createCell(1).setCellValue((String) rawData[1]);
-            dataRow.createCell(2).setCellValue(((Number) rawData[2]).longValue());
-            dataRow.createCell(3).setCellValue(((Number) rawData[3]).longValue());
-            dataRow.createCell(4).setCellValue(((Number) rawData[4]).longValue());
+        for (RegionStatDto stat : regionStats) {
+            Row dataRow = sheet.createRow();
 
-            long totalCount = ((Number) rawData[2]).longValue();
-            long validCorpRegNoCount = ((Number) rawData[3]).longValue();
-            long validRegionCdCount = ((Number) rawData[4]).longValue();
-            double completionRate = totalCount > 0
-                    ? ((double) (validCorpRegNoCount + validRegionCdCount) / (totalCount * 2)) * 100
-                    : 0;
-            dataRow.createCell(5).setCellValue(Math.round(completionRate * 100.0) / 100.0);
+            dataRow.createCell(0).setCellValue(stat.getCity());
+            dataRow.createCell(1).setCellValue(stat.getDistrict());
+            dataRow.createCell(2).setCellValue(stat.getTotalCount());
+            dataRow.createCell(3).setCellValue(stat.getValidCorpRegNoCount());
+            dataRow.createCell(4).setCellValue(stat.getValidRegionCdCount());
+            dataRow.createCell(5).setCellValue(stat.getCompletionRate());
 
             for (int i = 0; i < 6; i++) {
                 dataRow.getCell(i).setCellStyle(dataStyle);
             }
         }
 
-        rowIdx += 2;
+        sheet.skipRows(2);
 
-        Row detailTitleRow = sheet.createRow(rowIdx++);
+        Row detailTitleRow = sheet.createRow();
         Cell detailTitleCell = detailTitleRow.createCell(0);
         detailTitleCell.setCellValue("상세 법인 목록");
         detailTitleCell.setCellStyle(summaryStyle);
 
-        Row detailHeaderRow = sheet.createRow(rowIdx++);
         String[] detailHeaders = { "ID", "법인명", "사업자번호", "법인등록번호", "지역코드", "시/도", "구/군", "판매자ID", "등록자", "설명", "등록일시",
                 "수정일시" };
+        sheet.writeHeader(detailHeaders, headerStyle);
+
+        String siNm = city != null && !city.isEmpty() ? city : null;
+        String sggNm = siNm != null && district != null && !district.isEmpty() ? district : null;
+        PageRequest page = PageRequest.of(0, excelFetchSize);
+        int detailRows = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<CorpMastExportRow> corpList = corpMastRepository.findExportRowsAfter(siNm, sggNm, lastId, page);
+
+            for (CorpMastExportRow corp : corpList) {
+                Row dataRow = sheet.createRow();
+
+                dataRow.createCell(0).setCellValue(corp.getId());
+                dataRow.createCell(1).setCellValue(corp.getBizNm());
+                dataRow.createCell(2).setCellValue(corp.getBizNo());
+                dataRow.createCell(3).setCellValue(corp.getCorpRegNo());
+                dataRow.createCell(4).setCellValue(corp.getRegionCd());
+                dataRow.createCell(5).setCellValue(corp.getSiNm());
+                dataRow.createCell(6).setCellValue(corp.getSggNm());
+                dataRow.createCell(7).setCellValue(corp.getSellerId());
+                dataRow.createCell(8).setCellValue(corp.getUsername());
+                dataRow.createCell(9).setCellValue(corp.getDescription() != null ? corp.getDescription() : "");
+                dataRow.createCell(10).setCellValue(formatDateTime(corp.getCreateDate()));
+                dataRow.createCell(11).setCellValue(formatDateTime(corp.getModifyDate()));
+
+                for (int i = 0; i < 12; i++) {
+                    dataRow.getCell(i).setCellStyle(dataStyle);
+                }
+            }
+            detailRows += corpList.size();
 
-        for (int i = 0; i < detailHeaders.length; i++) {
-            Cell cell = detailHeaderRow.createCell(i);
-            cell.setCellValue(detailHeaders[i]);
-            cell.setCellStyle(headerStyle);
+            if (corpList.size() < excelFetchSize) {
+                break;
+            }
+            lastId = corpList.get(corpList.size() - 1).getId();
         }
 
-        List<CorpMast> corpList;
-        if (city != null && !city.isEmpty() && district != null && !district.isEmpty()) {
-            corpList = corpMastRepository.findBySiNmAndSggNm(city, district);
-        } else if (city != null && !city.isEmpty()) {
-            corpList = corpMastRepository.findBySiNm(city);
-        } else {
-            corpList = corpMastRepository.findAll();
-        }
+        return detailRows;
+    }
 
-        for (CorpMast corp : corpList) {
-            Row dataRow = sheet.createRow(rowIdx++);
-
-            dataRow.createCell(0).setCellValue(corp.getId());
-            dataRow.createCell(1).setCellValue(corp.getBizNm());
-            dataRow.createCell(2).setCellValue(corp.getBizNo());
-            dataRow.createCell(3).setCellValue(corp.getCorpRegNo());
-            dataRow.createCell(4).setCellValue(corp.getRegionCd());
-            dataRow.createCell(5).setCellValue(corp.getSiNm());
-            dataRow.createCell(6).setCellValue(corp.getSggNm());
-            dataRow.createCell(7).setCellValue(corp.getSellerId());
-            dataRow.createCell(8).setCellValue(corp.getUsername());
-            dataRow.createCell(9).setCellValue(corp.getDescription() != null ? corp.getDescription() : "");
-            dataRow.createCell(10)
-                    .setCellValue(corp.getCreateDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-            dataRow.createCell(11)
-                    .setCellValue(corp.getModifyDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-
-            for (int i = 0; i < 12; i++) {
-                dataRow.getCell(i).setCellStyle(dataStyle);
+    private Comparator<RegionStatDto> toComparator(Sort sort) {
+        Comparator<RegionStatDto> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<RegionStatDto> comparator = switch (order.getProperty()) {
+                case "completionRate" -> Comparator.comparingDouble(RegionStatDto::getCompletionRate);
+                case "totalCount" -> Comparator.comparingLong(RegionStatDto::getTotalCount);
+                case "validCorpRegNoCount" -> Comparator.comparingLong(RegionStatDto::getValidCorpRegNoCount);
+                case "validRegionCdCount" -> Comparator.comparingLong(RegionStatDto::getValidRegionCdCount);
+                case "city" -> Comparator.comparing(RegionStatDto::getCity);
+                case "district" -> Comparator.comparing(RegionStatDto::getDistrict);
+                default -> null;
+            };
+            if (comparator == null) {
+                continue;
             }
+            if (order.isDescending()) {
+                comparator = comparator.reversed();
+            }
+            result = result == null ? comparator : result.thenComparing(comparator);
         }
+        return result;
+    }
 
-        for (int i = 0; i < 12; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        return sheet;
+    private String formatDateTime(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DATE_TIME_FORMATTER) : "";
     }
 
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
+    private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setBold(true);
@@ -234,7 +257,7 @@ public class RegionStatService {
         return style;
     }
 
-    private CellStyle createDataStyle(XSSFWorkbook workbook) {
+    private CellStyle createDataStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
 
         style.setBorderTop(BorderStyle.THIN);
@@ -248,7 +271,7 @@ public class RegionStatService {
         return style;
     }
 
-    private CellStyle createTitleStyle(XSSFWorkbook workbook) {
+    private CellStyle createTitleStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setBold(true);
@@ -261,7 +284,7 @@ public class RegionStatService {
         return style;
     }
 
-    private CellStyle createSummaryStyle(XSSFWorkbook workbook) {
+    private CellStyle createSummaryStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setBold(true);
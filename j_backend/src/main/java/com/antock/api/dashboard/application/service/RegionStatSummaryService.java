@@ -0,0 +1,117 @@
+package com.antock.api.dashboard.application.service;
+
+import com.antock.api.coseller.domain.CorpMast;
+import com.antock.api.dashboard.infrastructure.RegionStatJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionStatSummaryService {
+
+    private final RegionStatJdbcRepository regionStatRepository;
+
+    public List<Object[]> findAll() {
+        return regionStatRepository.findAll();
+    }
+
+    @Transactional
+    public void recordInserted(Collection<CorpMast> corpMasts) {
+        apply(corpMasts, 1);
+    }
+
+    @Transactional
+    public void recordDeleted(Collection<CorpMast> corpMasts) {
+        apply(corpMasts, -1);
+    }
+
+    @Scheduled(initialDelayString = "${app.region-stat.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${app.region-stat.reconcile-interval-ms:3600000}")
+    @Transactional
+    public void reconcile() {
+        long startTime = System.currentTimeMillis();
+        regionStatRepository.lockForReconcile();
+        int corrected = regionStatRepository.recomputeFromCorpMast() + regionStatRepository.deleteMissingRegions();
+
+        if (corrected > 0) {
+            log.warn("지역 통계 요약 테이블 보정: {}개 지역 불일치, 소요시간: {}ms",
+                    corrected, System.currentTimeMillis() - startTime);
+        } else {
+            log.debug("지역 통계 요약 테이블 정합성 확인 완료, 소요시간: {}ms", System.currentTimeMillis() - startTime);
+        }
+    }
+
+    static boolean isValidCorpRegNo(String corpRegNo) {
+        return corpRegNo != null && !corpRegNo.isEmpty() && !corpRegNo.startsWith("0") && !corpRegNo.contains("N/A");
+    }
+
+    static boolean isValidRegionCd(String regionCd) {
+        return regionCd != null && !regionCd.isEmpty() && !regionCd.startsWith("0");
+    }
+
+    private void apply(Collection<CorpMast> corpMasts, int sign) {
+        if (corpMasts == null || corpMasts.isEmpty()) {
+            return;
+        }
+
+        Map<RegionKey, long[]> deltas = new LinkedHashMap<>();
+        for (CorpMast corpMast : corpMasts) {
+            if (corpMast.getSiNm() == null || corpMast.getSggNm() == null) {
+                continue;
+            }
+            RegionKey regionKey = new RegionKey(CorpMast.normalizeRegionName(corpMast.getSiNm()),
+                    CorpMast.normalizeRegionName(corpMast.getSggNm()));
+            long[] delta = deltas.computeIfAbsent(regionKey, key -> new long[3]);
+            delta[0] += sign;
+            delta[1] += isValidCorpRegNo(corpMast.getCorpRegNo()) ? sign : 0;
+            delta[2] += isValidRegionCd(corpMast.getRegionCd()) ? sign : 0;
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 호출자 트랜잭션 안에서 실행되므로 실패는 삼키지 않고 전파하여 법인 저장과 함께 롤백
+        regionStatRepository.lockForDelta();
+        for (Map.Entry<RegionKey, long[]> entry : deltas.entrySet()) {
+            long[] delta = entry.getValue();
+            regionStatRepository.addCounts(entry.getKey().siNm, entry.getKey().sggNm, delta[0], delta[1], delta[2]);
+        }
+    }
+
+    private static final class RegionKey {
+        private final String siNm;
+        private final String sggNm;
+
+        private RegionKey(String siNm, String sggNm) {
+            this.siNm = siNm;
+            this.sggNm = sggNm;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RegionKey other)) {
+                return false;
+            }
+            return siNm.equals(other.siNm) && sggNm.equals(other.sggNm);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(siNm, sggNm);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.antock.api.dashboard.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RegionStatJdbcRepository {
+
+    private static final String SELECT_ALL = "SELECT si_nm, sgg_nm, total_count, valid_corp_reg_no_count, valid_region_cd_count " +
+            "FROM region_stat WHERE total_count > 0 ORDER BY total_count DESC, si_nm, sgg_nm";
+
+    private static final String UPSERT_DELTA = "INSERT INTO region_stat (si_nm, sgg_nm, total_count, " +
+            "valid_corp_reg_no_count, valid_region_cd_count, updated_at) VALUES (?, ?, GREATEST(?, 0), GREATEST(?, 0), GREATEST(?, 0), ?) " +
+            "ON CONFLICT (si_nm, sgg_nm) DO UPDATE SET total_count = region_stat.total_count + ?, " +
+            "valid_corp_reg_no_count = region_stat.valid_corp_reg_no_count + ?, " +
+            "valid_region_cd_count = region_stat.valid_region_cd_count + ?, updated_at = EXCLUDED.updated_at";
+
+    private static final String RECOMPUTE = "INSERT INTO region_stat (si_nm, sgg_nm, total_count, " +
+            "valid_corp_reg_no_count, valid_region_cd_count, updated_at) " +
+            "SELECT si_nm, sgg_nm, COUNT(*), " +
+            "SUM(CASE WHEN corp_reg_no IS NOT NULL AND corp_reg_no <> '' AND corp_reg_no NOT LIKE '0%' " +
+            "AND corp_reg_no NOT LIKE '%N/A%' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN region_cd IS NOT NULL AND region_cd <> '' AND region_cd NOT LIKE '0%' THEN 1 ELSE 0 END), ? " +
+            "FROM corp_mast WHERE si_nm IS NOT NULL AND sgg_nm IS NOT NULL GROUP BY si_nm, sgg_nm " +
+            "ON CONFLICT (si_nm, sgg_nm) DO UPDATE SET total_count = EXCLUDED.total_count, " +
+            "valid_corp_reg_no_count = EXCLUDED.valid_corp_reg_no_count, " +
+            "valid_region_cd_count = EXCLUDED.valid_region_cd_count, updated_at = EXCLUDED.updated_at " +
+            "WHERE region_stat.total_count <> EXCLUDED.total_count " +
+            "OR region_stat.valid_corp_reg_no_count <> EXCLUDED.valid_corp_reg_no_count " +
+            "OR region_stat.valid_region_cd_count <> EXCLUDED.valid_region_cd_count";
+
+    private static final String DELETE_MISSING = "DELETE FROM region_stat r WHERE NOT EXISTS " +
+            "(SELECT 1 FROM corp_mast c WHERE c.si_nm = r.si_nm AND c.sgg_nm = r.sgg_nm)";
+
+    // 증분 반영은 공유 잠금, 보정은 배타 잠금을 트랜잭션 종료까지 보유하여 보정 중 커밋된 증분이 덮어써지지 않게 함
+    private static final String LOCK_SHARED = "SELECT pg_advisory_xact_lock_shared(hashtext('region_stat'))";
+
+    private static final String LOCK_EXCLUSIVE = "SELECT pg_advisory_xact_lock(hashtext('region_stat'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Object[]> findAll() {
+        return jdbcTemplate.query(SELECT_ALL, (rs, rowNum) -> new Object[] {
+                rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getLong(5) });
+    }
+
+    public void lockForDelta() {
+        jdbcTemplate.execute(LOCK_SHARED);
+    }
+
+    public void lockForReconcile() {
+        jdbcTemplate.execute(LOCK_EXCLUSIVE);
+    }
+
+    public void addCounts(String siNm, String sggNm, long total, long validCorpRegNo, long validRegionCd) {
+        jdbcTemplate.update(UPSERT_DELTA, siNm, sggNm, total, validCorpRegNo, validRegionCd,
+                Timestamp.valueOf(LocalDateTime.now()), total, validCorpRegNo, validRegionCd);
+    }
+
+    public int recomputeFromCorpMast() {
+        return jdbcTemplate.update(RECOMPUTE, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public int deleteMissingRegions() {
+        return jdbcTemplate.update(DELETE_MISSING);
+    }
+}
@@ -0,0 +1,26 @@
+package com.antock.api.dashboard.presentation;
+
+import com.antock.api.dashboard.application.dto.ActivityFeedResponse;
+import com.antock.api.dashboard.application.service.DashboardService;
+import com.antock.global.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+public class DashboardApiController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/activities")
+    public ApiResponse<ActivityFeedResponse> getActivities(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.of(HttpStatus.OK, dashboardService.getActivitiesSince(since, limit));
+    }
+}
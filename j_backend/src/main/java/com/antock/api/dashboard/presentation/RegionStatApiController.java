@@ -3,10 +3,14 @@ package com.antock.api.dashboard.presentation;
 import com.antock.api.coseller.domain.CorpMast;
 import com.antock.api.coseller.infrastructure.CorpMastRepository;
 import com.antock.api.dashboard.application.dto.RegionStatDto;
+import com.antock.api.dashboard.application.dto.RegionStatExportJob;
+import com.antock.api.dashboard.application.service.RegionStatExportService;
 import com.antock.api.dashboard.application.service.RegionStatService;
 import com.antock.global.common.response.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,10 +19,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,6 +33,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RegionStatApiController {
     private final RegionStatService regionStatService;
+    private final RegionStatExportService regionStatExportService;
     private final CorpMastRepository corpMastRepository;
 
     @GetMapping("/top")
@@ -162,29 +167,43 @@ public class RegionStatApiController {
     }
 
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel(
+    public void exportToExcel(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district,
+            HttpServletResponse response) throws IOException {
+        String fileName = RegionStatExportJob.fileNameFor(city, district, LocalDateTime.now());
+        response.setContentType(RegionStatExportService.CONTENT_TYPE);
+        response.setHeader("Content-Disposition", contentDisposition(fileName));
+
+        regionStatService.writeExcel(city, district, response.getOutputStream());
+    }
+
+    @PostMapping("/export-jobs")
+    public ResponseEntity<ApiResponse<RegionStatExportJob>> submitExportJob(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String district) {
-        try {
-            byte[] excelData = regionStatService.exportToExcel(city, district);
-            String fileName = "지역별통계_";
-            if (city != null && !city.isEmpty()) {
-                fileName += city;
-                if (district != null && !district.isEmpty()) {
-                    fileName += "_" + district;
-                }
-            } else {
-                fileName += "전체";
-            }
-            fileName += "_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".xlsx";
-            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
-            return ResponseEntity.ok()
-                    .header("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .header("Content-Disposition", "attachment; filename*=UTF-8''" + encodedFileName)
-                    .header("Content-Length", String.valueOf(excelData.length))
-                    .body(excelData);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        RegionStatExportJob job = regionStatExportService.submit(city, district);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.of(HttpStatus.ACCEPTED, "내보내기 작업이 등록되었습니다.", job));
+    }
+
+    @GetMapping("/export-jobs/{jobId}")
+    public ApiResponse<RegionStatExportJob> getExportJob(@PathVariable String jobId) {
+        return ApiResponse.of(HttpStatus.OK, regionStatExportService.getJob(jobId));
+    }
+
+    @GetMapping("/export-jobs/{jobId}/download")
+    public ResponseEntity<InputStreamResource> downloadExport(@PathVariable String jobId) {
+        RegionStatExportJob job = regionStatExportService.getJob(jobId);
+        InputStreamResource resource = regionStatExportService.openDownload(job);
+        return ResponseEntity.ok()
+                .header("Content-Type", RegionStatExportService.CONTENT_TYPE)
+                .header("Content-Disposition", contentDisposition(job.getFileName()))
+                .body(resource);
+    }
+
+    private String contentDisposition(String fileName) {
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        return "attachment; filename*=UTF-8''" + encodedFileName;
     }
 }
\ No newline at end of file
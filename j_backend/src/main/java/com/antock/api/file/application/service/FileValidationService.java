@@ -2,18 +2,24 @@ package com.antock.api.file.application.service;
 
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.utils.CharsetDetector;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FileValidationService {
 
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(
@@ -32,6 +38,10 @@ public class FileValidationService {
 
     private static final Pattern INVALID_FILENAME_PATTERN = Pattern.compile("[<>:\"/\\|?*]");
 
+    private static final double MIN_CSV_ENCODING_CONFIDENCE = 0.9;
+
+    private final CharsetDetector charsetDetector;
+
     @Value("${file.upload.max-size:10485760}")
     private long maxFileSize;
 
@@ -44,6 +54,7 @@ public class FileValidationService {
         validateFileSize(file.getSize());
         validateFileExtension(file.getOriginalFilename());
         validateContentType(file.getContentType());
+        validateCsvEncoding(file);
     }
 
     private void validateFileExists(MultipartFile file) {
@@ -139,6 +150,24 @@ public class FileValidationService {
         }
     }
 
+    private void validateCsvEncoding(MultipartFile file) {
+        if (!"csv".equalsIgnoreCase(extractExtension(file.getOriginalFilename()))) {
+            return;
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(file.getInputStream(), CharsetDetector.DEFAULT_SAMPLE_SIZE)) {
+            CharsetDetector.Detection detection = charsetDetector.detect(inputStream);
+            if (!detection.isAsciiOnly() && detection.getConfidence() < MIN_CSV_ENCODING_CONFIDENCE) {
+                log.warn("CSV 파일 인코딩을 확인할 수 없습니다: {} ({})", file.getOriginalFilename(), detection);
+                throw new BusinessException(ErrorCode.INVALID_FILE_TYPE,
+                        "CSV 파일의 문자 인코딩을 확인할 수 없습니다. UTF-8 또는 EUC-KR(CP949) 파일만 업로드할 수 있습니다.");
+            }
+        } catch (IOException e) {
+            log.warn("CSV 파일을 읽을 수 없습니다: {}", file.getOriginalFilename(), e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_ERROR, "CSV 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
     public String extractExtension(String fileName) {
         if (!StringUtils.hasText(fileName)) {
             return "";
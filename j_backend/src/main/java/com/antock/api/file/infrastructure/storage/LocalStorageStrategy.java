@@ -32,6 +32,17 @@ public class LocalStorageStrategy implements FileStorageStrategy {
         return storedFileName;
     }
 
+    @Override
+    public String uploadFile(Path source, String storedFileName, String contentType) throws Exception {
+        createDirectoryIfNotExists();
+
+        Path filePath = Paths.get(uploadDir, storedFileName);
+        Files.copy(source, filePath, StandardCopyOption.REPLACE_EXISTING);
+
+        log.info("파일 로컬 저장 완료: {}", filePath);
+        return storedFileName;
+    }
+
     @Override
     public InputStreamResource downloadFile(String storedFileName) throws Exception {
         Path filePath = Paths.get(uploadDir, storedFileName);
@@ -10,6 +10,8 @@ import org.springframework.core.io.InputStreamResource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -40,6 +42,23 @@ public class MinioStorageStrategy implements FileStorageStrategy {
         }
     }
 
+    @Override
+    public String uploadFile(Path source, String storedFileName, String contentType) throws Exception {
+        validateMinioAvailable();
+        createBucketIfNotExists();
+
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(storedFileName)
+                            .stream(inputStream, Files.size(source), -1)
+                            .contentType(contentType)
+                            .build());
+            return storedFileName;
+        }
+    }
+
     @Override
     public InputStreamResource downloadFile(String storedFileName) throws Exception {
         validateMinioAvailable();
@@ -1,5 +1,7 @@
 package com.antock.api.member.application.service;
 
+import com.antock.global.utils.TokenBucketRateLimiter;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -11,7 +13,6 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.Map;
 import java.util.Set;
 
@@ -20,7 +21,6 @@ import java.util.Set;
 @ConditionalOnMissingBean(RedisRateLimitService.class)
 public class InMemoryRateLimitService implements RateLimitServiceInterface, AutoCloseable {
 
-    private final ConcurrentHashMap<String, RateLimitInfo> rateLimitMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, BlockInfo> blockedIdentifiers = new ConcurrentHashMap<>();
     private final Set<String> whitelistedIdentifiers = ConcurrentHashMap.newKeySet();
     private final ConcurrentHashMap<String, ViolationTracker> violationTrackers = new ConcurrentHashMap<>();
@@ -42,12 +42,20 @@ public class InMemoryRateLimitService implements RateLimitServiceInterface, Auto
     @Value("${custom.security.rate-limit.violation-window-minutes:60}")
     private long violationWindowMinutes;
 
+    private TokenBucketRateLimiter<String> rateLimiter;
+
     public InMemoryRateLimitService() {
         scheduler.scheduleAtFixedRate(this::cleanupExpiredEntries, 1, 1, TimeUnit.MINUTES);
         scheduler.scheduleAtFixedRate(this::cleanupExpiredBlocks, 5, 5, TimeUnit.MINUTES);
         scheduler.scheduleAtFixedRate(this::logSecurityMetrics, 10, 10, TimeUnit.MINUTES);
     }
 
+    @PostConstruct
+    public void init() {
+        rateLimiter = new TokenBucketRateLimiter<>(requestsPerMinute, burstCapacity);
+        log.info("메모리 rate limiter 초기화 - 분당 {}건, 버스트 {}건", requestsPerMinute, burstCapacity);
+    }
+
     @Override
     public boolean isRedisAvailable() {
         return false;
@@ -69,16 +77,7 @@ public class InMemoryRateLimitService implements RateLimitServiceInterface, Auto
             throw new SecurityException(errorMsg);
         }
 
-        String key = generateKey(identifier, action);
-        RateLimitInfo info = rateLimitMap.computeIfAbsent(key, k -> new RateLimitInfo(0, LocalDateTime.now()));
-
-        LocalDateTime now = LocalDateTime.now();
-
-        if (info.getCreatedAt().plusMinutes(1).isBefore(now)) {
-            info.reset(now);
-        }
-
-        if (info.getCount() >= requestsPerMinute) {
+        if (!rateLimiter.tryAcquire(generateKey(identifier, action))) {
             trackViolation(identifier, action);
 
             if (shouldAutoBlock(identifier)) {
@@ -88,25 +87,17 @@ public class InMemoryRateLimitService implements RateLimitServiceInterface, Auto
 
             throw new SecurityException("Rate limit exceeded for identifier: " + identifier);
         }
-
-        info.incrementCount();
     }
 
     @Override
     public int getCurrentCount(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        RateLimitInfo info = rateLimitMap.get(key);
-        return info != null ? info.getCount() : 0;
+        return rateLimiter.getUsedPermits(generateKey(identifier, action));
     }
 
     @Override
     public void resetLimit(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        RateLimitInfo info = rateLimitMap.get(key);
-        if (info != null) {
-            info.reset(LocalDateTime.now());
-            log.info("Rate limit reset for identifier: {} action: {}", identifier, action);
-        }
+        rateLimiter.reset(generateKey(identifier, action));
+        log.info("Rate limit reset for identifier: {} action: {}", identifier, action);
     }
 
     @Override
@@ -205,9 +196,8 @@ public class InMemoryRateLimitService implements RateLimitServiceInterface, Auto
 
     private void cleanupExpiredEntries() {
         try {
-            LocalDateTime cutoff = LocalDateTime.now().minusMinutes(5);
-            rateLimitMap.entrySet().removeIf(entry ->
-                    entry.getValue().getCreatedAt().isBefore(cutoff));
+            int removed = rateLimiter.removeIdle();
+            log.debug("유휴 rate limit 항목 정리: {}건 제거, 남은 항목: {}건", removed, rateLimiter.size());
         } catch (Exception e) {
             log.error("만료된 rate limit 항목 정리 중 오류 발생", e);
         }
@@ -255,33 +245,6 @@ public class InMemoryRateLimitService implements RateLimitServiceInterface, Auto
         }
     }
 
-    private static class RateLimitInfo {
-        private final AtomicInteger count;
-        private final AtomicReference<LocalDateTime> createdAt;
-
-        RateLimitInfo(int count, LocalDateTime createdAt) {
-            this.count = new AtomicInteger(count);
-            this.createdAt = new AtomicReference<>(createdAt);
-        }
-
-        void incrementCount() {
-            count.incrementAndGet();
-        }
-
-        int getCount() {
-            return count.get();
-        }
-
-        LocalDateTime getCreatedAt() {
-            return createdAt.get();
-        }
-
-        void reset(LocalDateTime newTime) {
-            count.set(0);
-            createdAt.set(newTime);
-        }
-    }
-
     private static class BlockInfo {
         private final String reason;
         private final long expiryTime;
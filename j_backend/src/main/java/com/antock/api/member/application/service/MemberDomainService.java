@@ -6,6 +6,7 @@ import com.antock.api.member.value.MemberStatus;
 import com.antock.api.member.value.Role;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.security.MemberSecurityStatusCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -27,6 +28,7 @@ public class MemberDomainService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberSecurityStatusCache memberSecurityStatusCache;
 
     @Transactional
     public Member createMember(String username, String password, String nickname, String email) {
@@ -109,6 +111,7 @@ public class MemberDomainService {
 
         member.approve(approverId);
         Member savedMember = memberRepository.save(member);
+        memberSecurityStatusCache.evict(member.getUsername());
 
         log.info("회원 승인 완료: memberId={}, approverId={}, status={}",
                 memberId, approverId, savedMember.getStatus());
@@ -122,6 +125,7 @@ public class MemberDomainService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         member.reject();
+        memberSecurityStatusCache.evict(member.getUsername());
         return memberRepository.save(member);
     }
 
@@ -131,6 +135,7 @@ public class MemberDomainService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         member.suspend();
+        memberSecurityStatusCache.evict(member.getUsername());
         return memberRepository.save(member);
     }
 
@@ -153,6 +158,7 @@ public class MemberDomainService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         member.changeRole(role);
+        memberSecurityStatusCache.evict(member.getUsername());
         return memberRepository.save(member);
     }
 
@@ -169,16 +175,19 @@ public class MemberDomainService {
             member.unlock();
         }
 
+        memberSecurityStatusCache.evict(member.getUsername());
         return memberRepository.save(member);
     }
 
     @Transactional
     public Member save(Member member) {
+        memberSecurityStatusCache.evict(member.getUsername());
         return memberRepository.save(member);
     }
 
     @Transactional
     public Member saveAndFlush(Member member) {
+        memberSecurityStatusCache.evict(member.getUsername());
         return memberRepository.saveAndFlush(member);
     }
 
@@ -352,6 +361,7 @@ public class MemberDomainService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         member.resetToPending();
+        memberSecurityStatusCache.evict(member.getUsername());
         return memberRepository.save(member);
     }
 
@@ -8,6 +8,7 @@ import com.antock.api.member.infrastructure.MemberRepository;
 import com.antock.api.member.value.Role;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.security.MemberSecurityStatusCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
@@ -21,14 +22,17 @@ public class MemberManagementService {
     private final MemberDomainService memberDomainService;
     private final MemberCacheService memberCacheService;
     private final MemberRepository memberRepository;
+    private final MemberSecurityStatusCache memberSecurityStatusCache;
 
     @Autowired
     public MemberManagementService(MemberDomainService memberDomainService,
                                    @Autowired(required = false) MemberCacheService memberCacheService,
-                                   MemberRepository memberRepository) {
+                                   MemberRepository memberRepository,
+                                   MemberSecurityStatusCache memberSecurityStatusCache) {
         this.memberDomainService = memberDomainService;
         this.memberCacheService = memberCacheService;
         this.memberRepository = memberRepository;
+        this.memberSecurityStatusCache = memberSecurityStatusCache;
     }
 
     @Transactional
@@ -129,6 +133,7 @@ public class MemberManagementService {
         member.changeRole(newRole);
 
         Member savedMember = memberRepository.save(member);
+        memberSecurityStatusCache.evict(member.getUsername());
 
         if (memberCacheService != null) {
             memberCacheService.evictMemberCache(savedMember.getId());
@@ -7,6 +7,7 @@ import com.antock.api.member.infrastructure.MemberPasswordHistoryRepository;
 import com.antock.api.member.infrastructure.MemberRepository;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.security.MemberSecurityStatusCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +26,7 @@ public class MemberPasswordService {
     private final MemberRepository memberRepository;
     private final MemberPasswordHistoryRepository passwordHistoryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberSecurityStatusCache memberSecurityStatusCache;
 
     private static final int MAX_DAILY_PASSWORD_CHANGES = 3;
     private static final int PASSWORD_HISTORY_CHECK_COUNT = 5;
@@ -61,6 +63,7 @@ public class MemberPasswordService {
 
         member.changePassword(encodedNewPassword);
         memberRepository.save(member);
+        memberSecurityStatusCache.evict(member.getUsername());
     }
 
     private void validatePasswordChangeRequest(MemberPasswordChangeRequest request) {
@@ -13,6 +13,7 @@ import com.antock.api.member.infrastructure.MemberPasswordHistoryRepository;
 import com.antock.api.member.infrastructure.PasswordResetTokenRepository;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.security.MemberSecurityStatusCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -36,6 +37,7 @@ public class PasswordFindService {
         private final MemberPasswordHistoryRepository passwordHistoryRepository;
         private final PasswordEncoder passwordEncoder;
         private final JavaMailSender mailSender;
+        private final MemberSecurityStatusCache memberSecurityStatusCache;
 
         @Value("${app.password-reset.expiry-minutes:30}")
         private int tokenExpiryMinutes;
@@ -159,6 +161,7 @@ public class PasswordFindService {
 
                         log.info("회원 정보 저장 시작");
                         memberRepository.save(member);
+                        memberSecurityStatusCache.evict(member.getUsername());
                         log.info("회원 정보 저장 완료");
 
                         log.info("토큰 사용 처리 시작");
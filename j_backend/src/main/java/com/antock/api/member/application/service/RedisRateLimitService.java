@@ -1,16 +1,20 @@
 package com.antock.api.member.application.service;
 
+import com.antock.global.utils.TokenBucketRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -22,7 +26,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -63,7 +66,6 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
     private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
     private final AtomicInteger cleanupCount = new AtomicInteger(0);
 
-    private final ConcurrentHashMap<String, RateLimitInfo> memoryCache = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, BlockInfo> blockedIdentifiers = new ConcurrentHashMap<>();
     private final Set<String> whitelistedIdentifiers = ConcurrentHashMap.newKeySet();
     private final ConcurrentHashMap<String, ViolationTracker> violationTrackers = new ConcurrentHashMap<>();
@@ -71,20 +73,47 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
     private static final int MAX_CONSECUTIVE_FAILURES = 5;
     private static final long HEALTH_CHECK_TIMEOUT_MS = 2000;
 
-    private static final String RATE_LIMIT_SCRIPT = "local key = KEYS[1] " +
-            "local limit = tonumber(ARGV[1]) " +
-            "local window = tonumber(ARGV[2]) " +
-            "local current = redis.call('GET', key) " +
-            "if current == false then " +
-            "  redis.call('SETEX', key, window, '1') " +
-            "  return 1 " +
+    private static final long ADMITTED = 0;
+    private static final long WHITELISTED = 1;
+    private static final long BLOCKED = 2;
+    private static final long LIMITED = 3;
+    private static final long LIMITED_AND_BLOCKED = 4;
+
+    private static final String AUTO_BLOCK_REASON = "자동 차단: Rate limit 위반 횟수 초과";
+
+    private static final String ADMISSION_SCRIPT = "if redis.replicate_commands then redis.replicate_commands() end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return {1, 0} " +
+            "end " +
+            "local reason = redis.call('GET', KEYS[2]) " +
+            "if reason then " +
+            "  return {2, redis.call('TTL', KEYS[2]), reason} " +
+            "end " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000000 + tonumber(time[2]) " +
+            "local interval = tonumber(ARGV[1]) " +
+            "local tolerance = tonumber(ARGV[2]) " +
+            "local tat = tonumber(redis.call('GET', KEYS[3]) or now) " +
+            "if tat < now then " +
+            "  tat = now " +
+            "end " +
+            "if tat - now <= tolerance then " +
+            "  local newTat = tat + interval " +
+            "  redis.call('SET', KEYS[3], string.format('%.0f', newTat), 'PX', math.ceil((newTat - now) / 1000)) " +
+            "  return {0, math.ceil((newTat - now) / interval)} " +
             "end " +
-            "local count = tonumber(current) " +
-            "if count >= limit then " +
-            "  return -1 " +
+            "local violations = redis.call('INCR', KEYS[4]) " +
+            "if violations == 1 then " +
+            "  redis.call('EXPIRE', KEYS[4], ARGV[5]) " +
             "end " +
-            "redis.call('INCR', key) " +
-            "return count + 1";
+            "if violations >= tonumber(ARGV[3]) then " +
+            "  redis.call('SET', KEYS[2], ARGV[6], 'EX', ARGV[4]) " +
+            "  redis.call('DEL', KEYS[4]) " +
+            "  return {4, violations} " +
+            "end " +
+            "return {3, violations}";
+
+    private static final RedisScript<List> ADMISSION = new DefaultRedisScript<>(ADMISSION_SCRIPT, List.class);
 
     private static final String BLOCK_SCRIPT = "local blockKey = KEYS[1] " +
             "local reason = ARGV[1] " +
@@ -92,12 +121,48 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
             "redis.call('SETEX', blockKey, expiry, reason) " +
             "return 1";
 
+    private static final RedisScript<Long> BLOCK = new DefaultRedisScript<>(BLOCK_SCRIPT, Long.class);
+
     private static final String UNBLOCK_SCRIPT = "local blockKey = KEYS[1] " +
             "redis.call('DEL', blockKey) " +
             "return 1";
 
+    private static final RedisScript<Long> UNBLOCK = new DefaultRedisScript<>(UNBLOCK_SCRIPT, Long.class);
+
+    private static final String USAGE_SCRIPT = "local tat = redis.call('GET', KEYS[1]) " +
+            "if not tat then " +
+            "  return 0 " +
+            "end " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000000 + tonumber(time[2]) " +
+            "local backlog = tonumber(tat) - now " +
+            "if backlog <= 0 then " +
+            "  return 0 " +
+            "end " +
+            "return math.ceil(backlog / tonumber(ARGV[1]))";
+
+    private static final RedisScript<Long> USAGE = new DefaultRedisScript<>(USAGE_SCRIPT, Long.class);
+
+    private Object[] admissionArgs;
+    private Object[] usageArgs;
+
+    // Redis 스크립트와 같은 GCRA 규칙(분당 허용량, 버스트)으로 메모리 fallback 판정
+    private TokenBucketRateLimiter<String> memoryLimiter;
+
     @PostConstruct
     public void init() {
+        memoryLimiter = new TokenBucketRateLimiter<>(Math.max(1, requestsPerMinute), burstCapacity);
+        long emissionIntervalMicros = TimeUnit.MINUTES.toMicros(1) / Math.max(1, requestsPerMinute);
+        admissionArgs = new Object[] {
+                String.valueOf(emissionIntervalMicros),
+                String.valueOf(emissionIntervalMicros * (Math.max(1, burstCapacity) - 1)),
+                String.valueOf(maxViolationsBeforeBlock),
+                String.valueOf(defaultBlockDurationMinutes * 60),
+                String.valueOf(violationWindowMinutes * 60),
+                AUTO_BLOCK_REASON
+        };
+        usageArgs = new Object[] { String.valueOf(emissionIntervalMicros) };
+
         if (redisEnabled && redisTemplate != null) {
             initializeRedisConnection();
         } else {
@@ -108,6 +173,7 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
     private void initializeRedisConnection() {
         try {
             if (checkRedisConnection()) {
+                preloadScripts();
                 useRedis.set(true);
                 consecutiveFailures.set(0);
                 log.info("Redis 연결 성공 - Redis 기반 rate limiting을 사용합니다.");
@@ -120,6 +186,16 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
         }
     }
 
+    private void preloadScripts() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            for (RedisScript<?> script : List.of(ADMISSION, BLOCK, UNBLOCK, USAGE)) {
+                connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        log.info("Rate limit Lua 스크립트 사전 로드 완료 - admission sha: {}", ADMISSION.getSha1());
+    }
+
     @Override
     public boolean isRedisAvailable() {
         return useRedis.get() && checkRedisConnection();
@@ -127,30 +203,23 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
 
     @Override
     public void checkRateLimit(String identifier, String action) {
-        if (isWhitelisted(identifier)) {
-            log.debug("화이트리스트된 식별자 {} - rate limiting 건너뜀", identifier);
-            return;
-        }
-
-        if (isIdentifierBlocked(identifier)) {
-            BlockInfo blockInfo = blockedIdentifiers.get(identifier);
-            String errorMsg = String.format("식별자 %s가 차단됨. 사유: %s, 만료시간: %s",
-                    identifier, blockInfo.getReason(),
-                    LocalDateTime.ofEpochSecond(blockInfo.getExpiryTime(), 0, java.time.ZoneOffset.UTC));
-            log.warn(errorMsg);
-            throw new SecurityException(errorMsg);
-        }
-
         if (useRedis.get()) {
+            // Redis 쓰기 실패로 메모리에만 기록된 화이트리스트/차단 항목을 먼저 반영
+            if (isWhitelistedWithMemory(identifier)) {
+                log.debug("화이트리스트된 식별자 {} - rate limiting 건너뜀", identifier);
+                return;
+            }
+            rejectIfBlockedInMemory(identifier);
             try {
                 checkRateLimitWithRedis(identifier, action);
+                return;
+            } catch (SecurityException e) {
+                throw e;
             } catch (Exception e) {
                 handleRedisFailure("Rate limit 확인 실패", identifier, action, e);
-                checkRateLimitWithMemory(identifier, action);
             }
-        } else {
-            checkRateLimitWithMemory(identifier, action);
         }
+        checkRateLimitWithMemory(identifier, action);
     }
 
     @Override
@@ -201,18 +270,16 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
                 unblockIdentifierWithRedis(identifier);
             } catch (Exception e) {
                 log.warn("Redis에서 차단 해제 실패, 메모리에서 처리: {}", e.getMessage());
-                unblockIdentifierWithMemory(identifier);
             }
-        } else {
-            unblockIdentifierWithMemory(identifier);
         }
+        unblockIdentifierWithMemory(identifier);
     }
 
     @Override
     public boolean isIdentifierBlocked(String identifier) {
         if (useRedis.get()) {
             try {
-                return isIdentifierBlockedWithRedis(identifier);
+                return isIdentifierBlockedWithMemory(identifier) || isIdentifierBlockedWithRedis(identifier);
             } catch (Exception e) {
                 log.warn("Redis에서 차단 상태 확인 실패, 메모리에서 확인: {}", e.getMessage());
                 return isIdentifierBlockedWithMemory(identifier);
@@ -242,18 +309,16 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
                 removeFromWhitelistWithRedis(identifier);
             } catch (Exception e) {
                 log.warn("Redis에서 화이트리스트 제거 실패, 메모리에서 처리: {}", e.getMessage());
-                removeFromWhitelistWithMemory(identifier);
             }
-        } else {
-            removeFromWhitelistWithMemory(identifier);
         }
+        removeFromWhitelistWithMemory(identifier);
     }
 
     @Override
     public boolean isWhitelisted(String identifier) {
         if (useRedis.get()) {
             try {
-                return isWhitelistedWithRedis(identifier);
+                return isWhitelistedWithMemory(identifier) || isWhitelistedWithRedis(identifier);
             } catch (Exception e) {
                 log.warn("Redis에서 화이트리스트 확인 실패, 메모리에서 확인: {}", e.getMessage());
                 return isWhitelistedWithMemory(identifier);
@@ -276,90 +341,92 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
     }
 
     private void checkRateLimitWithRedis(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        RedisScript<Long> script = new DefaultRedisScript<>(RATE_LIMIT_SCRIPT, Long.class);
+        List<String> keys = Arrays.asList(whitelistKey(identifier), blockKey(identifier),
+                rateKey(identifier, action), violationKey(identifier));
 
-        List<String> keys = Arrays.asList(key);
-        List<String> args = Arrays.asList(String.valueOf(requestsPerMinute), "60");
+        List<?> result = redisTemplate.execute(ADMISSION, keys, admissionArgs);
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("Rate limit 스크립트 결과가 비어 있습니다");
+        }
 
-        Long result = redisTemplate.execute(script, keys, args.toArray());
-        if (result == null || result < 0) {
-            trackViolation(identifier, action);
-            if (shouldAutoBlock(identifier)) {
-                blockIdentifier(identifier, "자동 차단: Rate limit 위반 횟수 초과", defaultBlockDurationMinutes);
-            }
-            throw new SecurityException("Rate limit exceeded for identifier: " + identifier);
+        long status = ((Number) result.get(0)).longValue();
+        long value = result.size() > 1 ? ((Number) result.get(1)).longValue() : 0;
+
+        if (status == ADMITTED) {
+            return;
+        }
+        if (status == WHITELISTED) {
+            log.debug("화이트리스트된 식별자 {} - rate limiting 건너뜀", identifier);
+            return;
+        }
+        if (status == BLOCKED) {
+            String errorMsg = String.format("식별자 %s가 차단됨. 사유: %s, 남은 시간: %d초",
+                    identifier, result.size() > 2 ? result.get(2) : "", value);
+            log.warn(errorMsg);
+            throw new SecurityException(errorMsg);
         }
+
+        log.warn("Rate limit 위반 기록: 식별자 {}, 액션 {}, 윈도우 내 위반 횟수: {}", identifier, action, value);
+        if (status == LIMITED_AND_BLOCKED) {
+            log.warn("식별자 {}가 자동으로 차단됨. 위반 횟수: {}", identifier, value);
+        }
+        throw new SecurityException("Rate limit exceeded for identifier: " + identifier);
     }
 
     private void blockIdentifierWithRedis(String identifier, String reason, long blockDurationMinutes) {
-        String blockKey = keyPrefix + "block:" + identifier;
-        RedisScript<Long> script = new DefaultRedisScript<>(BLOCK_SCRIPT, Long.class);
-
-        List<String> keys = Arrays.asList(blockKey);
+        List<String> keys = Arrays.asList(blockKey(identifier));
         List<String> args = Arrays.asList(reason, String.valueOf(blockDurationMinutes * 60));
-        redisTemplate.execute(script, keys, args.toArray());
+        redisTemplate.execute(BLOCK, keys, args.toArray());
         log.info("식별자 {}가 Redis에서 차단됨", identifier);
     }
 
     private void unblockIdentifierWithRedis(String identifier) {
-        String blockKey = keyPrefix + "block:" + identifier;
-        RedisScript<Long> script = new DefaultRedisScript<>(UNBLOCK_SCRIPT, Long.class);
-
-        List<String> keys = Arrays.asList(blockKey);
-        List<String> args = Arrays.asList();
-        redisTemplate.execute(script, keys, args.toArray());
+        List<String> keys = Arrays.asList(blockKey(identifier));
+        redisTemplate.execute(UNBLOCK, keys);
         log.info("식별자 {}의 차단이 Redis에서 해제됨", identifier);
     }
 
     private boolean isIdentifierBlockedWithRedis(String identifier) {
-        String blockKey = keyPrefix + "block:" + identifier;
-        String blockInfo = redisTemplate.opsForValue().get(blockKey);
+        String blockInfo = redisTemplate.opsForValue().get(blockKey(identifier));
         return blockInfo != null;
     }
 
     private void addToWhitelistWithRedis(String identifier) {
-        String whitelistKey = keyPrefix + "whitelist:" + identifier;
-        redisTemplate.opsForValue().set(whitelistKey, "1");
+        redisTemplate.opsForValue().set(whitelistKey(identifier), "1");
         log.info("식별자 {}가 Redis 화이트리스트에 추가됨", identifier);
     }
 
     private void removeFromWhitelistWithRedis(String identifier) {
-        String whitelistKey = keyPrefix + "whitelist:" + identifier;
-        redisTemplate.delete(whitelistKey);
+        redisTemplate.delete(whitelistKey(identifier));
         log.info("식별자 {}가 Redis 화이트리스트에서 제거됨", identifier);
     }
 
     private boolean isWhitelistedWithRedis(String identifier) {
-        String whitelistKey = keyPrefix + "whitelist:" + identifier;
-        String result = redisTemplate.opsForValue().get(whitelistKey);
+        String result = redisTemplate.opsForValue().get(whitelistKey(identifier));
         return result != null;
     }
 
     private RateLimitSecurityInfo getSecurityInfoWithRedis(String identifier) {
-        String blockKey = keyPrefix + "block:" + identifier;
-        String whitelistKey = keyPrefix + "whitelist:" + identifier;
-
-        String blockReason = redisTemplate.opsForValue().get(blockKey);
-        String whitelistStatus = redisTemplate.opsForValue().get(whitelistKey);
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                Arrays.asList(blockKey(identifier), whitelistKey(identifier), violationKey(identifier)));
 
+        String blockReason = values != null ? values.get(0) : null;
         boolean isBlocked = blockReason != null;
-        boolean isWhitelisted = whitelistStatus != null;
+        boolean isWhitelisted = values != null && values.get(1) != null;
+        int violationCount = values != null && values.get(2) != null ? Integer.parseInt(values.get(2)) : 0;
 
-        return new RateLimitSecurityInfo(isBlocked, blockReason, 0, isWhitelisted, 0, 0);
+        return new RateLimitSecurityInfo(isBlocked, blockReason, 0, isWhitelisted, violationCount, 0);
     }
 
     private void checkRateLimitWithMemory(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        RateLimitInfo info = memoryCache.computeIfAbsent(key, k -> new RateLimitInfo(0, LocalDateTime.now()));
-
-        LocalDateTime now = LocalDateTime.now();
-
-        if (info.getCreatedAt().plusMinutes(1).isBefore(now)) {
-            info.reset(now);
+        if (isWhitelistedWithMemory(identifier)) {
+            log.debug("화이트리스트된 식별자 {} - rate limiting 건너뜀", identifier);
+            return;
         }
 
-        if (info.getCount() >= requestsPerMinute) {
+        rejectIfBlockedInMemory(identifier);
+
+        if (!memoryLimiter.tryAcquire(generateKey(identifier, action))) {
             trackViolation(identifier, action);
 
             if (shouldAutoBlock(identifier)) {
@@ -369,8 +436,18 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
 
             throw new SecurityException("Rate limit exceeded for identifier: " + identifier);
         }
+    }
 
-        info.incrementCount();
+    private void rejectIfBlockedInMemory(String identifier) {
+        if (!isIdentifierBlockedWithMemory(identifier)) {
+            return;
+        }
+        BlockInfo blockInfo = blockedIdentifiers.get(identifier);
+        String errorMsg = String.format("식별자 %s가 차단됨. 사유: %s, 만료시간: %s",
+                identifier, blockInfo != null ? blockInfo.getReason() : "",
+                blockInfo != null ? LocalDateTime.ofEpochSecond(blockInfo.getExpiryTime(), 0, java.time.ZoneOffset.UTC) : "");
+        log.warn(errorMsg);
+        throw new SecurityException(errorMsg);
     }
 
     private void blockIdentifierWithMemory(String identifier, String reason, long blockDurationMinutes) {
@@ -461,22 +538,23 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
     }
 
     private void cleanupIdentifierData(String identifier) {
-        memoryCache.entrySet().removeIf(entry -> entry.getKey().startsWith(identifier + ":"));
         violationTrackers.remove(identifier);
     }
 
     private int getCurrentCountWithMemory(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        RateLimitInfo info = memoryCache.get(key);
-        return info != null ? info.getCount() : 0;
+        return memoryLimiter.getUsedPermits(generateKey(identifier, action));
     }
 
     private void resetLimitWithMemory(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        RateLimitInfo info = memoryCache.get(key);
-        if (info != null) {
-            info.reset(LocalDateTime.now());
-            log.info("Rate limit reset for identifier: {} action: {} (memory)", identifier, action);
+        memoryLimiter.reset(generateKey(identifier, action));
+        log.info("Rate limit reset for identifier: {} action: {} (memory)", identifier, action);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void cleanupIdleMemoryBuckets() {
+        int removed = memoryLimiter.removeIdle();
+        if (removed > 0) {
+            log.debug("유휴 메모리 rate limit 항목 정리: {}건 제거, 남은 항목: {}건", removed, memoryLimiter.size());
         }
     }
 
@@ -493,18 +571,19 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
         useRedis.set(false);
         log.warn("Redis에서 메모리 fallback으로 전환: {}", reason);
 
-        if (memoryCache.size() > memoryCacheLimit) {
+        if (memoryLimiter.size() > memoryCacheLimit) {
             cleanupMemoryCache();
         }
     }
 
     private void cleanupMemoryCache() {
-        int beforeSize = memoryCache.size();
-        memoryCache.clear();
+        int beforeSize = memoryLimiter.size();
+        // 사용 중인 버킷까지 비우면 한도가 초기화되어 과다 허용되므로 유휴 버킷만 제거
+        memoryLimiter.removeIdle();
         blockedIdentifiers.clear();
         whitelistedIdentifiers.clear();
         violationTrackers.clear();
-        log.info("메모리 캐시 정리 완료: {} -> 0", beforeSize);
+        log.info("메모리 캐시 정리 완료: {} -> {}", beforeSize, memoryLimiter.size());
     }
 
     private boolean checkRedisConnection() {
@@ -526,31 +605,20 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
         return identifier + ":" + action;
     }
 
-    private static class RateLimitInfo {
-        private final AtomicInteger count;
-        private final AtomicReference<LocalDateTime> createdAt;
-
-        RateLimitInfo(int count, LocalDateTime createdAt) {
-            this.count = new AtomicInteger(count);
-            this.createdAt = new AtomicReference<>(createdAt);
-        }
-
-        void incrementCount() {
-            count.incrementAndGet();
-        }
+    private String rateKey(String identifier, String action) {
+        return keyPrefix + "gcra:" + generateKey(identifier, action);
+    }
 
-        int getCount() {
-            return count.get();
-        }
+    private String blockKey(String identifier) {
+        return keyPrefix + "block:" + identifier;
+    }
 
-        LocalDateTime getCreatedAt() {
-            return createdAt.get();
-        }
+    private String whitelistKey(String identifier) {
+        return keyPrefix + "whitelist:" + identifier;
+    }
 
-        void reset(LocalDateTime newTime) {
-            count.set(0);
-            createdAt.set(newTime);
-        }
+    private String violationKey(String identifier) {
+        return keyPrefix + "violation:" + identifier;
     }
 
     private static class BlockInfo {
@@ -604,14 +672,12 @@ public class RedisRateLimitService implements RateLimitServiceInterface {
     }
 
     private int getCurrentCountWithRedis(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        String count = redisTemplate.opsForValue().get(key);
-        return count != null ? Integer.parseInt(count) : 0;
+        Long used = redisTemplate.execute(USAGE, List.of(rateKey(identifier, action)), usageArgs);
+        return used != null ? (int) Math.min(Integer.MAX_VALUE, used) : 0;
     }
 
     private void resetLimitWithRedis(String identifier, String action) {
-        String key = generateKey(identifier, action);
-        redisTemplate.delete(key);
+        redisTemplate.delete(rateKey(identifier, action));
         log.info("Rate limit reset for identifier: {} action: {} (Redis)", identifier, action);
     }
 }
\ No newline at end of file
@@ -138,8 +138,7 @@ public class Member extends BaseTimeEntity {
             return true;
         }
 
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        boolean isRequired = this.passwordChangedAt.isBefore(thirtyDaysAgo);
+        boolean isRequired = isPasswordExpired(this.passwordChangedAt, LocalDateTime.now());
 
         log.debug("비밀번호 변경 필요 여부: memberId={}, passwordChangedAt={}, required={}",
                 getId(), this.passwordChangedAt, isRequired);
@@ -147,6 +146,10 @@ public class Member extends BaseTimeEntity {
         return isRequired;
     }
 
+    public static boolean isPasswordExpired(LocalDateTime passwordChangedAt, LocalDateTime now) {
+        return passwordChangedAt == null || passwordChangedAt.isBefore(now.minusDays(30));
+    }
+
     public boolean isPasswordChangeRecommended() {
         if (this.passwordChangedAt == null) {
             log.debug("비밀번호 변경 권장 - 최초 변경 안함: memberId={}", getId());
@@ -0,0 +1,42 @@
+package com.antock.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class AppCacheProperties {
+
+    private long purgeIntervalMs = 60000;
+    private Region defaults = new Region(1000, Duration.ofMinutes(10));
+    private Map<String, Region> regions = defaultRegions();
+
+    private static Map<String, Region> defaultRegions() {
+        Map<String, Region> regions = new LinkedHashMap<>();
+        regions.put("corpMastSearchPage", new Region(500, Duration.ofMinutes(5)));
+        regions.put("corpMastSearchPagination", new Region(500, Duration.ofMinutes(5)));
+        regions.put("corpMastStatistics", new Region(200, Duration.ofMinutes(5)));
+        regions.put("corpMastById", new Region(5000, Duration.ofMinutes(30)));
+        regions.put("corpMastByBizNo", new Region(5000, Duration.ofMinutes(30)));
+        regions.put("corpMastByCorpRegNo", new Region(5000, Duration.ofMinutes(30)));
+        regions.put("corpMastCities", new Region(1, Duration.ofHours(1)));
+        regions.put("corpMastDistricts", new Region(50, Duration.ofHours(1)));
+        return regions;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private int maxEntries;
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,122 @@
+package com.antock.global.cache;
+
+import com.antock.global.utils.LruTtlCache;
+import com.antock.global.utils.SingleFlight;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+public class BoundedCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LruTtlCache<Object, Object> store;
+    private final SingleFlight<Object, Object> loads = new SingleFlight<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public BoundedCache(String name, int maxEntries, Duration ttl) {
+        super(true);
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.store = new LruTtlCache<>(maxEntries);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = store.get(key);
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        return (T) fromStoreValue(loads.execute(key, () -> load(key, valueLoader)));
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        Object existing = store.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            Object value = toStoreValue(valueLoader.call());
+            store.put(key, value, ttlMillis);
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store.put(key, toStoreValue(value), ttlMillis);
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    public int evictIf(Predicate<Object> keyPredicate) {
+        return store.invalidateIf(keyPredicate);
+    }
+
+    public int purgeExpired() {
+        return store.purgeExpired();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public int getSize() {
+        return store.size();
+    }
+
+    public long getEvictionCount() {
+        return store.getEvictionCount();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,54 @@
+package com.antock.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.cache.support.NoOpCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class BoundedCacheManager extends AbstractCacheManager {
+
+    private final Map<String, AppCacheProperties.Region> regions;
+    private final AppCacheProperties.Region defaults;
+
+    public BoundedCacheManager(AppCacheProperties properties) {
+        this.regions = properties.getRegions();
+        this.defaults = properties.getDefaults();
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>(regions.size());
+        regions.forEach((name, region) -> caches.add(create(name, region)));
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        log.info("설정되지 않은 캐시 영역 '{}'은 캐싱하지 않습니다 (app.cache.regions에 등록 필요)", name);
+        return new NoOpCache(name);
+    }
+
+    public int purgeExpired() {
+        int removed = 0;
+        for (String name : getCacheNames()) {
+            if (getCache(name) instanceof BoundedCache cache) {
+                removed += cache.purgeExpired();
+            }
+        }
+        return removed;
+    }
+
+    private BoundedCache create(String name, AppCacheProperties.Region region) {
+        int maxEntries = region.getMaxEntries() > 0 ? region.getMaxEntries() : defaults.getMaxEntries();
+        Duration ttl = region.getTtl() != null ? region.getTtl() : defaults.getTtl();
+        log.info("캐시 영역 생성 - {}: 최대 {}건, TTL: {}", name, maxEntries, ttl);
+        return new BoundedCache(name, maxEntries, ttl);
+    }
+}
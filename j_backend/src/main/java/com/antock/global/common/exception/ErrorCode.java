@@ -71,6 +71,10 @@ public enum ErrorCode {
     CSV_INVALID_HEADER(HttpStatus.BAD_REQUEST, "CSV004", "CSV 파일의 헤더가 올바르지 않습니다."),
     CSV_DATA_ERROR(HttpStatus.BAD_REQUEST, "CSV005", "CSV 데이터에 오류가 있습니다."),
 
+    EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "EX001", "내보내기 작업을 찾을 수 없습니다."),
+    EXPORT_JOB_NOT_READY(HttpStatus.CONFLICT, "EX002", "내보내기 작업이 아직 완료되지 않았습니다."),
+    EXPORT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "EX003", "대기 중인 내보내기 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     PASSWORD_RESET_REQUEST_FAILED(HttpStatus.BAD_REQUEST, "P0010", "비밀번호 재설정 요청에 실패했습니다."),
     PASSWORD_RESET_INVALID_TOKEN(HttpStatus.BAD_REQUEST, "P0011", "비밀번호 재설정 토큰이 유효하지 않습니다."),
     PASSWORD_RESET_EXPIRED_TOKEN(HttpStatus.BAD_REQUEST, "P0012", "비밀번호 재설정 토큰이 만료되었습니다."),
@@ -0,0 +1,32 @@
+package com.antock.global.config;
+
+import com.antock.global.cache.AppCacheProperties;
+import com.antock.global.cache.BoundedCacheManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig {
+
+    private final AppCacheProperties cacheProperties;
+
+    @Bean
+    public BoundedCacheManager cacheManager() {
+        return new BoundedCacheManager(cacheProperties);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.purge-interval-ms:60000}")
+    public void purgeExpiredEntries() {
+        int removed = cacheManager().purgeExpired();
+        if (removed > 0) {
+            log.debug("만료된 캐시 항목 {}건 제거", removed);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.antock.global.config;
 
 import com.antock.global.security.JwtTokenProvider;
+import com.antock.global.security.MemberSecurityStatusCache;
 import com.antock.global.security.filter.JwtAuthenticationFilter;
 import com.antock.global.security.handler.JwtAccessDeniedHandler;
 import com.antock.global.security.handler.JwtAuthenticationEntryPoint;
@@ -14,7 +15,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -33,7 +33,7 @@ public class SecurityConfig {
         private final JwtTokenProvider jwtTokenProvider;
         private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
         private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
-        private final UserDetailsService userDetailsService;
+        private final MemberSecurityStatusCache memberSecurityStatusCache;
         private final ObjectMapper objectMapper;
 
         @Bean
@@ -58,6 +58,7 @@ public class SecurityConfig {
 
                                                                 "/api/v1/corp/**",
                                                                 "/api/v1/region-stats/**",
+                                                                "/api/v1/dashboard/**",
                                                                 "/api/v1/files/**",
                                                                 "/api/v1/coseller/**",
                                                                 "/api/v1/health/**",
@@ -139,7 +140,7 @@ public class SecurityConfig {
 
         @Bean
         public JwtAuthenticationFilter jwtAuthenticationFilter() {
-                return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, objectMapper);
+                return new JwtAuthenticationFilter(jwtTokenProvider, memberSecurityStatusCache, objectMapper);
         }
 
         @Bean
@@ -2,10 +2,12 @@ package com.antock.global.security;
 
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.utils.LruTtlCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -33,6 +35,8 @@ public class JwtTokenProvider {
     private final boolean keyRotationEnabled;
     private final int keyRotationIntervalHours;
     private final UserDetailsService userDetailsService;
+    private final JwtParser jwtParser;
+    private final LruTtlCache<String, VerifiedToken> verifiedTokens;
 
     private final Map<String, SecretKey> rotatedKeys = new ConcurrentHashMap<>();
     private final SecureRandom secureRandom = new SecureRandom();
@@ -47,6 +51,7 @@ public class JwtTokenProvider {
             @Value("${custom.jwt.algorithm}") String algorithm,
             @Value("${custom.jwt.keyRotationEnabled}") boolean keyRotationEnabled,
             @Value("${custom.jwt.keyRotationIntervalHours}") int keyRotationIntervalHours,
+            @Value("${custom.jwt.verifiedCacheMaxEntries:10000}") int verifiedCacheMaxEntries,
             UserDetailsService userDetailsService) {
 
         this.secretKey = generateSecretKey(secretKeyString);
@@ -58,10 +63,14 @@ public class JwtTokenProvider {
         this.keyRotationEnabled = keyRotationEnabled;
         this.keyRotationIntervalHours = keyRotationIntervalHours;
         this.userDetailsService = userDetailsService;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = new LruTtlCache<>(verifiedCacheMaxEntries);
         this.lastKeyRotation = LocalDateTime.now();
 
-        log.info("JWT Token Provider initialized with algorithm: {}, issuer: {}, audience: {}",
-                algorithm, issuer, audience);
+        log.info("JWT Token Provider initialized with algorithm: {}, issuer: {}, audience: {}, verified cache size: {}",
+                algorithm, issuer, audience, verifiedCacheMaxEntries);
     }
 
     private SecretKey generateSecretKey(String secretKeyString) {
@@ -134,12 +143,18 @@ public class JwtTokenProvider {
     }
 
     public Claims parseClaims(String token) {
+        String signature = signatureOf(token);
+        if (signature != null) {
+            VerifiedToken cached = verifiedTokens.get(signature);
+            if (cached != null && cached.token.equals(token)) {
+                return cached.claims;
+            }
+        }
+
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            cacheVerified(signature, token, claims);
+            return claims;
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
@@ -158,36 +173,81 @@ public class JwtTokenProvider {
         }
     }
 
+    private void cacheVerified(String signature, String token, Claims claims) {
+        if (signature == null || claims.getExpiration() == null) {
+            return;
+        }
+        long ttlMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+        if (ttlMillis > 0) {
+            verifiedTokens.put(signature, new VerifiedToken(token, claims), ttlMillis);
+        }
+    }
+
+    private static String signatureOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        int lastDot = token.lastIndexOf('.');
+        return lastDot > 0 && lastDot < token.length() - 1 ? token.substring(lastDot + 1) : null;
+    }
+
+    public int getVerifiedCacheSize() {
+        return verifiedTokens.size();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.jwt.verifiedCachePurgeIntervalMs:60000}")
+    public void purgeExpiredVerifiedTokens() {
+        int removed = verifiedTokens.purgeExpired();
+        if (removed > 0) {
+            log.debug("Purged {} expired entries from verified token cache", removed);
+        }
+    }
+
     public boolean validateToken(String token) {
         try {
-            Claims claims = parseClaims(token);
-
-            if (claims.getExpiration().before(new Date())) {
-                log.debug("Token has expired");
-                return false;
-            }
+            return isValid(parseClaims(token));
+        } catch (Exception e) {
+            log.debug("Token validation failed: {}", e.getMessage());
+            return false;
+        }
+    }
 
-            if (claims.getNotBefore() != null && claims.getNotBefore().after(new Date())) {
-                log.debug("Token is not yet valid");
-                return false;
+    public Claims parseAccessClaims(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            if (!isValid(claims) || !"ACCESS".equals(claims.get("type", String.class))) {
+                return null;
             }
+            return claims;
+        } catch (Exception e) {
+            log.debug("Access token validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            if (!issuer.equals(claims.getIssuer())) {
-                log.warn("Invalid JWT issuer: expected {}, got {}", issuer, claims.getIssuer());
-                return false;
-            }
+    private boolean isValid(Claims claims) {
+        Date now = new Date();
+        if (claims.getExpiration().before(now)) {
+            log.debug("Token has expired");
+            return false;
+        }
 
-            if (!audience.equals(claims.getAudience())) {
-                log.warn("Invalid JWT audience: expected {}, got {}", audience, claims.getAudience());
-                return false;
-            }
+        if (claims.getNotBefore() != null && claims.getNotBefore().after(now)) {
+            log.debug("Token is not yet valid");
+            return false;
+        }
 
-            return true;
+        if (!issuer.equals(claims.getIssuer())) {
+            log.warn("Invalid JWT issuer: expected {}, got {}", issuer, claims.getIssuer());
+            return false;
+        }
 
-        } catch (Exception e) {
-            log.debug("Token validation failed: {}", e.getMessage());
+        if (!audience.equals(claims.getAudience())) {
+            log.warn("Invalid JWT audience: expected {}, got {}", audience, claims.getAudience());
             return false;
         }
+
+        return true;
     }
 
     public String getUsernameFromToken(String token) {
@@ -278,4 +338,14 @@ public class JwtTokenProvider {
             return new HashMap<>();
         }
     }
+
+    private static final class VerifiedToken {
+        private final String token;
+        private final Claims claims;
+
+        private VerifiedToken(String token, Claims claims) {
+            this.token = token;
+            this.claims = claims;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.antock.global.security;
+
+import com.antock.api.member.infrastructure.MemberRepository;
+import com.antock.global.security.dto.MemberSecurityStatus;
+import com.antock.global.utils.LruTtlCache;
+import com.antock.global.utils.SingleFlight;
+import com.antock.global.utils.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSecurityStatusCache {
+
+    private final MemberRepository memberRepository;
+    private final SingleFlight<String, MemberSecurityStatus> loads = new SingleFlight<>();
+
+    @Value("${security.member-status.ttl-ms:30000}")
+    private long ttlMillis;
+
+    @Value("${security.member-status.max-entries:10000}")
+    private int maxEntries;
+
+    private LruTtlCache<String, MemberSecurityStatus> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new LruTtlCache<>(maxEntries);
+        log.info("회원 보안 상태 캐시 초기화 - 최대 {}건, TTL: {}ms", maxEntries, ttlMillis);
+    }
+
+    public MemberSecurityStatus get(String username) {
+        MemberSecurityStatus status = cache.get(username);
+        if (status != null) {
+            return status;
+        }
+        return loads.execute(username, () -> load(username));
+    }
+
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(username));
+    }
+
+    private MemberSecurityStatus load(String username) {
+        MemberSecurityStatus status = memberRepository.findByUsername(username)
+                .map(MemberSecurityStatus::from)
+                .orElseGet(() -> MemberSecurityStatus.missing(username));
+        cache.put(username, status, ttlMillis);
+        return status;
+    }
+}
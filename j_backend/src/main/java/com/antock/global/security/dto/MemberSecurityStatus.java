@@ -0,0 +1,37 @@
+package com.antock.global.security.dto;
+
+import com.antock.api.member.domain.Member;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberSecurityStatus {
+    private final Long id;
+    private final String username;
+    private final String role;
+    private final boolean exists;
+    private final boolean active;
+    private final boolean locked;
+    private final LocalDateTime passwordChangedAt;
+
+    public static MemberSecurityStatus from(Member member) {
+        return new MemberSecurityStatus(member.getId(), member.getUsername(), member.getRole().name(),
+                true, member.isActive(), member.isLocked(), member.getPasswordChangedAt());
+    }
+
+    public static MemberSecurityStatus missing(String username) {
+        return new MemberSecurityStatus(null, username, null, false, false, false, null);
+    }
+
+    public boolean isAuthenticatable() {
+        return exists && active && !locked;
+    }
+
+    public boolean isPasswordChangeRequired() {
+        return exists && Member.isPasswordExpired(passwordChangedAt, LocalDateTime.now());
+    }
+}
@@ -1,36 +1,45 @@
 package com.antock.global.security.filter;
 
 import com.antock.global.security.JwtTokenProvider;
+import com.antock.global.security.MemberSecurityStatusCache;
+import com.antock.global.security.dto.MemberSecurityStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String ACCESS_CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".ACCESS_CLAIMS";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final MemberSecurityStatusCache memberSecurityStatusCache;
     private final ObjectMapper objectMapper;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
-            UserDetailsService userDetailsService,
+            MemberSecurityStatusCache memberSecurityStatusCache,
             ObjectMapper objectMapper) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.memberSecurityStatusCache = memberSecurityStatusCache;
         this.objectMapper = objectMapper;
     }
 
@@ -44,24 +53,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
 
             if (StringUtils.hasText(token)) {
-                if (jwtTokenProvider.validateToken(token)) {
-                    String tokenType = jwtTokenProvider.getTokenType(token);
-
-                    if ("ACCESS".equals(tokenType)) {
-                        Authentication authentication = getAuthentication(token);
-
-                        if (authentication != null && authentication.isAuthenticated()) {
-                            SecurityContextHolder.getContext().setAuthentication(authentication);
-                            log.info("인증 설정 성공 - 사용자: {}", authentication.getName());
-                        } else {
-                            log.warn("토큰에서 인증 생성 실패");
-                        }
+                Claims claims = jwtTokenProvider.parseAccessClaims(token);
+
+                if (claims != null) {
+                    Authentication authentication = getAuthentication(claims);
+
+                    if (authentication != null) {
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        request.setAttribute(ACCESS_CLAIMS_ATTRIBUTE, claims);
+                        log.debug("인증 설정 성공 - 사용자: {}", authentication.getName());
                     }
                 } else {
-                    log.warn("JWT 토큰 검증 실패 - 요청: {}", requestURI);
+                    log.debug("JWT 토큰 검증 실패 - 요청: {}", requestURI);
                 }
             } else {
-                log.info("JWT 토큰 없음 - 요청: {}", requestURI);
+                log.trace("JWT 토큰 없음 - 요청: {}", requestURI);
             }
         } catch (Exception e) {
             log.error("JWT 토큰 처리 오류 - 요청 {}: {}", requestURI, e.getMessage(), e);
@@ -93,19 +99,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private Authentication getAuthentication(String token) {
-        try {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            if (username != null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                return new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-            }
+    private Authentication getAuthentication(Claims claims) {
+        String username = claims.getSubject();
+        String role = claims.get("role", String.class);
+        if (!StringUtils.hasText(username) || !StringUtils.hasText(role)) {
+            log.warn("토큰에 사용자 또는 역할 정보가 없음");
             return null;
-        } catch (Exception e) {
-            log.error("토큰에서 인증 생성 실패: {}", e.getMessage());
+        }
+
+        MemberSecurityStatus status = memberSecurityStatusCache.get(username);
+        if (!status.isAuthenticatable()) {
+            log.warn("인증 불가 사용자의 토큰 - username: {}, exists: {}, active: {}, locked: {}",
+                    username, status.isExists(), status.isActive(), status.isLocked());
             return null;
         }
+        if (!role.equals(status.getRole())) {
+            log.warn("토큰 역할과 현재 역할 불일치 - username: {}, token: {}, current: {}",
+                    username, role, status.getRole());
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        UserDetails principal = User.withUsername(username)
+                .password("")
+                .authorities(authorities)
+                .build();
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
 
     private void clearTokenCookie(HttpServletResponse response) {
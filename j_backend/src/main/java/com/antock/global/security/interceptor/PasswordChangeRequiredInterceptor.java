@@ -1,30 +1,23 @@
 package com.antock.global.security.interceptor;
 
-import com.antock.api.member.application.service.MemberApplicationService;
-import com.antock.global.security.JwtTokenProvider;
-import jakarta.servlet.http.Cookie;
+import com.antock.global.security.MemberSecurityStatusCache;
+import com.antock.global.security.dto.MemberSecurityStatus;
+import com.antock.global.utils.PathPrefixMatcher;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.Arrays;
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PasswordChangeRequiredInterceptor implements HandlerInterceptor {
 
-    private final MemberApplicationService memberApplicationService;
-    private final JwtTokenProvider jwtTokenProvider;
-
-    private final List<String> excludePatterns = Arrays.asList(
+    private static final PathPrefixMatcher EXCLUDED_PATHS = PathPrefixMatcher.of(
             "/members/password/change",
             "/members/logout",
             "/members/login",
@@ -41,12 +34,14 @@ public class PasswordChangeRequiredInterceptor implements HandlerInterceptor {
             "/error"
     );
 
+    private final MemberSecurityStatusCache memberSecurityStatusCache;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
 
         String requestURI = request.getRequestURI();
 
-        if (excludePatterns.stream().anyMatch(requestURI::startsWith)) {
+        if (EXCLUDED_PATHS.matches(requestURI)) {
             return true;
         }
 
@@ -57,13 +52,13 @@ public class PasswordChangeRequiredInterceptor implements HandlerInterceptor {
         }
 
         try {
-            Long memberId = extractMemberIdFromToken(request);
-            if (memberId == null) {
+            MemberSecurityStatus status = memberSecurityStatusCache.get(authentication.getName());
+            if (!status.isExists()) {
                 return true;
             }
 
-            if (memberApplicationService.isPasswordChangeRequired(memberId)) {
-                log.info("비밀번호 변경 필요 - 사용자를 비밀번호 변경 페이지로 리다이렉트: memberId={}", memberId);
+            if (status.isPasswordChangeRequired()) {
+                log.info("비밀번호 변경 필요 - 사용자를 비밀번호 변경 페이지로 리다이렉트: memberId={}", status.getId());
 
                 if (requestURI.startsWith("/api/")) {
                     response.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -83,24 +78,4 @@ public class PasswordChangeRequiredInterceptor implements HandlerInterceptor {
 
         return true;
     }
-
-    private Long extractMemberIdFromToken(HttpServletRequest request) {
-        try {
-            Cookie[] cookies = request.getCookies();
-            if (cookies != null) {
-                for (Cookie cookie : cookies) {
-                    if ("accessToken".equals(cookie.getName())) {
-                        String token = cookie.getValue();
-                        String username = jwtTokenProvider.getUsernameFromToken(token);
-                        if (username != null) {
-                            return memberApplicationService.getMemberIdByUsername(username);
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("토큰에서 사용자 ID 추출 실패: {}", e.getMessage());
-        }
-        return null;
-    }
-}
\ No newline at end of file
+}
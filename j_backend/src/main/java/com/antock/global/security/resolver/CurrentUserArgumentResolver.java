@@ -3,6 +3,7 @@ package com.antock.global.security.resolver;
 import com.antock.global.security.annotation.CurrentUser;
 import com.antock.global.security.dto.AuthenticatedUser;
 import com.antock.global.security.JwtTokenProvider;
+import com.antock.global.security.filter.JwtAuthenticationFilter;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,32 +43,20 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             log.debug("SecurityContext에서 인증 정보 확인 - principal: {}", authentication.getName());
 
             HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+            if (request != null && request.getAttribute(JwtAuthenticationFilter.ACCESS_CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+                return toAuthenticatedUser(claims);
+            }
             if (request != null) {
                 String token = extractTokenFromRequest(request);
                 if (token != null) {
                     try {
-                        if (!jwtTokenProvider.validateToken(token)) {
-                            log.warn("Invalid token provided for CurrentUser resolution");
-                            return required ? null : createDefaultUser();
-                        }
-
-                        Claims claims = jwtTokenProvider.parseClaims(token);
-
-                        String tokenType = claims.get("type", String.class);
-                        if (!"ACCESS".equals(tokenType)) {
-                            log.warn("Invalid token type for CurrentUser: {}", tokenType);
+                        Claims claims = jwtTokenProvider.parseAccessClaims(token);
+                        if (claims == null) {
+                            log.warn("Invalid access token provided for CurrentUser resolution");
                             return required ? null : createDefaultUser();
                         }
 
-                        AuthenticatedUser user = AuthenticatedUser.builder()
-                                .id(claims.get("id", Long.class))
-                                .username(claims.getSubject())
-                                .nickname(claims.get("nickname", String.class))
-                                .role((String) claims.get("role"))
-                                .build();
-
-                        log.debug("CurrentUser 생성 완료 - id: {}, username: {}", user.getId(), user.getUsername());
-                        return user;
+                        return toAuthenticatedUser(claims);
 
                     } catch (Exception e) {
                         log.error("토큰에서 사용자 정보 추출 실패: {}", e.getMessage());
@@ -81,6 +70,18 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
         return required ? null : createDefaultUser();
     }
 
+    private AuthenticatedUser toAuthenticatedUser(Claims claims) {
+        AuthenticatedUser user = AuthenticatedUser.builder()
+                .id(claims.get("id", Long.class))
+                .username(claims.getSubject())
+                .nickname(claims.get("nickname", String.class))
+                .role((String) claims.get("role"))
+                .build();
+
+        log.debug("CurrentUser 생성 완료 - id: {}, username: {}", user.getId(), user.getUsername());
+        return user;
+    }
+
     private AuthenticatedUser createDefaultUser() {
         return AuthenticatedUser.builder()
                 .id(0L)
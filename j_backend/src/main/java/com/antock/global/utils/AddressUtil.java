@@ -1,7 +1,12 @@
 package com.antock.global.utils;
 
+import java.util.regex.Pattern;
+
 public class AddressUtil {
 
+    private static final Pattern BRACKETED = Pattern.compile("\\([^)]*\\)|\\[[^\\]]*\\]");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s,]+");
+
     public static String extractAddress(String address) {
         if (address == null) {
             return "";
@@ -18,4 +23,13 @@ public class AddressUtil {
 
         return result;
     }
+
+    public static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+
+        String withoutBrackets = BRACKETED.matcher(address).replaceAll(" ");
+        return SEPARATORS.matcher(withoutBrackets).replaceAll(" ").trim();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.antock.global.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class CharsetDetector {
+
+    public static final int DEFAULT_SAMPLE_SIZE = 4096;
+
+    public static final Charset EUC_KR = Charset.forName("EUC-KR");
+    public static final Charset CP949 = Charset.forName("x-windows-949");
+
+    public Detection detect(InputStream inputStream) throws IOException {
+        if (!inputStream.markSupported()) {
+            throw new IllegalArgumentException("mark/reset을 지원하는 InputStream이 필요합니다.");
+        }
+
+        inputStream.mark(DEFAULT_SAMPLE_SIZE);
+        try {
+            byte[] sample = inputStream.readNBytes(DEFAULT_SAMPLE_SIZE);
+            return detect(sample, sample.length);
+        } finally {
+            inputStream.reset();
+        }
+    }
+
+    public Detection detect(byte[] sample, int length) {
+        if (length >= 3 && (sample[0] & 0xFF) == 0xEF && (sample[1] & 0xFF) == 0xBB && (sample[2] & 0xFF) == 0xBF) {
+            return new Detection(StandardCharsets.UTF_8, 1.0, true, false);
+        }
+
+        int highBytes = 0;
+
+        int utf8Remaining = 0;
+        int utf8Sequences = 0;
+        int utf8Errors = 0;
+
+        int legacyLead = -1;
+        int ksx1001Pairs = 0;
+        int uhcPairs = 0;
+        int legacyErrors = 0;
+
+        for (int i = 0; i < length; i++) {
+            int b = sample[i] & 0xFF;
+            if (b >= 0x80) {
+                highBytes++;
+            }
+
+            boolean continuation = false;
+            if (utf8Remaining > 0) {
+                if ((b & 0xC0) == 0x80) {
+                    continuation = true;
+                    if (--utf8Remaining == 0) {
+                        utf8Sequences++;
+                    }
+                } else {
+                    utf8Errors++;
+                    utf8Remaining = 0;
+                }
+            }
+            if (!continuation && b >= 0x80) {
+                utf8Remaining = utf8LeadLength(b);
+                if (utf8Remaining < 0) {
+                    utf8Errors++;
+                    utf8Remaining = 0;
+                }
+            }
+
+            if (legacyLead >= 0) {
+                if (isKsx1001Byte(legacyLead) && isKsx1001Byte(b)) {
+                    ksx1001Pairs++;
+                } else if (isUhcLead(legacyLead) && isUhcTrail(b)) {
+                    uhcPairs++;
+                } else {
+                    legacyErrors++;
+                }
+                legacyLead = -1;
+            } else if (b >= 0x81 && b <= 0xFE) {
+                legacyLead = b;
+            } else if (b >= 0x80) {
+                legacyErrors++;
+            }
+        }
+
+        if (highBytes == 0) {
+            return new Detection(StandardCharsets.UTF_8, 1.0, false, true);
+        }
+
+        double utf8Confidence = ratio(utf8Sequences, utf8Sequences + utf8Errors);
+        int legacyPairs = ksx1001Pairs + uhcPairs;
+        double legacyConfidence = ratio(legacyPairs, legacyPairs + legacyErrors);
+
+        if (utf8Confidence >= legacyConfidence) {
+            return new Detection(StandardCharsets.UTF_8, utf8Confidence, false, false);
+        }
+        return new Detection(uhcPairs > 0 ? CP949 : EUC_KR, legacyConfidence, false, false);
+    }
+
+    private static int utf8LeadLength(int b) {
+        if (b >= 0xC2 && b <= 0xDF) {
+            return 1;
+        }
+        if (b >= 0xE0 && b <= 0xEF) {
+            return 2;
+        }
+        if (b >= 0xF0 && b <= 0xF4) {
+            return 3;
+        }
+        return -1;
+    }
+
+    private static boolean isKsx1001Byte(int b) {
+        return b >= 0xA1 && b <= 0xFE;
+    }
+
+    private static boolean isUhcLead(int b) {
+        return b >= 0x81 && b <= 0xC6;
+    }
+
+    private static boolean isUhcTrail(int b) {
+        return (b >= 0x41 && b <= 0x5A) || (b >= 0x61 && b <= 0x7A) || (b >= 0x81 && b <= 0xFE);
+    }
+
+    private static double ratio(int valid, int total) {
+        return total == 0 ? 0.0 : (double) valid / total;
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Detection {
+        private final Charset charset;
+        private final double confidence;
+        private final boolean bomPresent;
+        private final boolean asciiOnly;
+    }
+}
@@ -0,0 +1,113 @@
+package com.antock.global.utils;
+
+import com.antock.api.corpmanual.application.dto.response.CorpMastManualResponse;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class CorpListExcelWriter implements AutoCloseable {
+
+    private static final String[] HEADERS = {"ID", "법인명", "사업자번호", "법인등록번호", "시/도", "구/군", "판매자ID", "등록자", "설명"};
+    private static final int[] COLUMN_WIDTHS = {3000, 9000, 4500, 5000, 4000, 4000, 5000, 4000, 9000};
+
+    private final SXSSFWorkbook workbook;
+    private final RollingSheetWriter sheets;
+    private final CellStyle cellStyle;
+    private int rowCount;
+
+    public CorpListExcelWriter(int windowSize) {
+        this(windowSize, RollingSheetWriter.EXCEL_MAX_ROWS);
+    }
+
+    CorpListExcelWriter(int windowSize, int maxRowsPerSheet) {
+        this.workbook = new SXSSFWorkbook(windowSize);
+        this.workbook.setCompressTempFiles(true);
+        this.sheets = new RollingSheetWriter(workbook, "법인목록", COLUMN_WIDTHS, maxRowsPerSheet);
+        this.cellStyle = createCellStyle();
+        sheets.writeHeader(HEADERS, createHeaderStyle(), 25);
+    }
+
+    public void append(CorpMastManualResponse corp) {
+        Row row = sheets.createRow();
+        rowCount++;
+
+        Cell idCell = row.createCell(0);
+        idCell.setCellValue(corp.getId());
+        idCell.setCellStyle(cellStyle);
+
+        writeCell(row, 1, corp.getBizNm());
+        writeCell(row, 2, corp.getBizNo());
+        writeCell(row, 3, corp.getCorpRegNo());
+        writeCell(row, 4, corp.getSiNm());
+        writeCell(row, 5, corp.getSggNm());
+        writeCell(row, 6, corp.getSellerId());
+        writeCell(row, 7, corp.getUsername());
+
+        String desc = corp.getDescription();
+        if (desc == null || desc.trim().isEmpty()) {
+            desc = "자동수집";
+        }
+        writeCell(row, 8, desc);
+
+        row.setHeightInPoints(20);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getSheetCount() {
+        return sheets.getSheetCount();
+    }
+
+    public void writeTo(OutputStream os) throws IOException {
+        workbook.write(os);
+        os.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.dispose();
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private CellStyle createHeaderStyle() {
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerFont.setColor(IndexedColors.BLACK.getIndex());
+        headerStyle.setFont(headerFont);
+        applyBorders(headerStyle);
+        headerStyle.setAlignment(HorizontalAlignment.CENTER);
+        headerStyle.setVerticalAlignment(VerticalAlignment.CENTER);
+        headerStyle.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
+        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return headerStyle;
+    }
+
+    private CellStyle createCellStyle() {
+        CellStyle style = workbook.createCellStyle();
+        applyBorders(style);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        return style;
+    }
+
+    private void writeCell(Row row, int column, String value) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(cellStyle);
+    }
+
+    private static void applyBorders(CellStyle style) {
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+    }
+}
@@ -0,0 +1,47 @@
+package com.antock.global.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class PermitRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextFreeNanos;
+
+    public PermitRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+        this.nextFreeNanos = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        if (intervalNanos == 0) {
+            return true;
+        }
+
+        long timeoutNanos = unit.toNanos(timeout);
+        long waitNanos;
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextFreeNanos.get();
+            long slot = Math.max(now, next);
+            waitNanos = slot - now;
+            if (waitNanos > timeoutNanos) {
+                return false;
+            }
+            if (nextFreeNanos.compareAndSet(next, slot + intervalNanos)) {
+                break;
+            }
+        }
+
+        long deadline = System.nanoTime() + waitNanos;
+        while (waitNanos > 0) {
+            LockSupport.parkNanos(this, waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitNanos = deadline - System.nanoTime();
+        }
+        return true;
+    }
+}
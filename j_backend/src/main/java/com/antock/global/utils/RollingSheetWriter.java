@@ -0,0 +1,94 @@
+package com.antock.global.utils;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+public class RollingSheetWriter {
+
+    public static final int EXCEL_MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final SXSSFWorkbook workbook;
+    private final String baseName;
+    private final int[] columnWidths;
+    private final int maxRowsPerSheet;
+
+    private SXSSFSheet sheet;
+    private int sheetCount;
+    private int rowIdx;
+
+    private String[] headers;
+    private CellStyle headerStyle;
+    private float headerHeightInPoints = -1;
+
+    public RollingSheetWriter(SXSSFWorkbook workbook, String baseName, int[] columnWidths, int maxRowsPerSheet) {
+        if (maxRowsPerSheet < 2 || maxRowsPerSheet > EXCEL_MAX_ROWS) {
+            throw new IllegalArgumentException("시트당 최대 행 수는 2 이상 " + EXCEL_MAX_ROWS + " 이하여야 합니다: " + maxRowsPerSheet);
+        }
+        this.workbook = workbook;
+        this.baseName = baseName;
+        this.columnWidths = columnWidths;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        newSheet();
+    }
+
+    public Row createRow() {
+        if (rowIdx >= maxRowsPerSheet) {
+            rollOver();
+        }
+        return sheet.createRow(rowIdx++);
+    }
+
+    public void skipRows(int count) {
+        rowIdx = Math.min(rowIdx + count, maxRowsPerSheet);
+    }
+
+    public void writeHeader(String[] headers, CellStyle headerStyle) {
+        writeHeader(headers, headerStyle, -1);
+    }
+
+    public void writeHeader(String[] headers, CellStyle headerStyle, float heightInPoints) {
+        this.headers = headers;
+        this.headerStyle = headerStyle;
+        this.headerHeightInPoints = heightInPoints;
+        if (rowIdx >= maxRowsPerSheet - 1) {
+            newSheet();
+        }
+        writeHeaderRow();
+    }
+
+    public int getSheetCount() {
+        return sheetCount;
+    }
+
+    private void rollOver() {
+        newSheet();
+        if (headers != null) {
+            writeHeaderRow();
+        }
+    }
+
+    private void newSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? baseName : baseName + "_" + sheetCount);
+        rowIdx = 0;
+        for (int i = 0; i < columnWidths.length; i++) {
+            sheet.setColumnWidth(i, columnWidths[i]);
+        }
+    }
+
+    private void writeHeaderRow() {
+        Row header = sheet.createRow(rowIdx++);
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = header.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+        }
+        if (headerHeightInPoints > 0) {
+            header.setHeightInPoints(headerHeightInPoints);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.antock.global.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter<K> {
+
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int burstCapacity;
+    private final LongSupplier nanoClock;
+    private final long originNanos;
+    private final ConcurrentHashMap<K, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(int permitsPerMinute, int burstCapacity) {
+        this(permitsPerMinute, burstCapacity, System::nanoTime);
+    }
+
+    public TokenBucketRateLimiter(int permitsPerMinute, int burstCapacity, LongSupplier nanoClock) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute는 0보다 커야 합니다: " + permitsPerMinute);
+        }
+        this.burstCapacity = Math.max(1, burstCapacity);
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (this.burstCapacity - 1);
+        this.nanoClock = nanoClock;
+        this.originNanos = nanoClock.getAsLong();
+    }
+
+    public boolean tryAcquire(K key) {
+        AtomicLong theoreticalArrival = bucket(key);
+        long now = elapsedNanos();
+        while (true) {
+            long tat = theoreticalArrival.get();
+            if (tat == RETIRED) {
+                // removeIdle/reset이 맵에서 떼어낸 버킷이므로 현재 매핑으로 다시 시도
+                theoreticalArrival = bucket(key);
+                continue;
+            }
+            long start = Math.max(tat, now);
+            if (start - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    public int getUsedPermits(K key) {
+        AtomicLong theoreticalArrival = buckets.get(key);
+        if (theoreticalArrival == null) {
+            return 0;
+        }
+        long tat = theoreticalArrival.get();
+        if (tat == RETIRED) {
+            return 0;
+        }
+        long backlog = tat - elapsedNanos();
+        if (backlog <= 0) {
+            return 0;
+        }
+        return (int) Math.min(burstCapacity, (backlog + emissionIntervalNanos - 1) / emissionIntervalNanos);
+    }
+
+    public void reset(K key) {
+        AtomicLong removed = buckets.remove(key);
+        if (removed != null) {
+            removed.set(RETIRED);
+        }
+    }
+
+    public int removeIdle() {
+        long now = elapsedNanos();
+        int removed = 0;
+        for (K key : buckets.keySet()) {
+            if (buckets.computeIfPresent(key, (k, theoreticalArrival) ->
+                    retireIfIdle(theoreticalArrival, now) ? null : theoreticalArrival) == null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(K key) {
+        AtomicLong theoreticalArrival = buckets.get(key);
+        return theoreticalArrival != null ? theoreticalArrival : buckets.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private static boolean retireIfIdle(AtomicLong theoreticalArrival, long now) {
+        long tat = theoreticalArrival.get();
+        return tat <= now && theoreticalArrival.compareAndSet(tat, RETIRED);
+    }
+
+    private long elapsedNanos() {
+        return nanoClock.getAsLong() - originNanos;
+    }
+}
@@ -148,11 +148,11 @@ public class CorpMastSearchWebController {
 
         log.debug("법인 검색 페이지 요청: {}", searchRequest);
 
-        List<CorpMastSearchResponse> corpList = null;
+        List<CorpMastManualResponse> corpList = null;
         Map<String, Object> statistics = null;
 
         if (searchRequest.hasSearchCondition()) {
-            corpList = corpMastService.search(searchRequest);
+            corpList = corpMastService.search(searchRequest).getContent();
             statistics = corpMastService.getSearchStatistics(searchRequest);
         }
 
@@ -0,0 +1,60 @@
+-- =====================================================================================
+-- Flyway 마이그레이션: region_stat 지역별 통계 요약 테이블 생성
+-- 마이그레이션 버전: V3
+-- 작성일: 2026-10-18
+-- 작성자: 시스템 마이그레이션
+-- 설명: (si_nm, sgg_nm)별 총 법인 수 / 유효 법인등록번호 수 / 유효 지역코드 수를 보관하는
+--       요약 테이블 생성 및 corp_mast 기준 초기 적재
+--
+-- 갱신 방식:
+--   - CoSellerStorageService 저장/삭제 시 증분 반영
+--   - RegionStatSummaryService.reconcile()이 주기적으로 corp_mast 집계와 비교하여 보정
+--
+-- 롤백 전략:
+--   - DROP TABLE region_stat (원본 데이터 영향 없음)
+--
+-- 성능 영향:
+--   - 초기 적재 시 corp_mast 전체 GROUP BY 1회 수행
+-- =====================================================================================
+
+CREATE TABLE IF NOT EXISTS region_stat (
+    si_nm                   VARCHAR(50)  NOT NULL,
+    sgg_nm                  VARCHAR(50)  NOT NULL,
+    total_count             BIGINT       NOT NULL DEFAULT 0,
+    valid_corp_reg_no_count BIGINT       NOT NULL DEFAULT 0,
+    valid_region_cd_count   BIGINT       NOT NULL DEFAULT 0,
+    updated_at              TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (si_nm, sgg_nm)
+);
+
+COMMENT ON TABLE region_stat IS '지역별 법인 통계 요약 (corp_mast 증분 집계)';
+
+CREATE INDEX IF NOT EXISTS idx_region_stat_total_count
+ON region_stat(total_count DESC);
+
+-- corp_mast 기준 초기 적재
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT FROM information_schema.tables
+        WHERE table_schema = 'public'
+        AND table_name = 'corp_mast'
+    ) THEN
+        INSERT INTO region_stat (si_nm, sgg_nm, total_count, valid_corp_reg_no_count, valid_region_cd_count, updated_at)
+        SELECT si_nm,
+               sgg_nm,
+               COUNT(*),
+               SUM(CASE WHEN corp_reg_no IS NOT NULL AND corp_reg_no <> '' AND corp_reg_no NOT LIKE '0%'
+                        AND corp_reg_no NOT LIKE '%N/A%' THEN 1 ELSE 0 END),
+               SUM(CASE WHEN region_cd IS NOT NULL AND region_cd <> '' AND region_cd NOT LIKE '0%' THEN 1 ELSE 0 END),
+               CURRENT_TIMESTAMP
+        FROM corp_mast
+        WHERE si_nm IS NOT NULL AND sgg_nm IS NOT NULL
+        GROUP BY si_nm, sgg_nm
+        ON CONFLICT (si_nm, sgg_nm) DO NOTHING;
+
+        RAISE NOTICE '마이그레이션 V3: region_stat 초기 적재 완료';
+    ELSE
+        RAISE NOTICE '마이그레이션 V3: corp_mast 테이블이 없어 초기 적재를 건너뜁니다 (보정 작업에서 적재)';
+    END IF;
+END $$;
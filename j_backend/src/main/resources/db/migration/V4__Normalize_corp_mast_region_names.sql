@@ -0,0 +1,40 @@
+-- =====================================================================================
+-- Flyway 마이그레이션: corp_mast 시/도, 시/군/구 명칭 정규화
+-- 마이그레이션 버전: V4
+-- 작성일: 2026-10-18
+-- 작성자: 시스템 마이그레이션
+-- 설명: si_nm, sgg_nm 앞뒤 공백 제거 및 연속 공백을 단일 공백으로 정리
+--       (검색 시 LOWER(TRIM(...)) 없이 idx_corp_mast_location 인덱스로 동등 비교하기 위함)
+--
+-- 이후 적재분:
+--   - CorpMast @PrePersist/@PreUpdate 및 CorpMastJdbcRepository에서 동일 규칙으로 정규화
+--
+-- 롤백 전략:
+--   - 원본 공백 정보는 복구 불가 (검색 의미상 동일 값)
+--
+-- 성능 영향:
+--   - 공백이 포함된 행만 UPDATE
+--   - region_stat 요약은 RegionStatSummaryService.reconcile()이 다음 주기에 보정
+-- =====================================================================================
+
+DO $$
+DECLARE
+    updated_rows INTEGER;
+BEGIN
+    IF EXISTS (
+        SELECT FROM information_schema.tables
+        WHERE table_schema = 'public'
+        AND table_name = 'corp_mast'
+    ) THEN
+        UPDATE corp_mast
+        SET si_nm = REGEXP_REPLACE(TRIM(si_nm), '\s+', ' ', 'g'),
+            sgg_nm = REGEXP_REPLACE(TRIM(sgg_nm), '\s+', ' ', 'g')
+        WHERE si_nm <> REGEXP_REPLACE(TRIM(si_nm), '\s+', ' ', 'g')
+           OR sgg_nm <> REGEXP_REPLACE(TRIM(sgg_nm), '\s+', ' ', 'g');
+
+        GET DIAGNOSTICS updated_rows = ROW_COUNT;
+        RAISE NOTICE '마이그레이션 V4: 지역명 정규화 %건 완료', updated_rows;
+    ELSE
+        RAISE NOTICE '마이그레이션 V4: corp_mast 테이블이 없어 정규화를 건너뜁니다';
+    END IF;
+END $$;
@@ -0,0 +1,49 @@
+-- =====================================================================================
+-- Flyway 마이그레이션: 법인명 / 판매자 ID 부분 일치 검색용 인덱스 추가
+-- 마이그레이션 버전: V5
+-- 작성일: 2026-10-18
+-- 작성자: 시스템 마이그레이션
+-- 설명: LOWER(...) LIKE '%키워드%' 검색이 corp_mast 전체를 순차 스캔하지 않도록
+--       pg_trgm GIN 인덱스(부분 일치)와 C 콜레이션 B-Tree 인덱스(접두어 일치) 생성
+--
+-- 사용처:
+--   - CorpMastSuggestJdbcRepository (GET /api/v1/corp/autocomplete)
+--     * 접두어 일치: lower(col) COLLATE "C" LIKE 'q%' ORDER BY ... LIMIT n → B-Tree 범위 스캔
+--     * 부분 일치(3자 이상): lower(col) LIKE '%q%' → GIN 트라이그램 인덱스
+--   - CorpMastSearchRepository 의 법인명/판매자 ID 조건도 트라이그램 인덱스 사용 가능
+--
+-- 롤백 전략:
+--   - DROP INDEX idx_corp_mast_biz_nm_trgm, idx_corp_mast_seller_id_trgm,
+--     idx_corp_mast_biz_nm_prefix, idx_corp_mast_seller_id_prefix
+--
+-- 성능 영향:
+--   - 인덱스 생성 동안 corp_mast 쓰기 잠금 (대용량 운영 환경에서는 CONCURRENTLY 수동 생성 권장)
+--   - INSERT/UPDATE 시 GIN 인덱스 갱신 비용 증가
+-- =====================================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT FROM information_schema.tables
+        WHERE table_schema = 'public'
+        AND table_name = 'corp_mast'
+    ) THEN
+        CREATE INDEX IF NOT EXISTS idx_corp_mast_biz_nm_trgm
+        ON corp_mast USING gin (lower(biz_nm) gin_trgm_ops);
+
+        CREATE INDEX IF NOT EXISTS idx_corp_mast_seller_id_trgm
+        ON corp_mast USING gin (lower(seller_id) gin_trgm_ops);
+
+        CREATE INDEX IF NOT EXISTS idx_corp_mast_biz_nm_prefix
+        ON corp_mast ((lower(biz_nm) COLLATE "C"));
+
+        CREATE INDEX IF NOT EXISTS idx_corp_mast_seller_id_prefix
+        ON corp_mast ((lower(seller_id) COLLATE "C"));
+
+        RAISE NOTICE '마이그레이션 V5: 법인명/판매자 ID 검색 인덱스 생성 완료';
+    ELSE
+        RAISE NOTICE '마이그레이션 V5: corp_mast 테이블이 없어 인덱스 생성을 건너뜁니다';
+    END IF;
+END $$;
@@ -1,5 +1,7 @@
 package com.antock.api.admin.presentation;
 
+import com.antock.api.coseller.application.service.CorpRegNoCache;
+import com.antock.api.coseller.application.service.RegionInfoCache;
 import com.antock.api.member.application.service.MemberApplicationService;
 import com.antock.api.member.application.service.RateLimitServiceInterface;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +12,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -31,6 +35,12 @@ class CacheMonitoringControllerTest {
     @MockBean
     private RateLimitServiceInterface rateLimitService;
 
+    @MockBean
+    private RegionInfoCache regionInfoCache;
+
+    @MockBean
+    private CorpRegNoCache corpRegNoCache;
+
     @Test
     @DisplayName("캐시 통계 조회 성공")
     @WithMockUser(roles = "ADMIN")
@@ -47,6 +57,18 @@ class CacheMonitoringControllerTest {
                 .andExpect(jsonPath("$.totalRequests").value(100));
     }
 
+    @Test
+    @DisplayName("지역 정보 캐시 통계 조회 성공")
+    @WithMockUser(roles = "ADMIN")
+    void getRegionCacheStatistics_Success() throws Exception {
+        given(regionInfoCache.getStatistics()).willReturn(Map.of("localHits", 9L, "misses", 1L, "hitRate", 90.0));
+
+        mockMvc.perform(get("/api/admin/cache/region/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitRate").value(90.0))
+                .andExpect(jsonPath("$.localHits").value(9));
+    }
+
     @Test
     @DisplayName("전체 회원 캐시 무효화 성공")
     @WithMockUser(roles = "ADMIN")
@@ -0,0 +1,79 @@
+package com.antock.api.corpmanual.application.service;
+
+import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
+import com.antock.api.coseller.domain.CorpMast;
+import com.antock.global.cache.AppCacheProperties;
+import com.antock.global.cache.BoundedCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CorpMastCacheEvictor 테스트")
+class CorpMastCacheEvictorTest {
+
+    private BoundedCacheManager cacheManager;
+    private CorpMastCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new BoundedCacheManager(new AppCacheProperties());
+        cacheManager.afterPropertiesSet();
+        evictor = new CorpMastCacheEvictor(cacheManager);
+    }
+
+    @Test
+    @DisplayName("검색 조건 정규화 및 페이지 정보가 캐시 키에 반영")
+    void cacheKey_NormalizesConditionsAndIncludesPage() {
+        CorpMastManualRequest first = regionRequest(" 서울특별시 ", "강남구");
+        first.setBizNm(" Samsung ");
+        CorpMastManualRequest second = regionRequest("서울특별시", "강남구");
+        second.setBizNm("samsung");
+
+        assertThat(CorpMastSearchCacheKey.of(first, PageRequest.of(0, 20)))
+                .isEqualTo(CorpMastSearchCacheKey.of(second, PageRequest.of(0, 20)));
+        assertThat(CorpMastSearchCacheKey.of(first, PageRequest.of(0, 20)))
+                .isNotEqualTo(CorpMastSearchCacheKey.of(second, PageRequest.of(1, 20)));
+    }
+
+    @Test
+    @DisplayName("저장된 법인의 지역과 겹치는 검색 캐시만 무효화")
+    void evictForWrites_EvictsOnlyAffectedRegions() {
+        Cache searchPage = cacheManager.getCache(CorpMastCacheEvictor.SEARCH_PAGE);
+        CorpMastSearchCacheKey gangnam = CorpMastSearchCacheKey.of(regionRequest("서울특별시", "강남구"), PageRequest.of(0, 20));
+        CorpMastSearchCacheKey seoul = CorpMastSearchCacheKey.of(regionRequest("서울특별시", null), PageRequest.of(0, 20));
+        CorpMastSearchCacheKey busan = CorpMastSearchCacheKey.of(regionRequest("부산광역시", null), PageRequest.of(0, 20));
+        searchPage.put(gangnam, "gangnam");
+        searchPage.put(seoul, "seoul");
+        searchPage.put(busan, "busan");
+
+        evictor.evictForWrites(List.of(CorpMast.builder().siNm("서울특별시").sggNm("강남구").build()));
+
+        assertThat(searchPage.get(gangnam)).isNull();
+        assertThat(searchPage.get(seoul)).isNull();
+        assertThat(searchPage.get(busan)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전체 삭제 시 모든 법인 캐시 비움")
+    void evictAll_ClearsEveryRegion() {
+        Cache byId = cacheManager.getCache("corpMastById");
+        byId.put(1L, "corp");
+
+        evictor.evictAll();
+
+        assertThat(byId.get(1L)).isNull();
+    }
+
+    private CorpMastManualRequest regionRequest(String city, String district) {
+        CorpMastManualRequest request = new CorpMastManualRequest();
+        request.setCity(city);
+        request.setDistrict(district);
+        return request;
+    }
+}
@@ -0,0 +1,100 @@
+package com.antock.api.corpmanual.application.service;
+
+import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
+import com.antock.api.corpmanual.infrastructure.CorpMastManualRepository;
+import com.antock.api.coseller.infrastructure.CorpMastExportRow;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CorpMastManualExcelService 테스트")
+class CorpMastManualExcelServiceTest {
+
+    @Mock
+    private CorpMastManualRepository corpMastManualRepository;
+
+    @InjectMocks
+    private CorpMastManualExcelService excelService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(excelService, "fetchSize", 2);
+        ReflectionTestUtils.setField(excelService, "windowSize", 1);
+    }
+
+    @Test
+    @DisplayName("마지막 ID 기준으로 페이지를 이어 읽어 행 제한 없이 내보내기")
+    void exportToExcel_followsKeysetUntilLastPage() throws Exception {
+        given(corpMastManualRepository.findExportRowsAfter(any(), any(), any(), any(), any(), any(), eq(0L), any()))
+                .willReturn(List.of(row(3L), row(7L)));
+        given(corpMastManualRepository.findExportRowsAfter(any(), any(), any(), any(), any(), any(), eq(7L), any()))
+                .willReturn(List.of(row(9L), row(12L)));
+        given(corpMastManualRepository.findExportRowsAfter(any(), any(), any(), any(), any(), any(), eq(12L), any()))
+                .willReturn(List.of(row(15L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        excelService.exportToExcel(new CorpMastManualRequest(), out);
+
+        verify(corpMastManualRepository, times(3))
+                .findExportRowsAfter(any(), any(), any(), any(), any(), any(), any(), any());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("법인목록");
+            assertThat(sheet.getLastRowNum()).isEqualTo(5);
+            assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("법인명");
+            assertThat(sheet.getRow(1).getCell(0).getNumericCellValue()).isEqualTo(3.0);
+            assertThat(sheet.getRow(5).getCell(1).getStringCellValue()).isEqualTo("법인15");
+            assertThat(sheet.getRow(5).getCell(8).getStringCellValue()).isEqualTo("자동수집");
+        }
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없으면 헤더만 있는 파일 생성")
+    void exportToExcel_emptyResult() throws Exception {
+        given(corpMastManualRepository.findExportRowsAfter(any(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        excelService.exportToExcel(new CorpMastManualRequest(), out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(workbook.getSheet("법인목록").getLastRowNum()).isZero();
+        }
+    }
+
+    private CorpMastExportRow row(Long id) {
+        return new CorpMastExportRow() {
+            public Long getId() { return id; }
+            public String getBizNm() { return "법인" + id; }
+            public String getBizNo() { return "12345" + id; }
+            public String getCorpRegNo() { return "110111" + id; }
+            public String getRegionCd() { return "11680"; }
+            public String getSiNm() { return "서울특별시"; }
+            public String getSggNm() { return "강남구"; }
+            public String getSellerId() { return "seller" + id; }
+            public String getUsername() { return "admin"; }
+            public String getDescription() { return null; }
+            public LocalDateTime getCreateDate() { return null; }
+            public LocalDateTime getModifyDate() { return null; }
+        };
+    }
+}
@@ -1,10 +1,16 @@
 package com.antock.api.corpmanual.application.service;
 
+import com.antock.api.corpmanual.application.dto.request.CorpMastBulkLookupRequest;
 import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
+import com.antock.api.corpmanual.application.dto.response.CorpMastBulkLookupResponse;
 import com.antock.api.corpmanual.application.dto.response.CorpMastManualResponse;
+import com.antock.api.corpmanual.application.dto.response.CorpMastSuggestResponse;
 import com.antock.api.corpmanual.infrastructure.CorpMastManualRepository;
+import com.antock.api.corpmanual.infrastructure.CorpMastSuggestJdbcRepository;
+import com.antock.api.corpmanual.infrastructure.CorpMastSuggestJdbcRepository.SuggestField;
 import com.antock.api.coseller.domain.CorpMast;
 import com.antock.global.common.exception.BusinessException;
+import com.antock.global.cache.BoundedCache;
 import com.antock.global.common.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,20 +19,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,9 +53,15 @@ class CorpMastManualServiceTest {
     @Mock
     private CorpMastManualRepository corpMastManualRepository;
 
+    @Mock
+    private CorpMastSuggestJdbcRepository corpMastSuggestRepository;
+
     @Mock
     private Executor asyncExecutor;
 
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private CorpMastManualService corpMastManualService;
 
@@ -62,19 +85,39 @@ class CorpMastManualServiceTest {
 
         request = new CorpMastManualRequest();
         request.setBizNm("테스트");
+
+        org.springframework.test.util.ReflectionTestUtils.setField(corpMastManualService, "maxSearchResults", 100);
+        org.springframework.test.util.ReflectionTestUtils.setField(corpMastManualService, "maxLookupKeys", 10);
+        org.springframework.test.util.ReflectionTestUtils.setField(corpMastManualService, "lookupChunkSize", 2);
     }
 
     @Test
     @DisplayName("법인 정보 검색")
     void search() {
-        Page<CorpMast> page = new PageImpl<>(Arrays.asList(testCorpMast));
-        when(corpMastManualRepository.findBySearchConditions(any(), any(), any(), any(), any(), any(), any()))
-                .thenReturn(page);
+        Slice<CorpMast> slice = new SliceImpl<>(Arrays.asList(testCorpMast), PageRequest.of(0, 100), true);
+        when(corpMastManualRepository.findSliceBySearchConditions(any(), any(), any(), any(), any(), any(),
+                argThat(pageable -> pageable.getPageSize() == 100)))
+                .thenReturn(slice);
 
-        List<com.antock.api.corpmanual.application.dto.response.CorpMastSearchResponse> result =
+        com.antock.api.corpmanual.application.dto.response.CorpMastSearchResponse result =
                 corpMastManualService.search(request);
 
-        assertThat(result).isNotEmpty();
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getSearchInfo().isTruncated()).isTrue();
+        verify(corpMastManualRepository, never()).countBySearchConditions(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("법인 정보 스트리밍 검색 - 최대 결과 수 전달 및 건별 전달")
+    void streamSearch() {
+        when(corpMastManualRepository.streamBySearchConditions(any(), any(), any(), any(), any(), any(), eq(100)))
+                .thenReturn(Stream.of(testCorpMast, testCorpMast));
+        List<CorpMastManualResponse> received = new ArrayList<>();
+
+        int count = corpMastManualService.streamSearch(request, received::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(received).extracting(CorpMastManualResponse::getBizNm).containsOnly("테스트 법인");
     }
 
     @Test
@@ -152,6 +195,17 @@ class CorpMastManualServiceTest {
         assertThat(districts).hasSize(2);
     }
 
+    @Test
+    @DisplayName("도시별 구/군 목록 조회 - 공백이 섞인 도시명은 정규화하여 조회")
+    void getDistrictsByCity_NormalizesCityName() {
+        when(corpMastManualRepository.findDistinctDistrictsByCity("서울특별시"))
+                .thenReturn(Arrays.asList("강남구", "강동구"));
+
+        List<String> districts = corpMastManualService.getDistrictsByCity("  서울특별시 ");
+
+        assertThat(districts).containsExactly("강남구", "강동구");
+    }
+
     @Test
     @DisplayName("검색 통계 조회")
     void getSearchStatistics() {
@@ -163,5 +217,95 @@ class CorpMastManualServiceTest {
         assertThat(statistics).isNotNull();
         assertThat(statistics.get("totalCount")).isEqualTo(10L);
     }
-}
 
+    @Test
+    @DisplayName("자동완성 - 접두어 결과가 부족하면 부분 일치로 채움")
+    void suggest_FillsWithContainsMatches() {
+        CorpMastSuggestResponse prefix = CorpMastSuggestResponse.builder().id(1L).bizNm("테스트 법인").prefixMatch(true).build();
+        CorpMastSuggestResponse contains = CorpMastSuggestResponse.builder().id(2L).bizNm("주식회사 테스트").build();
+        when(corpMastSuggestRepository.findByPrefix(SuggestField.BIZ_NM, "테스트", 5)).thenReturn(List.of(prefix));
+        when(corpMastSuggestRepository.findByContains(SuggestField.BIZ_NM, "테스트", 4)).thenReturn(List.of(contains));
+
+        List<CorpMastSuggestResponse> result = corpMastManualService.suggest(" 테스트 ", "bizNm", 5);
+
+        assertThat(result).extracting(CorpMastSuggestResponse::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 3자 미만은 접두어 일치만 수행")
+    void suggest_ShortKeywordUsesPrefixOnly() {
+        when(corpMastSuggestRepository.findByPrefix(SuggestField.SELLER_ID, "20", 50)).thenReturn(List.of());
+
+        List<CorpMastSuggestResponse> result = corpMastManualService.suggest("20", "sellerId", 500);
+
+        assertThat(result).isEmpty();
+        verify(corpMastSuggestRepository, never()).findByContains(any(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("자동완성 - 지원하지 않는 필드")
+    void suggest_UnsupportedField() {
+        assertThatThrownBy(() -> corpMastManualService.suggest("테스트", "username", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PARAMETER);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 캐시 적중 후 나머지를 묶어서 조회하고 캐시에 저장")
+    void bulkLookup_ResolvesCacheHitsThenChunkedQueries() {
+        BoundedCache bizNoCache = new BoundedCache("corpMastByBizNo", 100, Duration.ofMinutes(5));
+        CorpMastManualResponse cached = CorpMastManualResponse.builder().id(9L).bizNo("9999999999").build();
+        bizNoCache.put("9999999999", cached);
+        when(cacheManager.getCache("corpMastByBizNo")).thenReturn(bizNoCache);
+        when(cacheManager.getCache("corpMastByCorpRegNo")).thenReturn(null);
+        when(corpMastManualRepository.findAllByBizNoIn(List.of("1234567890", "1111111111")))
+                .thenReturn(List.of(testCorpMast));
+        when(corpMastManualRepository.findAllByBizNoIn(List.of("2222222222"))).thenReturn(List.of());
+
+        CorpMastBulkLookupResponse result = corpMastManualService.bulkLookup(new CorpMastBulkLookupRequest(
+                List.of("999-99-99999", "123-45-67890", "1234567890", "111-11-11111", "2222222222"), null));
+
+        assertThat(result.getByBizNo()).containsOnlyKeys("999-99-99999", "123-45-67890", "1234567890");
+        assertThat(result.getByBizNo().get("999-99-99999")).isSameAs(cached);
+        assertThat(result.getNotFoundBizNos()).containsExactly("111-11-11111", "2222222222");
+        assertThat(result.getRequestedCount()).isEqualTo(4);
+        assertThat(result.getCacheHitCount()).isEqualTo(1);
+        assertThat(result.getQueryCount()).isEqualTo(2);
+        assertThat(bizNoCache.get("1234567890")).isNotNull();
+        verify(corpMastManualRepository, never()).findAllByCorpRegNoIn(any());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 캐시 리전 크기에 비해 많은 조회 결과는 캐시에 저장하지 않음")
+    void bulkLookup_SkipsWriteBackForLargeMisses() {
+        BoundedCache bizNoCache = new BoundedCache("corpMastByBizNo", 20, Duration.ofMinutes(5));
+        CorpMastManualResponse hot = CorpMastManualResponse.builder().id(9L).bizNo("9999999999").build();
+        bizNoCache.put("9999999999", hot);
+        when(cacheManager.getCache("corpMastByBizNo")).thenReturn(bizNoCache);
+        when(cacheManager.getCache("corpMastByCorpRegNo")).thenReturn(null);
+        when(corpMastManualRepository.findAllByBizNoIn(List.of("1234567890", "1111111111")))
+                .thenReturn(List.of(testCorpMast));
+        when(corpMastManualRepository.findAllByBizNoIn(List.of("2222222222"))).thenReturn(List.of());
+
+        CorpMastBulkLookupResponse result = corpMastManualService.bulkLookup(new CorpMastBulkLookupRequest(
+                List.of("1234567890", "1111111111", "2222222222"), null));
+
+        assertThat(result.getByBizNo()).containsOnlyKeys("1234567890");
+        assertThat(bizNoCache.get("1234567890")).isNull();
+        assertThat(bizNoCache.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 최대 건수 초과")
+    void bulkLookup_TooManyKeys() {
+        List<String> bizNos = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            bizNos.add(String.format("%010d", i));
+        }
+
+        assertThatThrownBy(() -> corpMastManualService.bulkLookup(new CorpMastBulkLookupRequest(bizNos, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PARAMETER);
+        verify(corpMastManualRepository, never()).findAllByBizNoIn(any());
+    }
+}
@@ -1,8 +1,11 @@
 package com.antock.api.corpmanual.presentation;
 
+import com.antock.api.corpmanual.application.dto.request.CorpMastBulkLookupRequest;
 import com.antock.api.corpmanual.application.dto.request.CorpMastManualRequest;
+import com.antock.api.corpmanual.application.dto.response.CorpMastBulkLookupResponse;
 import com.antock.api.corpmanual.application.dto.response.CorpMastManualResponse;
 import com.antock.api.corpmanual.application.dto.response.CorpMastSearchResponse;
+import com.antock.api.corpmanual.application.dto.response.CorpMastSuggestResponse;
 import com.antock.api.corpmanual.application.service.CorpMastManualService;
 import com.antock.api.corpmanual.application.service.CorpMastManualExcelService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,10 +21,13 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
@@ -49,21 +55,48 @@ class CorpMastManualApiControllerTest {
     @DisplayName("법인 정보 검색 성공 - 페이징 없음")
     @WithMockUser
     void search_WithoutPaging() throws Exception {
-        CorpMastSearchResponse response = CorpMastSearchResponse.builder()
+        CorpMastManualResponse corp = CorpMastManualResponse.builder()
                 .id(1L)
                 .bizNm("테스트법인")
                 .bizNo("123-45-67890")
                 .build();
+        CorpMastSearchResponse response = CorpMastSearchResponse.builder()
+                .content(List.of(corp))
+                .searchInfo(CorpMastSearchResponse.SearchInfo.builder().resultCount(1).build())
+                .build();
 
-        List<CorpMastSearchResponse> results = Arrays.asList(response);
-        given(corpMastManualService.search(any(CorpMastManualRequest.class))).willReturn(results);
+        given(corpMastManualService.search(any(CorpMastManualRequest.class))).willReturn(response);
 
         mockMvc.perform(get("/api/v1/corp/search")
                         .param("bizNm", "테스트"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].bizNm").value("테스트법인"));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].bizNm").value("테스트법인"))
+                .andExpect(jsonPath("$.data.searchInfo.truncated").value(false));
+    }
+
+    @Test
+    @DisplayName("법인 정보 스트리밍 검색 - NDJSON 한 줄에 한 건")
+    @WithMockUser
+    void searchStream_WritesNdjson() throws Exception {
+        given(corpMastManualService.getMaxSearchResults()).willReturn(1000);
+        given(corpMastManualService.streamSearch(any(CorpMastManualRequest.class), any())).willAnswer(invocation -> {
+            Consumer<CorpMastManualResponse> consumer = invocation.getArgument(1);
+            consumer.accept(CorpMastManualResponse.builder().id(1L).bizNm("첫번째").build());
+            consumer.accept(CorpMastManualResponse.builder().id(2L).bizNm("두번째").build());
+            return 2;
+        });
+
+        String body = mockMvc.perform(get("/api/v1/corp/search/stream")
+                        .param("bizNm", "테스트"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Result-Limit", "1000"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("bizNm").asText()).isEqualTo("두번째");
     }
 
     @Test
@@ -210,5 +243,55 @@ class CorpMastManualApiControllerTest {
                 .andExpect(header().string("Content-Type", "application/octet-stream"))
                 .andExpect(header().exists("Content-Disposition"));
     }
-}
 
+    @Test
+    @DisplayName("자동완성 조회 성공")
+    @WithMockUser
+    void autocomplete_Success() throws Exception {
+        CorpMastSuggestResponse suggestion = CorpMastSuggestResponse.builder()
+                .id(1L)
+                .bizNm("삼성전자주식회사")
+                .prefixMatch(true)
+                .build();
+        given(corpMastManualService.suggest("삼성", "bizNm", 5)).willReturn(List.of(suggestion));
+
+        mockMvc.perform(get("/api/v1/corp/autocomplete")
+                        .param("q", "삼성")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].bizNm").value("삼성전자주식회사"))
+                .andExpect(jsonPath("$.data[0].prefixMatch").value(true));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 성공")
+    @WithMockUser
+    void bulkLookup_Success() throws Exception {
+        CorpMastManualResponse corp = CorpMastManualResponse.builder()
+                .id(1L)
+                .bizNo("1234567890")
+                .bizNm("테스트법인")
+                .build();
+        CorpMastBulkLookupResponse response = CorpMastBulkLookupResponse.builder()
+                .byBizNo(Map.of("123-45-67890", corp))
+                .byCorpRegNo(Map.of())
+                .notFoundBizNos(List.of("111-11-11111"))
+                .notFoundCorpRegNos(List.of())
+                .requestedCount(2)
+                .cacheHitCount(0)
+                .queryCount(1)
+                .build();
+        given(corpMastManualService.bulkLookup(any(CorpMastBulkLookupRequest.class))).willReturn(response);
+
+        mockMvc.perform(post("/api/v1/corp/lookup")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CorpMastBulkLookupRequest(List.of("123-45-67890", "111-11-11111"), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.byBizNo['123-45-67890'].bizNm").value("테스트법인"))
+                .andExpect(jsonPath("$.data.notFoundBizNos[0]").value("111-11-11111"));
+    }
+}
@@ -5,14 +5,16 @@ import com.antock.api.coseller.application.client.RegionApiClient;
 import com.antock.api.coseller.application.dto.CorpMastCreateDTO;
 import com.antock.api.coseller.application.dto.api.BizCsvInfoDto;
 import com.antock.api.coseller.application.dto.api.RegionInfoDto;
+import com.antock.api.coseller.application.dto.properties.EnrichmentProperties;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -33,7 +35,8 @@ class CoSellerApiServiceTest {
     @Mock
     private CoSellerDataMapper dataMapper;
 
-    @InjectMocks
+    private CoSellerEnrichmentEngine enrichmentEngine;
+
     private CoSellerApiService coSellerApiService;
 
     private BizCsvInfoDto csvInfo;
@@ -41,6 +44,10 @@ class CoSellerApiServiceTest {
 
     @BeforeEach
     void setUp() {
+        enrichmentEngine = new CoSellerEnrichmentEngine(new EnrichmentProperties());
+        enrichmentEngine.init();
+        coSellerApiService = new CoSellerApiService(corpApiClient, regionApiClient, dataMapper, enrichmentEngine);
+
         csvInfo = BizCsvInfoDto.builder()
                 .sellerId("seller1")
                 .bizNo("123-45-67890")
@@ -55,18 +62,21 @@ class CoSellerApiServiceTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        enrichmentEngine.shutdown();
+    }
+
     @Test
     @DisplayName("비동기 처리 성공")
     void processAsync_success() {
-        CompletableFuture<String> corpRegNoFuture = CompletableFuture.completedFuture("123456-7890123");
-        CompletableFuture<RegionInfoDto> regionInfoFuture = CompletableFuture.completedFuture(regionInfo);
         CorpMastCreateDTO createDTO = CorpMastCreateDTO.builder()
                 .bizNo("123-45-67890")
                 .bizNm("테스트 법인")
                 .build();
 
-        when(corpApiClient.getCorpRegNo("123-45-67890")).thenReturn(corpRegNoFuture);
-        when(regionApiClient.getRegionInfo("서울특별시 강남구")).thenReturn(regionInfoFuture);
+        when(corpApiClient.fetchCorpRegNo("123-45-67890")).thenReturn("123456-7890123");
+        when(regionApiClient.fetchRegionInfo("서울특별시 강남구")).thenReturn(regionInfo);
         when(dataMapper.mapFromApiData(csvInfo, "123456-7890123", regionInfo, "testuser"))
                 .thenReturn(Optional.of(createDTO));
 
@@ -80,7 +90,7 @@ class CoSellerApiServiceTest {
     @Test
     @DisplayName("비동기 처리 실패 - 예외 발생")
     void processAsync_exception() {
-        when(corpApiClient.getCorpRegNo(anyString())).thenThrow(new RuntimeException("API Error"));
+        when(corpApiClient.fetchCorpRegNo(anyString())).thenThrow(new RuntimeException("API Error"));
 
         CompletableFuture<Optional<CorpMastCreateDTO>> result = coSellerApiService.processAsync(csvInfo, "testuser");
 
@@ -92,11 +102,9 @@ class CoSellerApiServiceTest {
     @Test
     @DisplayName("비동기 처리 - 데이터 매퍼가 빈 결과 반환")
     void processAsync_emptyResult() {
-        CompletableFuture<String> corpRegNoFuture = CompletableFuture.completedFuture("123456-7890123");
-        CompletableFuture<RegionInfoDto> regionInfoFuture = CompletableFuture.completedFuture(regionInfo);
 
-        when(corpApiClient.getCorpRegNo("123-45-67890")).thenReturn(corpRegNoFuture);
-        when(regionApiClient.getRegionInfo("서울특별시 강남구")).thenReturn(regionInfoFuture);
+        when(corpApiClient.fetchCorpRegNo("123-45-67890")).thenReturn("123456-7890123");
+        when(regionApiClient.fetchRegionInfo("서울특별시 강남구")).thenReturn(regionInfo);
         when(dataMapper.mapFromApiData(csvInfo, "123456-7890123", regionInfo, "testuser"))
                 .thenReturn(Optional.empty());
 
@@ -106,5 +114,46 @@ class CoSellerApiServiceTest {
         Optional<CorpMastCreateDTO> dto = result.join();
         assertThat(dto).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("캐시 적중 시 외부 호출 엔진을 거치지 않고 보강")
+    void processAsync_CacheHitSkipsEngine() {
+        CorpMastCreateDTO createDTO = CorpMastCreateDTO.builder()
+                .bizNo("123-45-67890")
+                .build();
+
+        when(corpApiClient.findCachedCorpRegNo("123-45-67890")).thenReturn(Optional.of("123456-7890123"));
+        when(regionApiClient.findCachedRegionInfo("서울특별시 강남구")).thenReturn(Optional.of(regionInfo));
+        when(dataMapper.mapFromApiData(csvInfo, "123456-7890123", regionInfo, "testuser"))
+                .thenReturn(Optional.of(createDTO));
+
+        Optional<CorpMastCreateDTO> dto = coSellerApiService.processAsync(csvInfo, "testuser").join();
+
+        assertThat(dto).contains(createDTO);
+        verify(corpApiClient, never()).fetchCorpRegNo(anyString());
+        verify(regionApiClient, never()).fetchRegionInfo(anyString());
+    }
+
+    @Test
+    @DisplayName("일괄 보강 - 보강에 성공한 행만 반환")
+    void enrichAll_ReturnsOnlyEnrichedRows() {
+        BizCsvInfoDto failingInfo = BizCsvInfoDto.builder()
+                .sellerId("seller2")
+                .bizNo("999-99-99999")
+                .bizAddress("서울특별시 강남구")
+                .build();
+        CorpMastCreateDTO createDTO = CorpMastCreateDTO.builder()
+                .bizNo("123-45-67890")
+                .build();
+
+        when(corpApiClient.fetchCorpRegNo("123-45-67890")).thenReturn("123456-7890123");
+        when(corpApiClient.fetchCorpRegNo("999-99-99999")).thenThrow(new RuntimeException("API Error"));
+        when(regionApiClient.fetchRegionInfo("서울특별시 강남구")).thenReturn(regionInfo);
+        when(dataMapper.mapFromApiData(csvInfo, "123456-7890123", regionInfo, "testuser"))
+                .thenReturn(Optional.of(createDTO));
+
+        List<CorpMastCreateDTO> result = coSellerApiService.enrichAll(List.of(csvInfo, failingInfo), "testuser");
+
+        assertThat(result).containsExactly(createDTO);
+    }
+}
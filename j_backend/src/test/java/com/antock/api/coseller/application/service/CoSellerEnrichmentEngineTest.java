@@ -0,0 +1,189 @@
+package com.antock.api.coseller.application.service;
+
+import com.antock.api.coseller.application.dto.properties.EnrichmentProperties;
+import com.antock.global.common.exception.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CoSellerEnrichmentEngine 테스트")
+class CoSellerEnrichmentEngineTest {
+
+    private CoSellerEnrichmentEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 요청 수가 최대 허용치를 넘지 않음")
+    void callCorpApi_BoundsInFlightRequests() {
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setThreadPoolSize(8);
+        properties.setMaxInFlight(3);
+        properties.setCorpPermitsPerSecond(0);
+        engine = createEngine(properties);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            futures.add(engine.callCorpApi(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return value;
+            }));
+        }
+
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(engine.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 제한 시간 초과 시 TimeoutException으로 완료")
+    void callRegionApi_TimesOut() {
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setRequestTimeoutMillis(50);
+        engine = createEngine(properties);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> future = engine.callRegionApi(() -> {
+            await(release);
+            return "late";
+        });
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("요청 제한 시간 초과 시 실행 중인 호출을 중단하고 종료 후 허용치 반납")
+    void callRegionApi_TimeoutCancelsCallAndReleasesPermitWhenItEnds() {
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setMaxInFlight(1);
+        properties.setRequestTimeoutMillis(50);
+        properties.setAcquireTimeoutMillis(1_000);
+        properties.setRegionPermitsPerSecond(0);
+        engine = createEngine(properties);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<String> stuck = engine.callRegionApi(() -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        });
+
+        assertThatThrownBy(stuck::join).hasCauseInstanceOf(TimeoutException.class);
+        await(interrupted);
+        assertThat(interrupted.getCount()).isZero();
+        assertThat(engine.callRegionApi(() -> "next").join()).isEqualTo("next");
+        assertThat(engine.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("인터럽트를 무시하는 호출은 제한 시간이 지나도 끝날 때까지 허용치를 보유")
+    void callRegionApi_TimedOutCallHoldsPermitUntilItFinishes() {
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setMaxInFlight(1);
+        properties.setRequestTimeoutMillis(50);
+        properties.setAcquireTimeoutMillis(100);
+        properties.setRegionPermitsPerSecond(0);
+        engine = createEngine(properties);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> stuck = engine.callRegionApi(() -> {
+            awaitUninterruptibly(release);
+            return "late";
+        });
+
+        assertThatThrownBy(stuck::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(engine.getInFlightCount()).isEqualTo(1);
+        assertThatThrownBy(() -> engine.callRegionApi(() -> "rejected").join())
+                .hasCauseInstanceOf(ExternalApiException.class);
+
+        release.countDown();
+        properties.setAcquireTimeoutMillis(5_000);
+        assertThat(engine.callRegionApi(() -> "next").join()).isEqualTo("next");
+        assertThat(engine.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("초당 허용량에 맞춰 호출 간격 조절")
+    void callCorpApi_RespectsPermitsPerSecond() {
+        EnrichmentProperties properties = new EnrichmentProperties();
+        properties.setCorpPermitsPerSecond(50);
+        engine = createEngine(properties);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            int value = i;
+            futures.add(engine.callCorpApi(() -> value));
+        }
+        futures.forEach(CompletableFuture::join);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(180);
+    }
+
+    private CoSellerEnrichmentEngine createEngine(EnrichmentProperties properties) {
+        CoSellerEnrichmentEngine created = new CoSellerEnrichmentEngine(properties);
+        created.init();
+        return created;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (latch.getCount() > 0) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
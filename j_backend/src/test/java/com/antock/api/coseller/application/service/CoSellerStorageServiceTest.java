@@ -1,22 +1,39 @@
 package com.antock.api.coseller.application.service;
 
+import com.antock.api.corpmanual.application.service.CorpMastCacheEvictor;
+import com.antock.api.coseller.application.dto.BatchSaveResult;
 import com.antock.api.coseller.application.dto.CorpMastCreateDTO;
 import com.antock.api.coseller.domain.CorpMast;
+import com.antock.api.coseller.infrastructure.CorpMastHistoryStore;
 import com.antock.api.coseller.infrastructure.CorpMastStore;
+import com.antock.api.dashboard.application.service.ActivityFeed;
+import com.antock.api.dashboard.application.service.DashboardService;
+import com.antock.api.dashboard.application.service.RegionStatSummaryService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +43,27 @@ class CoSellerStorageServiceTest {
     @Mock
     private CorpMastStore corpMastStore;
 
+    @Mock
+    private CorpMastHistoryStore corpMastHistoryStore;
+
+    @Mock
+    private RegionStatSummaryService regionStatSummaryService;
+
+    @Mock
+    private CorpMastCacheEvictor corpMastCacheEvictor;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private ActivityFeed activityFeed;
+
+    @Mock
+    private Executor asyncExecutor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private CoSellerStorageService coSellerStorageService;
 
@@ -73,6 +111,80 @@ class CoSellerStorageServiceTest {
         assertThat(savedCount).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("배치 저장 - 행별 결과 집계")
+    void saveCorpMastBatch_ReportsRowOutcomes() {
+        List<CorpMastCreateDTO> dtos = List.of(
+                createDto("111-11-11111"),
+                createDto("222-22-22222"),
+                createDto("222-22-22222"),
+                createDto("333-33-33333"),
+                createDto("444-44-44444"),
+                createDto("555-55-55555"));
+        given(corpMastStore.findExistingBizNos(anyList())).willReturn(List.of("111-11-11111"));
+        given(corpMastStore.insertIgnoringDuplicates(anyList()))
+                .willReturn(new int[] { 1, 0, Statement.EXECUTE_FAILED, Statement.SUCCESS_NO_INFO });
+
+        BatchSaveResult result = coSellerStorageService.saveCorpMastBatch(dtos, "testuser");
+
+        assertThat(result.getSavedCount()).isEqualTo(1);
+        assertThat(result.getDuplicateCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getRowResults()).hasSize(6);
+        verify(corpMastStore, never()).save(any(CorpMast.class));
+        verify(asyncExecutor).execute(any(Runnable.class));
+        verify(regionStatSummaryService).recordInserted(argThat(saved -> saved.size() == 1
+                && "222-22-22222".equals(saved.iterator().next().getBizNo())));
+        verify(corpMastCacheEvictor).evictForWrites(argThat(saved -> saved.size() == 1));
+        verify(dashboardService).requestRefresh();
+    }
+
+    @Test
+    @DisplayName("배치 저장 - 배치 실패 시 건별 저장으로 전환")
+    void saveCorpMastBatch_FallsBackToRowByRow() {
+        List<CorpMastCreateDTO> dtos = List.of(createDto("111-11-11111"), createDto("222-22-22222"));
+        given(corpMastStore.findExistingBizNos(anyList())).willReturn(List.of());
+        given(corpMastStore.insertIgnoringDuplicates(anyList()))
+                .willThrow(new RuntimeException("batch failed"));
+
+        BatchSaveResult result = coSellerStorageService.saveCorpMastBatch(dtos, "testuser");
+
+        assertThat(result.getSavedCount()).isEqualTo(2);
+        verify(corpMastStore, times(2)).save(any(CorpMast.class));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_NESTED));
+        verify(transactionManager, times(2)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("배치 저장 - 건별 저장 중 유니크 키 위반은 중복으로 분류")
+    void saveCorpMastBatch_FallbackClassifiesUniqueViolationAsDuplicate() {
+        List<CorpMastCreateDTO> dtos = List.of(
+                createDto("111-11-11111"),
+                createDto("222-22-22222"),
+                createDto("333-33-33333"),
+                createDto("444-44-44444"));
+        given(corpMastStore.findExistingBizNos(anyList())).willReturn(List.of());
+        given(corpMastStore.insertIgnoringDuplicates(anyList()))
+                .willThrow(new RuntimeException("batch failed"));
+        willThrow(new DuplicateKeyException("duplicate key"))
+                .willThrow(new DataIntegrityViolationException("unique violation",
+                        new SQLException("duplicate key value violates unique constraint", "23505")))
+                .willThrow(new DataIntegrityViolationException("not-null violation",
+                        new SQLException("null value in column", "23502")))
+                .willDoNothing()
+                .given(corpMastStore).save(any(CorpMast.class));
+
+        BatchSaveResult result = coSellerStorageService.saveCorpMastBatch(dtos, "testuser");
+
+        assertThat(result.getSavedCount()).isEqualTo(1);
+        assertThat(result.getDuplicateCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        verify(regionStatSummaryService).recordInserted(argThat(saved -> saved.size() == 1
+                && "444-44-44444".equals(saved.iterator().next().getBizNo())));
+    }
+
     @Test
     @DisplayName("전체 데이터 삭제 성공")
     void clearAllData_Success() {
@@ -94,6 +206,20 @@ class CoSellerStorageServiceTest {
 
         assertThat(deletedCount).isEqualTo(1);
         verify(corpMastStore).findAll();
+        verify(regionStatSummaryService).recordDeleted(allCorps);
+        verify(corpMastCacheEvictor).evictAll();
     }
-}
 
+    private CorpMastCreateDTO createDto(String bizNo) {
+        return CorpMastCreateDTO.builder()
+                .sellerId("seller-" + bizNo)
+                .bizNm("법인-" + bizNo)
+                .bizNo(bizNo)
+                .corpRegNo("110111-1234567")
+                .regionCd("11680")
+                .siNm("서울특별시")
+                .sggNm("강남구")
+                .username("testuser")
+                .build();
+    }
+}
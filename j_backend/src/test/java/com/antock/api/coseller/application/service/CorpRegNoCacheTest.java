@@ -0,0 +1,104 @@
+package com.antock.api.coseller.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CorpRegNoCache 테스트")
+class CorpRegNoCacheTest {
+
+    private CorpRegNoCache corpRegNoCache;
+
+    @BeforeEach
+    void setUp() {
+        corpRegNoCache = new CorpRegNoCache();
+        ReflectionTestUtils.setField(corpRegNoCache, "maxSize", 100);
+        ReflectionTestUtils.setField(corpRegNoCache, "ttlMinutes", 60L);
+        corpRegNoCache.init();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 사업자번호 조회는 한 번만 호출")
+    void get_CoalescesConcurrentLookups() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, String> loader = bizNo -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "110111-1234567";
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> corpRegNoCache.get("123-45-67890", loader), executor));
+            }
+            while (((Number) corpRegNoCache.getStatistics().get("coalescedCalls")).longValue() < 3) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (CompletableFuture<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("110111-1234567");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(corpRegNoCache.getStatistics())
+                .containsEntry("issuedCalls", 1L)
+                .containsEntry("coalescedCalls", 3L);
+    }
+
+    @Test
+    @DisplayName("하이픈 유무와 관계없이 캐시된 값을 재사용")
+    void get_ReusesCachedValue() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, String> loader = bizNo -> {
+            calls.incrementAndGet();
+            return "110111-1234567";
+        };
+
+        corpRegNoCache.get("123-45-67890", loader);
+        String result = corpRegNoCache.get("1234567890", loader);
+
+        assertThat(result).isEqualTo("110111-1234567");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(corpRegNoCache.getStatistics()).containsEntry("cacheHits", 1L);
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않고 예외를 그대로 전달")
+    void get_PropagatesFailureWithoutCaching() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, String> loader = bizNo -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("API Error");
+        };
+
+        assertThatThrownBy(() -> corpRegNoCache.get("123-45-67890", loader)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> corpRegNoCache.get("123-45-67890", loader)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
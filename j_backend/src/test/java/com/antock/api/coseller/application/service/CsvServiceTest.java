@@ -0,0 +1,92 @@
+package com.antock.api.coseller.application.service;
+
+import com.antock.api.coseller.application.dto.CsvReadResult;
+import com.antock.api.coseller.application.dto.api.BizCsvInfoDto;
+import com.antock.api.coseller.application.service.strategy.CsvFileReadStrategy;
+import com.antock.global.utils.CharsetDetector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CsvService 테스트")
+class CsvServiceTest {
+
+    private static final String HEADER = "통신판매번호,신고기관명,상호,사업자등록번호,법인여부,대표자명,전화번호,전자우편,신고일자,사업장소재지,사업장소재지(도로명)";
+
+    @Mock
+    private CsvFileReadStrategy csvFileReadStrategy;
+
+    @Spy
+    private CharsetDetector charsetDetector = new CharsetDetector();
+
+    @InjectMocks
+    private CsvService csvService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(csvService, "bufferSize", 8192);
+        ReflectionTestUtils.setField(csvService, "maxLines", 10);
+        ReflectionTestUtils.setField(csvService, "csvEncoding", "UTF-8");
+    }
+
+    @Test
+    @DisplayName("청크 단위 읽기 - 라인 수 제한 없이 청크 크기만큼 전달")
+    void readCsvFileInChunks_DeliversBoundedChunks() {
+        given(csvFileReadStrategy.readFile(anyString())).willReturn(csvOf(25, true));
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        CsvReadResult result = csvService.readCsvFileInChunks("test.csv", 10, chunk -> chunkSizes.add(chunk.size()));
+
+        assertThat(chunkSizes).containsExactly(10, 10, 5);
+        assertThat(result.getValidCount()).isEqualTo(25);
+        assertThat(result.getInvalidCount()).isEqualTo(1);
+        assertThat(result.isTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("목록 읽기 - 최대 라인 수 초과 시 잘림 표시")
+    void readCsvFile_RespectsMaxLines() {
+        given(csvFileReadStrategy.readFile(anyString())).willReturn(csvOf(25, false));
+
+        List<BizCsvInfoDto> list = csvService.readCsvFile("test.csv");
+
+        assertThat(list).hasSize(9);
+        assertThat(list.get(0).getBizNm()).isEqualTo("상호0");
+    }
+
+    private ByteArrayInputStream csvOf(int rows, boolean withInvalidLine) {
+        StringBuilder sb = new StringBuilder(HEADER).append('\n');
+        for (int i = 0; i < rows; i++) {
+            sb.append("2025-서울강남-").append(i)
+                    .append(",서울특별시 강남구,상호").append(i)
+                    .append(",123-45-").append(String.format("%05d", i))
+                    .append(",법인,홍길동,02-000-0000,test@test.com,20250101,서울특별시 강남구 테헤란로,서울특별시 강남구 테헤란로 1\n");
+            if (withInvalidLine && i == 3) {
+                sb.append("invalid,line\n");
+            }
+        }
+        byte[] body = sb.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] withBom = new byte[body.length + 3];
+        withBom[0] = (byte) 0xEF;
+        withBom[1] = (byte) 0xBB;
+        withBom[2] = (byte) 0xBF;
+        System.arraycopy(body, 0, withBom, 3, body.length);
+        return new ByteArrayInputStream(withBom);
+    }
+}
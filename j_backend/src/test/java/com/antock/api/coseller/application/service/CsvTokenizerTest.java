@@ -0,0 +1,63 @@
+package com.antock.api.coseller.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvTokenizer 테스트")
+class CsvTokenizerTest {
+
+    @Test
+    @DisplayName("필드 공백 제거 및 CRLF 레코드 구분")
+    void nextRecord_TrimsFieldsAndHandlesCrlf() throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(" a , b ,c\r\nd,e,f\r\n"), 1024);
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.fieldCount()).isEqualTo(3);
+        assertThat(tokenizer.field(0)).isEqualTo("a");
+        assertThat(tokenizer.field(1)).isEqualTo("b");
+        assertThat(tokenizer.field(2)).isEqualTo("c");
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.field(2)).isEqualTo("f");
+        assertThat(tokenizer.nextRecord()).isFalse();
+        assertThat(tokenizer.lineNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표, 줄바꿈, 이중 따옴표 처리")
+    void nextRecord_HandlesQuotedFields() throws IOException {
+        String csv = "\"서울특별시, 강남구\",\"첫째 줄\n둘째 줄\",\"say \"\"hi\"\"\"\nnext,row,end";
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), 1024);
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.fieldCount()).isEqualTo(3);
+        assertThat(tokenizer.field(0)).isEqualTo("서울특별시, 강남구");
+        assertThat(tokenizer.field(1)).isEqualTo("첫째 줄\n둘째 줄");
+        assertThat(tokenizer.field(2)).isEqualTo("say \"hi\"");
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.field(0)).isEqualTo("next");
+        assertThat(tokenizer.field(2)).isEqualTo("end");
+        assertThat(tokenizer.nextRecord()).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 레코드 감지 및 버퍼 경계를 넘는 레코드 처리")
+    void nextRecord_DetectsBlankRecordsAcrossBufferBoundaries() throws IOException {
+        String longValue = "가".repeat(3000);
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("   \n" + longValue + ",x\n"), 16);
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.isBlankRecord()).isTrue();
+
+        assertThat(tokenizer.nextRecord()).isTrue();
+        assertThat(tokenizer.isBlankRecord()).isFalse();
+        assertThat(tokenizer.field(0)).isEqualTo(longValue);
+        assertThat(tokenizer.field(1)).isEqualTo("x");
+    }
+}
@@ -0,0 +1,141 @@
+package com.antock.api.coseller.application.service;
+
+import com.antock.api.coseller.application.dto.api.RegionInfoDto;
+import com.antock.global.common.exception.ExternalApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RegionInfoCache 테스트")
+class RegionInfoCacheTest {
+
+    private RegionInfoCache regionInfoCache;
+
+    @BeforeEach
+    void setUp() {
+        regionInfoCache = new RegionInfoCache(new ObjectMapper());
+        ReflectionTestUtils.setField(regionInfoCache, "maxSize", 100);
+        ReflectionTestUtils.setField(regionInfoCache, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(regionInfoCache, "negativeTtlMinutes", 10L);
+        ReflectionTestUtils.setField(regionInfoCache, "redisEnabled", false);
+        regionInfoCache.init();
+    }
+
+    @Test
+    @DisplayName("정규화된 주소가 같으면 API를 한 번만 호출")
+    void get_ReusesEntryForNormalizedAddress() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, RegionInfoDto> loader = address -> {
+            calls.incrementAndGet();
+            return RegionInfoDto.builder().regionCd("1168010100").siNm("서울특별시").sggNm("강남구").build();
+        };
+
+        RegionInfoDto first = regionInfoCache.get("서울특별시 강남구 테헤란로 123 (역삼동)", loader);
+        RegionInfoDto second = regionInfoCache.get("서울특별시  강남구 테헤란로 123", loader);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(regionInfoCache.getStatistics())
+                .containsEntry("localHits", 1L)
+                .containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("주소 없음 응답은 부정 캐시로 저장")
+    void get_CachesNotFound() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, RegionInfoDto> loader = address -> {
+            calls.incrementAndGet();
+            throw new ExternalApiException(HttpStatus.NOT_FOUND, "주소 정보 없음", "Region Info API", null);
+        };
+
+        assertThatThrownBy(() -> regionInfoCache.get("없는 주소 1", loader)).isInstanceOf(ExternalApiException.class);
+        assertThatThrownBy(() -> regionInfoCache.get("없는 주소 1", loader))
+                .isInstanceOf(ExternalApiException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.NOT_FOUND);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(regionInfoCache.getStatistics()).containsEntry("negativeHits", 1L);
+    }
+
+    @Test
+    @DisplayName("캐시 전용 조회 - 미적중은 null, 적중은 값, 부정 캐시는 NOT_FOUND 예외")
+    void getIfPresent_ReturnsOnlyCachedEntries() {
+        RegionInfoDto regionInfo = RegionInfoDto.builder().regionCd("1168010100").siNm("서울특별시").sggNm("강남구").build();
+
+        assertThat(regionInfoCache.getIfPresent("서울특별시 강남구 테헤란로 123")).isNull();
+        regionInfoCache.get("서울특별시 강남구 테헤란로 123", address -> regionInfo);
+        assertThatThrownBy(() -> regionInfoCache.get("없는 주소 1", address -> {
+            throw new ExternalApiException(HttpStatus.NOT_FOUND, "주소 정보 없음", "Region Info API", null);
+        })).isInstanceOf(ExternalApiException.class);
+
+        assertThat(regionInfoCache.getIfPresent("서울특별시  강남구 테헤란로 123")).isSameAs(regionInfo);
+        assertThatThrownBy(() -> regionInfoCache.getIfPresent("없는 주소 1"))
+                .isInstanceOf(ExternalApiException.class)
+                .extracting("httpStatus").isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(regionInfoCache.getStatistics()).containsEntry("misses", 2L);
+    }
+
+    @Test
+    @DisplayName("일시적인 API 오류는 캐시하지 않음")
+    void get_DoesNotCacheTransientFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, RegionInfoDto> loader = address -> {
+            calls.incrementAndGet();
+            throw new ExternalApiException(HttpStatus.SERVICE_UNAVAILABLE, "연결 실패", "Region Info API", null);
+        };
+
+        assertThatThrownBy(() -> regionInfoCache.get("서울특별시 강남구", loader)).isInstanceOf(ExternalApiException.class);
+        assertThatThrownBy(() -> regionInfoCache.get("서울특별시 강남구", loader)).isInstanceOf(ExternalApiException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 삭제 시 로컬 캐시와 Redis의 지역 정보 키를 함께 삭제")
+    @SuppressWarnings("unchecked")
+    void clear_DeletesLocalAndRedisEntries() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("region-info:서울특별시 강남구", "region-info:서울특별시 서초구");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(redisTemplate.delete(anyCollection())).thenReturn(2L);
+        ReflectionTestUtils.setField(regionInfoCache, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(regionInfoCache, "redisEnabled", true);
+
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, RegionInfoDto> loader = address -> {
+            calls.incrementAndGet();
+            return RegionInfoDto.builder().regionCd("1168010100").siNm("서울특별시").sggNm("강남구").build();
+        };
+        regionInfoCache.get("서울특별시 강남구", loader);
+
+        assertThat(regionInfoCache.clear()).isEqualTo(2L);
+
+        ArgumentCaptor<Collection<String>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(redisTemplate).delete(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly("region-info:서울특별시 강남구", "region-info:서울특별시 서초구");
+        verify(cursor).close();
+        assertThat(regionInfoCache.getStatistics()).containsEntry("localSize", 0);
+    }
+}
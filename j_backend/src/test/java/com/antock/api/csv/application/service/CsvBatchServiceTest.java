@@ -1,9 +1,14 @@
 package com.antock.api.csv.application.service;
 
+import com.antock.api.csv.application.dto.CsvBatchProgress;
 import com.antock.api.csv.domain.CsvBatchHistory;
 import com.antock.api.csv.infrastructure.CorpInfoApiClient;
+import com.antock.api.csv.infrastructure.CorpInfoItem;
+import com.antock.api.csv.infrastructure.CorpInfoPageException;
 import com.antock.api.csv.infrastructure.CsvBatchHistoryRepository;
 import com.antock.api.csv.infrastructure.CsvFileWriter;
+import com.antock.api.csv.infrastructure.CsvWriteSession;
+import com.antock.api.dashboard.application.service.ActivityFeed;
 import com.antock.api.coseller.value.City;
 import com.antock.api.coseller.value.District;
 import com.antock.global.common.exception.BusinessException;
@@ -16,15 +21,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +48,12 @@ class CsvBatchServiceTest {
     @Mock
     private CsvBatchHistoryRepository historyRepo;
 
+    @Mock
+    private CsvWriteSession session;
+
+    @Mock
+    private ActivityFeed activityFeed;
+
     @InjectMocks
     private CsvBatchService csvBatchService;
 
@@ -47,42 +61,48 @@ class CsvBatchServiceTest {
     void setUp() {
         ReflectionTestUtils.setField(csvBatchService, "maxRetryAttempts", 3);
         ReflectionTestUtils.setField(csvBatchService, "retryDelay", 1000L);
-        ReflectionTestUtils.setField(csvBatchService, "chunkSize", 1000);
         ReflectionTestUtils.setField(csvBatchService, "maxConcurrent", 5);
     }
 
     @Test
     @DisplayName("지역 처리 성공")
     void processDistrict_success() throws IOException {
-        Map<String, Object> data = new HashMap<>();
-        data.put("sellerId", "seller1");
-        data.put("bizNm", "테스트 법인");
+        CorpInfoItem data = CorpInfoItem.builder()
+                .sellerId("seller1")
+                .bizNm("테스트 법인")
+                .build();
 
-        when(apiClient.fetchAll(anyString(), anyString())).thenReturn(Arrays.asList(data));
-        doNothing().when(fileWriter).writeCsv(anyString(), anyString(), anyList(), anyList(), anyMap());
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        givenFetchedPages(List.of(data));
         when(historyRepo.save(any(CsvBatchHistory.class))).thenReturn(new CsvBatchHistory());
 
         csvBatchService.processDistrict(City.서울특별시, District.강남구);
 
-        verify(apiClient).fetchAll(anyString(), anyString());
-        verify(fileWriter).writeCsv(anyString(), anyString(), anyList(), anyList(), anyMap());
+        verify(apiClient).fetchAll(anyString(), anyString(), any());
+        verify(session).append(List.of(data));
+        verify(session).commit();
+        verify(session).close();
     }
 
     @Test
     @DisplayName("지역 처리 - 데이터 없음")
-    void processDistrict_noData() {
-        when(apiClient.fetchAll(anyString(), anyString())).thenReturn(Arrays.asList());
+    void processDistrict_noData() throws IOException {
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        when(apiClient.fetchAll(anyString(), anyString(), any())).thenReturn(0);
         when(historyRepo.save(any(CsvBatchHistory.class))).thenReturn(new CsvBatchHistory());
 
         csvBatchService.processDistrict(City.서울특별시, District.강남구);
 
         verify(historyRepo, atLeastOnce()).save(any(CsvBatchHistory.class));
+        verify(session, never()).commit();
+        verify(session).close();
     }
 
     @Test
     @DisplayName("지역 처리 - API 호출 실패")
-    void processDistrict_apiFailure() {
-        when(apiClient.fetchAll(anyString(), anyString())).thenThrow(new RuntimeException("API error"));
+    void processDistrict_apiFailure() throws IOException {
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        when(apiClient.fetchAll(anyString(), anyString(), any())).thenThrow(new RuntimeException("API error"));
 
         assertThatThrownBy(() -> csvBatchService.processDistrict(City.서울특별시, District.강남구))
                 .isInstanceOf(BusinessException.class)
@@ -92,15 +112,136 @@ class CsvBatchServiceTest {
     @Test
     @DisplayName("지역 처리 - 파일 작성 실패")
     void processDistrict_fileWriteFailure() throws IOException {
-        Map<String, Object> data = new HashMap<>();
-        data.put("sellerId", "seller1");
+        CorpInfoItem data = CorpInfoItem.builder()
+                .sellerId("seller1")
+                .build();
 
-        when(apiClient.fetchAll(anyString(), anyString())).thenReturn(Arrays.asList(data));
-        doThrow(new IOException("Write error")).when(fileWriter).writeCsv(anyString(), anyString(), anyList(), anyList(), anyMap());
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        givenFetchedPages(List.of(data));
+        doThrow(new UncheckedIOException(new IOException("Write error"))).when(session).append(anyList());
 
         assertThatThrownBy(() -> csvBatchService.processDistrict(City.서울특별시, District.강남구))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CORP_SEARCH_ERROR);
     }
-}
 
+    @Test
+    @DisplayName("지역 처리 - API 일시 오류 시 새 세션으로 재시도")
+    void processDistrict_retriesTransientApiFailure() throws IOException {
+        ReflectionTestUtils.setField(csvBatchService, "retryDelay", 1L);
+        CsvWriteSession failedSession = mock(CsvWriteSession.class);
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(failedSession, session);
+        when(apiClient.fetchAll(anyString(), anyString(), any()))
+                .thenThrow(new ResourceAccessException("timeout"))
+                .thenReturn(3);
+
+        int records = csvBatchService.processDistrict(City.서울특별시, District.강남구);
+
+        assertThat(records).isEqualTo(3);
+        verify(failedSession, never()).commit();
+        verify(failedSession).close();
+        verify(session).commit();
+    }
+
+    @Test
+    @DisplayName("지역 처리 - 중간 페이지 응답 오류 시 새 세션으로 재시도")
+    void processDistrict_retriesMalformedPage() throws IOException {
+        ReflectionTestUtils.setField(csvBatchService, "retryDelay", 1L);
+        CsvWriteSession failedSession = mock(CsvWriteSession.class);
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(failedSession, session);
+        when(apiClient.fetchAll(anyString(), anyString(), any()))
+                .thenThrow(new CorpInfoPageException(2, "JSON 파싱 실패"))
+                .thenReturn(3);
+
+        int records = csvBatchService.processDistrict(City.서울특별시, District.강남구);
+
+        assertThat(records).isEqualTo(3);
+        verify(failedSession, never()).commit();
+        verify(session).commit();
+    }
+
+    @Test
+    @DisplayName("지역 처리 - 재시도 횟수 초과 시 실패")
+    void processDistrict_givesUpAfterMaxAttempts() throws IOException {
+        ReflectionTestUtils.setField(csvBatchService, "retryDelay", 1L);
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        when(apiClient.fetchAll(anyString(), anyString(), any())).thenThrow(new ResourceAccessException("timeout"));
+
+        assertThatThrownBy(() -> csvBatchService.processDistrict(City.서울특별시, District.강남구))
+                .isInstanceOf(BusinessException.class);
+        verify(apiClient, times(3)).fetchAll(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("배치 실행 - 모든 시/군/구를 처리하고 진행 상황 기록")
+    void runBatch_processesEveryDistrict() throws IOException {
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        when(apiClient.fetchAll(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> "강남구".equals(invocation.getArgument(1)) ? 0 : 1);
+
+        csvBatchService.runBatch();
+
+        CsvBatchProgress progress = csvBatchService.getProgress().orElseThrow();
+        assertThat(progress.isRunning()).isFalse();
+        assertThat(progress.getTotalTasks()).isEqualTo(63);
+        assertThat(progress.getCompletedTasks()).isEqualTo(63);
+        assertThat(progress.getFailed()).isZero();
+        assertThat(progress.getRecordCount()).isEqualTo(62);
+        assertThat(progress.getInProgress()).isEmpty();
+        verify(apiClient, times(63)).fetchAll(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("지역 처리 실패 시 ERROR 이력은 예외와 별개로 저장 및 발행")
+    void processDistrict_failureKeepsErrorHistory() throws IOException {
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        when(apiClient.fetchAll(anyString(), anyString(), any())).thenThrow(new RuntimeException("API error"));
+
+        assertThatThrownBy(() -> csvBatchService.processDistrict(City.서울특별시, District.강남구))
+                .isInstanceOf(BusinessException.class);
+
+        verify(historyRepo).save(argThat((CsvBatchHistory history) -> "ERROR".equals(history.getStatus())));
+        verify(activityFeed).publish(argThat((CsvBatchHistory history) -> "ERROR".equals(history.getStatus())));
+    }
+
+    @Test
+    @DisplayName("배치 실행 - 재시도 횟수는 현재 실행의 진행 상황에만 기록")
+    void runBatch_countsRetriesForCurrentRunOnly() throws IOException {
+        ReflectionTestUtils.setField(csvBatchService, "retryDelay", 1L);
+        given(fileWriter.openSession(anyString(), anyString(), anyList())).willReturn(session);
+        when(apiClient.fetchAll(anyString(), anyString(), any())).thenReturn(1);
+        csvBatchService.runBatch();
+        CsvBatchProgress finished = csvBatchService.getProgress().orElseThrow();
+
+        when(apiClient.fetchAll(anyString(), anyString(), any()))
+                .thenThrow(new ResourceAccessException("timeout"))
+                .thenReturn(1);
+        csvBatchService.processDistrict(City.서울특별시, District.강남구);
+
+        assertThat(finished.getRetried()).isZero();
+
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if ("강남구".equals(invocation.getArgument(1)) && failedOnce.compareAndSet(false, true)) {
+                throw new ResourceAccessException("timeout");
+            }
+            return 1;
+        }).when(apiClient).fetchAll(anyString(), anyString(), any());
+        csvBatchService.runBatch();
+
+        assertThat(csvBatchService.getProgress().orElseThrow().getRetried()).isEqualTo(1);
+    }
+
+    @SafeVarargs
+    private void givenFetchedPages(List<CorpInfoItem>... pages) {
+        when(apiClient.fetchAll(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            Consumer<List<CorpInfoItem>> consumer = invocation.getArgument(2);
+            int total = 0;
+            for (List<CorpInfoItem> page : pages) {
+                consumer.accept(page);
+                total += page.size();
+            }
+            return total;
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.antock.api.csv.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("CorpInfoApiClient 테스트")
+class CorpInfoApiClientTest {
+
+    private MockRestServiceServer server;
+    private CorpInfoApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        apiClient = new CorpInfoApiClient(restTemplate, new ObjectMapper(),
+                "http://localhost", "/corp", "test-key", 2, 49, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 페이지의 전체 건수로 나머지 페이지를 병렬 조회")
+    void fetchAll_FetchesRemainingPagesFromTotalCount() {
+        server.expect(requestTo(containsString("pageNo=1&")))
+                .andRespond(withSuccess(page(5, "s1", "s2"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("pageNo=2&")))
+                .andRespond(withSuccess(page(5, "s3", "s4"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("pageNo=3&")))
+                .andRespond(withSuccess(page(5, "s5"), MediaType.APPLICATION_JSON));
+
+        List<Integer> pageSizes = new ArrayList<>();
+        List<String> sellerIds = new ArrayList<>();
+        int total = apiClient.fetchAll("서울특별시", "강남구", items -> {
+            pageSizes.add(items.size());
+            items.forEach(item -> sellerIds.add(item.getSellerId()));
+        });
+
+        server.verify();
+        assertThat(total).isEqualTo(5);
+        assertThat(pageSizes).hasSize(3);
+        assertThat(sellerIds).containsExactlyInAnyOrder("s1", "s2", "s3", "s4", "s5");
+    }
+
+    @Test
+    @DisplayName("스트리밍 파싱 - 알 수 없는 필드와 중첩 값은 건너뜀")
+    void fetchAll_SkipsUnknownFields() {
+        String body = "{\"resultCode\":\"00\",\"totalCount\":\"1\",\"meta\":{\"a\":[1,2]},\"items\":["
+                + "{\"sellerId\":\"s1\",\"bizNm\":\"상호\",\"extra\":{\"x\":1},\"bizNo\":null}]}";
+        server.expect(requestTo(containsString("pageNo=1&")))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        List<CorpInfoItem> received = new ArrayList<>();
+        int total = apiClient.fetchAll("서울특별시", "강남구", received::addAll);
+
+        assertThat(total).isEqualTo(1);
+        assertThat(received.get(0).getBizNm()).isEqualTo("상호");
+        assertThat(received.get(0).getBizNo()).isNull();
+    }
+
+    @Test
+    @DisplayName("XML 오류 응답은 페이지 오류로 실패 처리")
+    void fetchAll_ThrowsOnXmlError() {
+        server.expect(requestTo(containsString("pageNo=1&")))
+                .andRespond(withSuccess("<OpenAPI_ServiceResponse/>", MediaType.APPLICATION_XML));
+
+        assertThatThrownBy(() -> apiClient.fetchAll("서울특별시", "강남구", items -> {
+        }))
+                .isInstanceOf(CorpInfoPageException.class)
+                .hasMessageContaining("XML");
+    }
+
+    @Test
+    @DisplayName("중간 페이지 응답이 깨지면 빈 페이지로 넘기지 않고 지역 조회를 실패 처리")
+    void fetchAll_ThrowsWhenMiddlePageIsMalformed() {
+        server.expect(requestTo(containsString("pageNo=1&")))
+                .andRespond(withSuccess(page(5, "s1", "s2"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("pageNo=2&")))
+                .andRespond(withSuccess("{\"totalCount\":5,\"items\":[{\"sellerId\":", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("pageNo=3&")))
+                .andRespond(withSuccess(page(5, "s5"), MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> apiClient.fetchAll("서울특별시", "강남구", items -> {
+        }))
+                .isInstanceOf(CorpInfoPageException.class)
+                .isInstanceOf(RestClientException.class)
+                .satisfies(e -> assertThat(((CorpInfoPageException) e).getPage()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지 이전의 빈 페이지는 오류로 처리")
+    void fetchAll_ThrowsWhenMiddlePageIsEmpty() {
+        server.expect(requestTo(containsString("pageNo=1&")))
+                .andRespond(withSuccess(page(5, "s1", "s2"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("pageNo=2&")))
+                .andRespond(withSuccess(page(5), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(containsString("pageNo=3&")))
+                .andRespond(withSuccess(page(5, "s5"), MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> apiClient.fetchAll("서울특별시", "강남구", items -> {
+        }))
+                .isInstanceOf(CorpInfoPageException.class)
+                .hasMessageContaining("2페이지");
+    }
+
+    private static String page(int totalCount, String... sellerIds) {
+        StringBuilder sb = new StringBuilder("{\"totalCount\":").append(totalCount).append(",\"items\":[");
+        for (int i = 0; i < sellerIds.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"sellerId\":\"").append(sellerIds[i]).append("\",\"bizNm\":\"상호\"}");
+        }
+        return sb.append("]}").toString();
+    }
+}
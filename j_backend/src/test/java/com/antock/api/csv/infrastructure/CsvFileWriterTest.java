@@ -0,0 +1,77 @@
+package com.antock.api.csv.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvFileWriter 테스트")
+class CsvFileWriterTest {
+
+    private static final List<String> HEADERS = List.of("sellerId", "bizNm", "bizAddress");
+
+    @TempDir
+    Path tempDir;
+
+    private CsvFileWriter fileWriter;
+
+    @BeforeEach
+    void setUp() {
+        fileWriter = new CsvFileWriter();
+        ReflectionTestUtils.setField(fileWriter, "fileTemplate", "%s_%s.csv");
+        ReflectionTestUtils.setField(fileWriter, "uploadDir", tempDir.toString());
+        ReflectionTestUtils.setField(fileWriter, "bufferSize", 64);
+    }
+
+    @Test
+    @DisplayName("청크를 이어 쓰고 확정 시 BOM과 헤더는 한 번만 기록")
+    void session_AppendsChunksAndCommits() throws IOException {
+        try (CsvWriteSession session = fileWriter.openSession("서울특별시", "강남구", HEADERS)) {
+            session.append(List.of(item("s1", "상호,하나", "서울\n강남구")));
+            session.append(List.of(item("s2", "상호둘", null), item("s3", "상호셋", "주소")));
+            session.commit();
+        }
+
+        Path target = tempDir.resolve("서울특별시_강남구.csv");
+        byte[] bytes = Files.readAllBytes(target);
+        assertThat(bytes[0] & 0xFF).isEqualTo(0xEF);
+
+        String content = new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        assertThat(content).isEqualTo("sellerId,bizNm,bizAddress\n"
+                + "s1,상호 하나,서울 강남구\n"
+                + "s2,상호둘,\n"
+                + "s3,상호셋,주소\n");
+        assertThat(Files.exists(tempDir.resolve("서울특별시_강남구.csv.part"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("확정하지 않은 세션은 기존 파일을 유지하고 임시 파일을 삭제")
+    void session_AbortKeepsPreviousFile() throws IOException {
+        Path target = tempDir.resolve("서울특별시_강남구.csv");
+        Files.writeString(target, "previous");
+
+        try (CsvWriteSession session = fileWriter.openSession("서울특별시", "강남구", HEADERS)) {
+            session.append(List.of(item("s1", "상호", "주소")));
+        }
+
+        assertThat(Files.readString(target)).isEqualTo("previous");
+        assertThat(Files.exists(tempDir.resolve("서울특별시_강남구.csv.part"))).isFalse();
+    }
+
+    private static CorpInfoItem item(String sellerId, String bizNm, String bizAddress) {
+        return CorpInfoItem.builder()
+                .sellerId(sellerId)
+                .bizNm(bizNm)
+                .bizAddress(bizAddress)
+                .build();
+    }
+}
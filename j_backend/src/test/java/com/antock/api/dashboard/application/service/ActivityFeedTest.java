@@ -0,0 +1,116 @@
+package com.antock.api.dashboard.application.service;
+
+import com.antock.api.coseller.domain.CorpMastHistory;
+import com.antock.api.coseller.infrastructure.CorpMastHistoryRepository;
+import com.antock.api.csv.domain.CsvBatchHistory;
+import com.antock.api.csv.infrastructure.CsvBatchHistoryRepository;
+import com.antock.api.dashboard.application.dto.ActivityEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityFeed 테스트")
+class ActivityFeedTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock
+    private CorpMastHistoryRepository corpMastHistoryRepository;
+
+    @Mock
+    private CsvBatchHistoryRepository csvBatchHistoryRepository;
+
+    @InjectMocks
+    private ActivityFeed activityFeed;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(activityFeed, "capacity", 3);
+    }
+
+    @Test
+    @DisplayName("이력 적재 - 소스별 이력을 실제 시각 기준으로 병합")
+    void seedFromHistory_MergesByTimestamp() {
+        when(corpMastHistoryRepository.findTop10ByOrderByTimestampDesc()).thenReturn(List.of(
+                corpHistory("A", BASE.plusMinutes(30)),
+                corpHistory("B", BASE.plusMinutes(5))));
+        when(csvBatchHistoryRepository.findTop10ByOrderByTimestampDesc()).thenReturn(List.of(
+                csvHistory(BASE.plusMinutes(20)),
+                csvHistory(BASE)));
+
+        activityFeed.seedFromHistory();
+
+        assertThat(activityFeed.latest(10))
+                .extracting(ActivityEvent::getTimestamp)
+                .containsExactly(BASE.plusMinutes(30), BASE.plusMinutes(20), BASE.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 용량을 넘으면 오래된 이벤트부터 제거")
+    void publish_KeepsLatestEventsOnly() {
+        for (int i = 0; i < 5; i++) {
+            activityFeed.publish(corpHistory("B" + i, BASE.plusMinutes(i)));
+        }
+
+        assertThat(activityFeed.latest(10))
+                .extracting(ActivityEvent::getSequence)
+                .containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("커서 이후 이벤트만 반환")
+    void since_ReturnsEventsAfterCursor() {
+        activityFeed.publish(corpHistory("A", BASE));
+        activityFeed.publish(csvHistory(BASE.plusMinutes(1)));
+
+        ActivityFeed.FeedWindow window = activityFeed.since(1, 10);
+
+        assertThat(window.getEvents()).extracting(ActivityEvent::getSource).containsExactly(ActivityFeed.SOURCE_CSV);
+        assertThat(window.getCursor()).isEqualTo(2L);
+        assertThat(window.isTruncated()).isFalse();
+        assertThat(activityFeed.since(2, 10).getEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼에서 밀려난 커서는 잘림으로 표시")
+    void since_FlagsEvictedCursor() {
+        for (int i = 0; i < 6; i++) {
+            activityFeed.publish(corpHistory("B" + i, BASE.plusMinutes(i)));
+        }
+
+        ActivityFeed.FeedWindow window = activityFeed.since(1, 10);
+
+        assertThat(window.getEvents()).extracting(ActivityEvent::getSequence).containsExactly(6L, 5L, 4L);
+        assertThat(window.isTruncated()).isTrue();
+    }
+
+    private CorpMastHistory corpHistory(String bizNo, LocalDateTime timestamp) {
+        return CorpMastHistory.builder()
+                .action("INSERT")
+                .bizNo(bizNo)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private CsvBatchHistory csvHistory(LocalDateTime timestamp) {
+        return CsvBatchHistory.builder()
+                .city("서울특별시")
+                .district("강남구")
+                .status("SUCCESS")
+                .recordCount(10)
+                .timestamp(timestamp)
+                .build();
+    }
+}
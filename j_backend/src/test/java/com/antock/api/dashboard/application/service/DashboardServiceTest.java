@@ -1,24 +1,32 @@
 package com.antock.api.dashboard.application.service;
 
-import com.antock.api.coseller.domain.CorpMastHistory;
-import com.antock.api.coseller.infrastructure.CorpMastHistoryRepository;
+import com.antock.api.coseller.infrastructure.CorpMastDashboardSummary;
 import com.antock.api.coseller.infrastructure.CorpMastRepository;
-import com.antock.api.csv.domain.CsvBatchHistory;
-import com.antock.api.csv.infrastructure.CsvBatchHistoryRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.antock.api.dashboard.application.dto.ActivityEvent;
+import com.antock.api.dashboard.application.dto.ActivityFeedResponse;
+import com.antock.api.dashboard.application.dto.RecentActivityDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,73 +37,150 @@ class DashboardServiceTest {
     private CorpMastRepository corpMastRepository;
 
     @Mock
-    private CorpMastHistoryRepository corpMastHistoryRepository;
+    private ActivityFeed activityFeed;
 
     @Mock
-    private CsvBatchHistoryRepository csvBatchHistoryRepository;
+    private Executor asyncExecutor;
 
     @Mock
-    private Executor asyncExecutor;
+    private TaskScheduler taskScheduler;
 
     @InjectMocks
     private DashboardService dashboardService;
 
-    @BeforeEach
-    void setUp() {
-        when(corpMastRepository.count()).thenReturn(100L);
-        when(corpMastRepository.countValidCorpRegNo()).thenReturn(80L);
-        when(corpMastRepository.countValidRegionCd()).thenReturn(75L);
-    }
-
     @Test
     @DisplayName("통계 조회")
     void getStats() {
+        givenSummary(100L, 80L, 75L);
+
         DashboardService.DashboardStats stats = dashboardService.getStats();
 
         assertThat(stats).isNotNull();
         assertThat(stats.getTotal()).isEqualTo(100L);
         assertThat(stats.getValidCorpRegNo()).isEqualTo(80L);
         assertThat(stats.getValidRegionCd()).isEqualTo(75L);
+        assertThat(stats.getComputedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 계산된 스냅샷을 재사용")
+    void getStats_ServesSnapshot() {
+        givenSummary(100L, 80L, 75L);
+
+        DashboardService.DashboardStats first = dashboardService.getStats();
+        DashboardService.DashboardStats second = dashboardService.getStats();
+
+        assertThat(second).isSameAs(first);
+        verify(corpMastRepository, times(1)).summarizeDashboard();
+        verify(corpMastRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("통계 갱신 요청 - 실행 대기 중인 갱신과 병합")
+    void requestRefresh_CoalescesPendingRefresh() {
+        givenSummary(200L, 150L, 120L);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        dashboardService.requestRefresh();
+        dashboardService.requestRefresh();
+        verify(asyncExecutor, times(1)).execute(task.capture());
+
+        task.getValue().run();
+
+        assertThat(dashboardService.getStats().getTotal()).isEqualTo(200L);
+        verify(corpMastRepository, times(1)).summarizeDashboard();
+    }
+
+    @Test
+    @DisplayName("통계 갱신 요청 - 갱신 중 들어온 요청은 최소 간격 뒤 한 번만 재집계")
+    void requestRefresh_RequestsDuringRefreshRunOnceAfterInterval() {
+        ReflectionTestUtils.setField(dashboardService, "minRefreshIntervalMs", 10_000L);
+        CorpMastDashboardSummary summary = mock(CorpMastDashboardSummary.class);
+        when(summary.getTotal()).thenReturn(300L);
+        AtomicInteger scans = new AtomicInteger();
+        when(corpMastRepository.summarizeDashboard()).thenAnswer(invocation -> {
+            if (scans.incrementAndGet() == 1) {
+                for (int chunk = 0; chunk < 50; chunk++) {
+                    dashboardService.requestRefresh();
+                }
+            }
+            return summary;
+        });
+        ArgumentCaptor<Runnable> immediate = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Runnable> delayed = ArgumentCaptor.forClass(Runnable.class);
+
+        dashboardService.requestRefresh();
+        verify(asyncExecutor).execute(immediate.capture());
+        immediate.getValue().run();
+
+        verify(taskScheduler, times(1)).schedule(delayed.capture(), any(Instant.class));
+        verify(asyncExecutor, times(1)).execute(any(Runnable.class));
+        delayed.getValue().run();
+
+        assertThat(scans.get()).isEqualTo(2);
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(dashboardService.getStats().getTotal()).isEqualTo(300L);
     }
 
     @Test
     @DisplayName("최근 활동 조회")
     void getRecentActivities() {
-        CorpMastHistory history = CorpMastHistory.builder()
-                .action("INSERT")
-                .bizNo("123-45-67890")
-                .timestamp(LocalDateTime.now())
+        ActivityEvent csvEvent = ActivityEvent.builder()
+                .sequence(2L)
+                .timestamp(LocalDateTime.now().minusMinutes(3))
+                .message("CSV 배치 처리 완료: 서울특별시 강남구 (100건)")
+                .type("success")
+                .build();
+        ActivityEvent corpEvent = ActivityEvent.builder()
+                .sequence(1L)
+                .timestamp(LocalDateTime.now().minusHours(2))
+                .message("새로운 법인 정보가 등록되었습니다: 123-45-67890")
+                .type("success")
                 .build();
+        when(activityFeed.latest(3)).thenReturn(List.of(csvEvent, corpEvent));
+
+        List<RecentActivityDto> activities = dashboardService.getRecentActivities(3);
 
-        CsvBatchHistory csvHistory = CsvBatchHistory.builder()
-                .city("서울특별시")
-                .district("강남구")
-                .status("SUCCESS")
-                .recordCount(100)
+        assertThat(activities).hasSize(3);
+        assertThat(activities.get(0).getId()).isEqualTo(2L);
+        assertThat(activities.get(0).getTimeAgo()).isEqualTo("3분 전");
+        assertThat(activities.get(1).getTimeAgo()).isEqualTo("2시간 전");
+        assertThat(activities.get(2).getMessage()).isEqualTo("시스템이 정상적으로 실행 중입니다");
+        verify(corpMastRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("커서 이후 활동 조회")
+    void getActivitiesSince() {
+        ActivityEvent event = ActivityEvent.builder()
+                .sequence(8L)
                 .timestamp(LocalDateTime.now())
+                .message("정상 저장")
                 .build();
+        when(activityFeed.since(5L, 20)).thenReturn(new ActivityFeed.FeedWindow(List.of(event), 8L, false));
 
-        when(corpMastHistoryRepository.findTop10ByOrderByTimestampDesc())
-                .thenReturn(Arrays.asList(history));
-        when(csvBatchHistoryRepository.findTop10ByOrderByTimestampDesc())
-                .thenReturn(Arrays.asList(csvHistory));
-
-        List<com.antock.api.dashboard.application.dto.RecentActivityDto> activities =
-                dashboardService.getRecentActivities(10);
+        ActivityFeedResponse response = dashboardService.getActivitiesSince(5L, 20);
 
-        assertThat(activities).isNotEmpty();
+        assertThat(response.getCursor()).isEqualTo(8L);
+        assertThat(response.isTruncated()).isFalse();
+        assertThat(response.getActivities()).extracting(RecentActivityDto::getId).containsExactly(8L);
     }
 
     @Test
     @DisplayName("빈 통계 조회")
     void getStats_empty() {
-        when(corpMastRepository.count()).thenReturn(0L);
-        when(corpMastRepository.countValidCorpRegNo()).thenReturn(0L);
-        when(corpMastRepository.countValidRegionCd()).thenReturn(0L);
+        givenSummary(0L, 0L, 0L);
 
         DashboardService.DashboardStats stats = dashboardService.getStats();
 
         assertThat(stats.getSuccessRate()).isEqualTo(0.0);
     }
-}
 
+    private void givenSummary(long total, long validCorpRegNo, long validRegionCd) {
+        CorpMastDashboardSummary summary = mock(CorpMastDashboardSummary.class);
+        when(summary.getTotal()).thenReturn(total);
+        when(summary.getValidCorpRegNo()).thenReturn(validCorpRegNo);
+        when(summary.getValidRegionCd()).thenReturn(validRegionCd);
+        when(corpMastRepository.summarizeDashboard()).thenReturn(summary);
+    }
+}
@@ -0,0 +1,115 @@
+package com.antock.api.dashboard.application.service;
+
+import com.antock.api.dashboard.application.dto.RegionStatExportJob;
+import com.antock.api.file.infrastructure.storage.FileStorageStrategy;
+import com.antock.global.common.exception.BusinessException;
+import com.antock.global.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegionStatExportService 테스트")
+class RegionStatExportServiceTest {
+
+    @Mock
+    private RegionStatService regionStatService;
+
+    @Mock
+    private FileStorageStrategy fileStorageStrategy;
+
+    private RegionStatExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new RegionStatExportService(regionStatService, fileStorageStrategy);
+        ReflectionTestUtils.setField(exportService, "concurrency", 1);
+        ReflectionTestUtils.setField(exportService, "queueCapacity", 4);
+        ReflectionTestUtils.setField(exportService, "retentionMinutes", 60L);
+        exportService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 완료 시 임시 파일을 저장소에 올리고 다운로드 가능 상태로 전환")
+    void submit_completesAndStoresArtifact() throws Exception {
+        given(regionStatService.writeExcel(eq("서울특별시"), any(), any())).willAnswer(invocation -> {
+            OutputStream os = invocation.getArgument(2);
+            os.write(new byte[] { 1, 2, 3 });
+            return 3;
+        });
+        AtomicReference<Path> uploaded = new AtomicReference<>();
+        AtomicReference<Long> uploadedSize = new AtomicReference<>();
+        given(fileStorageStrategy.uploadFile(any(Path.class), anyString(), anyString())).willAnswer(invocation -> {
+            Path source = invocation.getArgument(0);
+            uploaded.set(source);
+            uploadedSize.set(Files.size(source));
+            return invocation.getArgument(1);
+        });
+
+        RegionStatExportJob job = exportService.submit("서울특별시", null);
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(RegionStatExportJob.Status.COMPLETED);
+        assertThat(job.getRowCount()).isEqualTo(3);
+        assertThat(job.getStoredFileName()).contains(job.getJobId());
+        assertThat(uploadedSize.get()).isEqualTo(3L);
+        assertThat(uploaded.get()).doesNotExist();
+        assertThat(exportService.getJob(job.getJobId())).isSameAs(job);
+    }
+
+    @Test
+    @DisplayName("생성 실패 시 실패 상태로 전환하고 다운로드 거부")
+    void submit_failureMarksJobFailed() throws Exception {
+        given(regionStatService.writeExcel(any(), any(), any())).willThrow(new IOException("disk full"));
+
+        RegionStatExportJob job = exportService.submit(null, null);
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(RegionStatExportJob.Status.FAILED);
+        assertThat(job.getErrorMessage()).contains("disk full");
+        verify(fileStorageStrategy, never()).uploadFile(any(Path.class), anyString(), anyString());
+        assertThatThrownBy(() -> exportService.openDownload(job))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPORT_JOB_NOT_READY);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업 조회")
+    void getJob_unknown() {
+        assertThatThrownBy(() -> exportService.getJob("unknown"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPORT_JOB_NOT_FOUND);
+    }
+
+    private void awaitFinished(RegionStatExportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.antock.api.dashboard.application.service;
 
-import com.antock.api.coseller.domain.CorpMast;
+import com.antock.api.coseller.infrastructure.CorpMastExportRow;
 import com.antock.api.coseller.infrastructure.CorpMastRepository;
-import org.junit.jupiter.api.BeforeEach;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,16 +11,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,20 +37,22 @@ class RegionStatServiceTest {
     @Mock
     private CorpMastRepository corpMastRepository;
 
+    @Mock
+    private RegionStatSummaryService regionStatSummaryService;
+
     @InjectMocks
     private RegionStatService regionStatService;
 
-    @BeforeEach
-    void setUp() {
-        Object[] statData = new Object[]{"서울특별시", "강남구", 100L, 80L, 75L};
-        List<Object[]> statsList = new ArrayList<>();
-        statsList.add(statData);
-        when(corpMastRepository.getRegionStats()).thenReturn(statsList);
+    private void givenSummaryRows(Object[]... rows) {
+        List<Object[]> statsList = new ArrayList<>(Arrays.asList(rows));
+        when(regionStatSummaryService.findAll()).thenReturn(statsList);
     }
 
     @Test
     @DisplayName("상위 지역 통계 조회")
     void getTopRegionStat() {
+        givenSummaryRows(new Object[]{"서울특별시", "강남구", 100L, 80L, 75L});
+
         com.antock.api.dashboard.application.dto.RegionStatDto result = regionStatService.getTopRegionStat();
 
         assertThat(result).isNotNull();
@@ -53,6 +63,8 @@ class RegionStatServiceTest {
     @Test
     @DisplayName("모든 지역 통계 조회")
     void getAllRegionStats() {
+        givenSummaryRows(new Object[]{"서울특별시", "강남구", 100L, 80L, 75L});
+
         List<com.antock.api.dashboard.application.dto.RegionStatDto> result = regionStatService.getAllRegionStats();
 
         assertThat(result).isNotEmpty();
@@ -61,15 +73,9 @@ class RegionStatServiceTest {
     @Test
     @DisplayName("페이징된 지역 통계 조회")
     void getRegionStatsWithPaging() {
-        Object[] statData = new Object[]{"서울특별시", "강남구", 100L, 80L, 75L};
-        List<Object[]> content = new ArrayList<>();
-        content.add(statData);
-        Page<Object[]> page = new PageImpl<>(content);
+        givenSummaryRows(new Object[]{"서울특별시", "강남구", 100L, 80L, 75L});
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(corpMastRepository.getRegionStatsWithPaging(any(Pageable.class), any(), any()))
-                .thenReturn(page);
-
         Page<com.antock.api.dashboard.application.dto.RegionStatDto> result =
                 regionStatService.getRegionStatsWithPaging(pageable, null, null);
 
@@ -77,6 +83,24 @@ class RegionStatServiceTest {
         assertThat(result.getContent()).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("요약 테이블 기반 필터링/정렬/페이징")
+    void getRegionStatsWithPaging_filtersSortsAndPages() {
+        givenSummaryRows(
+                new Object[]{"서울특별시", "강남구", 100L, 50L, 50L},
+                new Object[]{"서울특별시", "서초구", 80L, 80L, 80L},
+                new Object[]{"부산광역시", "해운대구", 60L, 60L, 60L},
+                new Object[]{"서울특별시", "강동구", 40L, 30L, 30L});
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("completionRate").descending());
+
+        Page<com.antock.api.dashboard.application.dto.RegionStatDto> result =
+                regionStatService.getRegionStatsWithPaging(pageable, "서울특별시", null);
+
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting("district").containsExactly("서초구", "강동구");
+        verify(corpMastRepository, never()).getRegionStatsWithPaging(any(), any(), any());
+    }
+
     @Test
     @DisplayName("도시 목록 조회")
     void getCities() {
@@ -101,11 +125,45 @@ class RegionStatServiceTest {
     @Test
     @DisplayName("빈 통계 조회")
     void getTopRegionStat_empty() {
-        when(corpMastRepository.getRegionStats()).thenReturn(Arrays.asList());
+        when(regionStatSummaryService.findAll()).thenReturn(Arrays.asList());
 
         com.antock.api.dashboard.application.dto.RegionStatDto result = regionStatService.getTopRegionStat();
 
         assertThat(result).isNull();
     }
-}
 
+    @Test
+    @DisplayName("상세 목록이 시트 행 한도를 넘으면 헤더를 반복한 다음 시트로 이어서 기록")
+    void writeExcel_RollsOverDetailRows() throws Exception {
+        ReflectionTestUtils.setField(regionStatService, "excelFetchSize", 1000);
+        ReflectionTestUtils.setField(regionStatService, "excelWindowSize", 100);
+        ReflectionTestUtils.setField(regionStatService, "maxRowsPerSheet", 20);
+        givenSummaryRows();
+        List<CorpMastExportRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            CorpMastExportRow row = mock(CorpMastExportRow.class);
+            when(row.getId()).thenReturn(id);
+            rows.add(row);
+        }
+        when(corpMastRepository.findExportRowsAfter(any(), any(), eq(0L), any())).thenReturn(rows);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        int detailRows = regionStatService.writeExcel(null, null, os);
+
+        assertThat(detailRows).isEqualTo(12);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(os.toByteArray()))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(2);
+            assertThat(workbook.getSheetName(1)).isEqualTo("지역별 통계_2");
+
+            Sheet first = workbook.getSheetAt(0);
+            assertThat(first.getRow(9).getCell(0).getStringCellValue()).isEqualTo("ID");
+            assertThat(first.getLastRowNum()).isEqualTo(19);
+            assertThat(first.getRow(19).getCell(0).getNumericCellValue()).isEqualTo(10);
+
+            Sheet second = workbook.getSheetAt(1);
+            assertThat(second.getRow(0).getCell(0).getStringCellValue()).isEqualTo("ID");
+            assertThat(second.getRow(1).getCell(0).getNumericCellValue()).isEqualTo(11);
+            assertThat(second.getLastRowNum()).isEqualTo(2);
+        }
+    }
+}
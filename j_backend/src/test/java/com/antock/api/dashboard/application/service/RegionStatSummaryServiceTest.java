@@ -0,0 +1,102 @@
+package com.antock.api.dashboard.application.service;
+
+import com.antock.api.coseller.domain.CorpMast;
+import com.antock.api.dashboard.infrastructure.RegionStatJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegionStatSummaryService 테스트")
+class RegionStatSummaryServiceTest {
+
+    @Mock
+    private RegionStatJdbcRepository regionStatRepository;
+
+    @InjectMocks
+    private RegionStatSummaryService regionStatSummaryService;
+
+    @Test
+    @DisplayName("저장된 법인을 지역별로 집계하여 한 번씩 반영")
+    void recordInserted_AggregatesPerRegion() {
+        List<CorpMast> saved = List.of(
+                corp("서울특별시", "강남구", "1101110000001", "1168000000"),
+                corp("서울특별시", "강남구", "N/A", "0000000000"),
+                corp("부산광역시", "해운대구", "1801110000001", ""));
+
+        regionStatSummaryService.recordInserted(saved);
+
+        InOrder order = inOrder(regionStatRepository);
+        order.verify(regionStatRepository).lockForDelta();
+        order.verify(regionStatRepository).addCounts("서울특별시", "강남구", 2, 1, 1);
+        verify(regionStatRepository).addCounts("부산광역시", "해운대구", 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("삭제 시 음수 증분 반영")
+    void recordDeleted_AppliesNegativeDelta() {
+        regionStatSummaryService.recordDeleted(List.of(corp("서울특별시", "강남구", "1101110000001", "1168000000")));
+
+        verify(regionStatRepository).addCounts("서울특별시", "강남구", -1, -1, -1);
+    }
+
+    @Test
+    @DisplayName("요약 갱신 실패는 호출자 트랜잭션으로 전파")
+    void recordInserted_PropagatesFailure() {
+        willThrow(new DataAccessResourceFailureException("down"))
+                .given(regionStatRepository).addCounts(anyString(), anyString(), anyLong(), anyLong(), anyLong());
+
+        assertThatThrownBy(() -> regionStatSummaryService.recordInserted(
+                List.of(corp("서울특별시", "강남구", "1101110000001", "1168000000"))))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    @DisplayName("지역 정보가 없는 법인만 있으면 잠금 없이 종료")
+    void recordInserted_NoRegion_SkipsLock() {
+        regionStatSummaryService.recordInserted(List.of(corp(null, "강남구", "1101110000001", "1168000000")));
+
+        verify(regionStatRepository, never()).lockForDelta();
+        verify(regionStatRepository, never()).addCounts(anyString(), anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("정합성 보정 - 배타 잠금 후 corp_mast 기준 재집계와 사라진 지역 삭제")
+    void reconcile_RecomputesUnderExclusiveLock() {
+        given(regionStatRepository.recomputeFromCorpMast()).willReturn(1);
+        given(regionStatRepository.deleteMissingRegions()).willReturn(1);
+
+        regionStatSummaryService.reconcile();
+
+        InOrder order = inOrder(regionStatRepository);
+        order.verify(regionStatRepository).lockForReconcile();
+        order.verify(regionStatRepository).recomputeFromCorpMast();
+        order.verify(regionStatRepository).deleteMissingRegions();
+        verify(regionStatRepository, never()).findAll();
+    }
+
+    private CorpMast corp(String siNm, String sggNm, String corpRegNo, String regionCd) {
+        return CorpMast.builder()
+                .siNm(siNm)
+                .sggNm(sggNm)
+                .corpRegNo(corpRegNo)
+                .regionCd(regionCd)
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package com.antock.api.dashboard.presentation;
 import com.antock.api.coseller.domain.CorpMast;
 import com.antock.api.coseller.infrastructure.CorpMastRepository;
 import com.antock.api.dashboard.application.dto.RegionStatDto;
+import com.antock.api.dashboard.application.dto.RegionStatExportJob;
+import com.antock.api.dashboard.application.service.RegionStatExportService;
 import com.antock.api.dashboard.application.service.RegionStatService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,6 +40,9 @@ class RegionStatApiControllerTest {
     @MockBean
     private CorpMastRepository corpMastRepository;
 
+    @MockBean
+    private RegionStatExportService regionStatExportService;
+
     @Test
     @DisplayName("상위 지역 통계 조회 성공")
     @WithMockUser
@@ -171,8 +177,7 @@ class RegionStatApiControllerTest {
     @DisplayName("Excel 내보내기 성공")
     @WithMockUser
     void exportToExcel_Success() throws Exception {
-        byte[] excelData = "test excel data".getBytes();
-        given(regionStatService.exportToExcel(anyString(), anyString())).willReturn(excelData);
+        given(regionStatService.writeExcel(any(), any(), any())).willReturn(1);
 
         mockMvc.perform(get("/api/v1/region-stats/export")
                         .param("city", "서울특별시"))
@@ -180,5 +185,21 @@ class RegionStatApiControllerTest {
                 .andExpect(header().string("Content-Type", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
                 .andExpect(header().exists("Content-Disposition"));
     }
+
+    @Test
+    @DisplayName("Excel 내보내기 작업 등록")
+    @WithMockUser
+    void submitExportJob_Accepted() throws Exception {
+        RegionStatExportJob job = new RegionStatExportJob("서울특별시", null);
+        given(regionStatExportService.submit("서울특별시", null)).willReturn(job);
+
+        mockMvc.perform(post("/api/v1/region-stats/export-jobs")
+                        .with(csrf())
+                        .param("city", "서울특별시"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value(job.getJobId()))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"))
+                .andExpect(jsonPath("$.data.storedFileName").doesNotExist());
+    }
 }
 
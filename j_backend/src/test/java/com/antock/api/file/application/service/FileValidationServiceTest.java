@@ -2,15 +2,20 @@ package com.antock.api.file.application.service;
 
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.utils.CharsetDetector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -20,6 +25,9 @@ import static org.mockito.Mockito.when;
 @DisplayName("FileValidationService 테스트")
 class FileValidationServiceTest {
 
+    @Spy
+    private CharsetDetector charsetDetector = new CharsetDetector();
+
     @InjectMocks
     private FileValidationService fileValidationService;
 
@@ -41,6 +49,37 @@ class FileValidationServiceTest {
         fileValidationService.validateUploadFile(file);
     }
 
+    @Test
+    @DisplayName("CSV 파일 검증 성공 - EUC-KR 인코딩")
+    void validateUploadFile_csvEucKr() throws Exception {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("서울특별시_강남구.csv");
+        when(file.getSize()).thenReturn(1000L);
+        when(file.getContentType()).thenReturn("text/csv");
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(
+                "통신판매번호,상호\n2025-서울강남-0001,주식회사 테스트\n".getBytes(CharsetDetector.EUC_KR)));
+
+        fileValidationService.validateUploadFile(file);
+    }
+
+    @Test
+    @DisplayName("CSV 파일 인코딩을 확인할 수 없음")
+    void validateUploadFile_csvUnknownEncoding() throws Exception {
+        byte[] binary = new byte[512];
+        new Random(1).nextBytes(binary);
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("broken.csv");
+        when(file.getSize()).thenReturn(512L);
+        when(file.getContentType()).thenReturn("text/csv");
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(binary));
+
+        assertThatThrownBy(() -> fileValidationService.validateUploadFile(file))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+    }
+
     @Test
     @DisplayName("파일이 비어있음")
     void validateUploadFile_empty() {
@@ -8,6 +8,7 @@ import com.antock.api.member.value.MemberStatus;
 import com.antock.api.member.value.Role;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.security.MemberSecurityStatusCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,9 @@ class MemberManagementServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberSecurityStatusCache memberSecurityStatusCache;
+
     @InjectMocks
     private MemberManagementService memberManagementService;
 
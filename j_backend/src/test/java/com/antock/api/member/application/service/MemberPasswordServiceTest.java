@@ -7,6 +7,7 @@ import com.antock.api.member.infrastructure.MemberPasswordHistoryRepository;
 import com.antock.api.member.infrastructure.MemberRepository;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.security.MemberSecurityStatusCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,9 @@ class MemberPasswordServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberSecurityStatusCache memberSecurityStatusCache;
+
     @InjectMocks
     private MemberPasswordService memberPasswordService;
 
@@ -78,6 +82,7 @@ class MemberPasswordServiceTest {
 
         verify(passwordHistoryRepository).save(any(MemberPasswordHistory.class));
         verify(memberRepository).save(any(Member.class));
+        verify(memberSecurityStatusCache).evict(testMember.getUsername());
     }
 
     @Test
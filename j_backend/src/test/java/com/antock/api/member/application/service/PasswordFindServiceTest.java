@@ -11,6 +11,7 @@ import com.antock.api.member.infrastructure.PasswordResetTokenRepository;
 import com.antock.api.member.value.MemberStatus;
 import com.antock.global.common.exception.BusinessException;
 import com.antock.global.common.exception.ErrorCode;
+import com.antock.global.security.MemberSecurityStatusCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,6 +53,9 @@ class PasswordFindServiceTest {
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private MemberSecurityStatusCache memberSecurityStatusCache;
+
     @Mock
     private MimeMessage mimeMessage;
 
@@ -0,0 +1,172 @@
+package com.antock.api.member.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisRateLimitService 테스트")
+class RedisRateLimitServiceTest {
+
+    private static final List<String> KEYS = List.of(
+            "rate_limit:whitelist:user1",
+            "rate_limit:block:user1",
+            "rate_limit:gcra:user1:login",
+            "rate_limit:violation:user1");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RedisRateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitService = new RedisRateLimitService();
+        ReflectionTestUtils.setField(rateLimitService, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(rateLimitService, "requestsPerMinute", 60);
+        ReflectionTestUtils.setField(rateLimitService, "burstCapacity", 100);
+        ReflectionTestUtils.setField(rateLimitService, "maxViolationsBeforeBlock", 5);
+        ReflectionTestUtils.setField(rateLimitService, "defaultBlockDurationMinutes", 30L);
+        ReflectionTestUtils.setField(rateLimitService, "violationWindowMinutes", 60L);
+        ReflectionTestUtils.setField(rateLimitService, "keyPrefix", "rate_limit:");
+        ReflectionTestUtils.setField(rateLimitService, "memoryCacheLimit", 1000);
+        rateLimitService.init();
+        ((AtomicBoolean) ReflectionTestUtils.getField(rateLimitService, "useRedis")).set(true);
+    }
+
+    @Test
+    @DisplayName("허용된 요청은 스크립트 한 번으로 처리")
+    void checkRateLimit_Admitted_SingleRoundTrip() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class)))
+                .thenReturn(List.of(0L, 1L));
+
+        assertThatCode(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .doesNotThrowAnyException();
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("화이트리스트 결과는 예외 없이 통과")
+    void checkRateLimit_Whitelisted() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class)))
+                .thenReturn(List.of(1L, 0L));
+
+        assertThatCode(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("차단된 식별자는 사유와 함께 거부")
+    void checkRateLimit_Blocked() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class)))
+                .thenReturn(List.of(2L, 120L, "수동 차단"));
+
+        assertThatThrownBy(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("수동 차단");
+    }
+
+    @Test
+    @DisplayName("한도 초과 및 자동 차단 결과는 메모리 fallback 없이 거부")
+    void checkRateLimit_LimitedAndBlocked() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class)))
+                .thenReturn(List.of(4L, 5L));
+
+        assertThatThrownBy(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("Rate limit exceeded");
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 메모리 기반 제한으로 처리")
+    void checkRateLimit_RedisFailure_FallsBackToMemory() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Connection failed"));
+
+        assertThatCode(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 메모리 경로도 같은 버스트 한도로 판정")
+    void checkRateLimit_MemoryFallbackHonorsBurstCapacity() {
+        ReflectionTestUtils.setField(rateLimitService, "burstCapacity", 3);
+        rateLimitService.init();
+        ((AtomicBoolean) ReflectionTestUtils.getField(rateLimitService, "useRedis")).set(true);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Connection failed"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatCode(() -> rateLimitService.checkRateLimit("user1", "login"))
+                    .doesNotThrowAnyException();
+        }
+        assertThatThrownBy(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("Rate limit exceeded");
+        assertThat(rateLimitService.getCurrentCount("user1", "login")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("현재 사용량은 Redis 서버 시각 기준 스크립트로 계산")
+    void getCurrentCount_UsesRedisServerTime() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("rate_limit:gcra:user1:login")), any(Object[].class)))
+                .thenReturn(3L);
+
+        assertThat(rateLimitService.getCurrentCount("user1", "login")).isEqualTo(3);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("Redis 쓰기 실패로 메모리에 기록된 차단은 Redis 사용 중에도 적용")
+    void checkRateLimit_HonorsMemoryBlockWrittenAfterRedisFailure() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Connection failed"));
+        rateLimitService.blockIdentifier("user1", "수동 차단", 30);
+
+        assertThatThrownBy(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("수동 차단");
+        assertThat(rateLimitService.isIdentifierBlocked("user1")).isTrue();
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("메모리 화이트리스트는 Redis 사용 중에도 적용되고 해제 시 함께 제거")
+    void checkRateLimit_HonorsMemoryWhitelistUntilRemoved() {
+        rateLimitService.addToWhitelist("user1");
+
+        assertThatCode(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .doesNotThrowAnyException();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        rateLimitService.removeFromWhitelist("user1");
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class)))
+                .thenReturn(List.of(3L, 1L));
+
+        assertThatThrownBy(() -> rateLimitService.checkRateLimit("user1", "login"))
+                .isInstanceOf(SecurityException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.antock.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NoOpCache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedCacheManager 테스트")
+class BoundedCacheManagerTest {
+
+    private final BoundedCacheManager cacheManager = new BoundedCacheManager(new AppCacheProperties());
+
+    @Test
+    @DisplayName("설정되지 않은 캐시 이름은 캐싱하지 않는 NoOpCache 반환")
+    void getCache_UnknownNameIsNoOp() {
+        Cache cache = cacheManager.getCache("memberList");
+        cache.put("0_20", "page");
+
+        assertThat(cache).isInstanceOf(NoOpCache.class);
+        assertThat(cache.get("0_20")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 로딩은 한 번만 수행")
+    void get_LoadsOncePerKey() throws InterruptedException {
+        Cache cache = cacheManager.getCache("corpMastById");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                return cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(50);
+                    return "corp";
+                });
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get(1L).get()).isEqualTo("corp");
+    }
+
+    @Test
+    @DisplayName("다른 키의 로딩은 서로 막지 않음")
+    void get_DifferentKeysDoNotBlock() throws Exception {
+        Cache cache = cacheManager.getCache("corpMastById");
+        CountDownLatch firstLoading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        executor.submit(() -> cache.get(1L, () -> {
+            firstLoading.countDown();
+            release.await();
+            return "slow";
+        }));
+        assertThat(firstLoading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cache.get(2L, () -> "fast")).isEqualTo("fast");
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.antock.global.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-the-hs512-algorithm-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 86400, "antock", "antock-api", "HS512",
+                false, 24, 100, null);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 캐시에서 동일한 클레임을 반환한다")
+    void parseClaims_returnsCachedClaims() {
+        String token = jwtTokenProvider.createAccessToken("user1", "USER");
+
+        Claims first = jwtTokenProvider.parseClaims(token);
+        Claims second = jwtTokenProvider.parseClaims(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("user1");
+        assertThat(jwtTokenProvider.getVerifiedCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 서명을 재사용한 변조 토큰은 검증에 실패한다")
+    void validateToken_rejectsForgedTokenWithCachedSignature() {
+        String token = jwtTokenProvider.createAccessToken("user1", "USER");
+        String other = jwtTokenProvider.createAccessToken("admin", "ADMIN");
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + other.split("\\.")[1] + "." + parts[2];
+
+        assertThat(jwtTokenProvider.validateToken(forged)).isFalse();
+        assertThat(jwtTokenProvider.parseAccessClaims(forged)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 전인 토큰은 정리 후에도 캐시에 남는다")
+    void purgeExpiredVerifiedTokens_keepsLiveTokens() {
+        jwtTokenProvider.parseClaims(jwtTokenProvider.createAccessToken("user1", "USER"));
+        jwtTokenProvider.parseClaims(jwtTokenProvider.createRefreshToken("user1", "USER"));
+
+        jwtTokenProvider.purgeExpiredVerifiedTokens();
+
+        assertThat(jwtTokenProvider.getVerifiedCacheSize()).isEqualTo(2);
+    }
+}
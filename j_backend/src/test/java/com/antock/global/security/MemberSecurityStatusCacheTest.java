@@ -0,0 +1,94 @@
+package com.antock.global.security;
+
+import com.antock.api.member.domain.Member;
+import com.antock.api.member.infrastructure.MemberRepository;
+import com.antock.api.member.value.MemberStatus;
+import com.antock.api.member.value.Role;
+import com.antock.global.security.dto.MemberSecurityStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSecurityStatusCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberSecurityStatusCache memberSecurityStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(memberSecurityStatusCache, "ttlMillis", 60000L);
+        ReflectionTestUtils.setField(memberSecurityStatusCache, "maxEntries", 100);
+        memberSecurityStatusCache.init();
+    }
+
+    @Test
+    @DisplayName("TTL 내 반복 조회는 DB를 한 번만 조회한다")
+    void get_cachesStatus() {
+        when(memberRepository.findByUsername("user1")).thenReturn(Optional.of(member("user1", MemberStatus.APPROVED)));
+
+        MemberSecurityStatus first = memberSecurityStatusCache.get("user1");
+        MemberSecurityStatus second = memberSecurityStatusCache.get("user1");
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.isAuthenticatable()).isTrue();
+        assertThat(first.getRole()).isEqualTo("USER");
+        verify(memberRepository, times(1)).findByUsername("user1");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자도 캐시되며 인증 불가로 판단한다")
+    void get_cachesMissingMember() {
+        when(memberRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        MemberSecurityStatus status = memberSecurityStatusCache.get("ghost");
+        memberSecurityStatusCache.get("ghost");
+
+        assertThat(status.isExists()).isFalse();
+        assertThat(status.isAuthenticatable()).isFalse();
+        verify(memberRepository, times(1)).findByUsername("ghost");
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 변경된 상태를 다시 조회한다")
+    void evict_reloadsStatus() {
+        when(memberRepository.findByUsername("user1"))
+                .thenReturn(Optional.of(member("user1", MemberStatus.APPROVED)))
+                .thenReturn(Optional.of(member("user1", MemberStatus.SUSPENDED)));
+
+        assertThat(memberSecurityStatusCache.get("user1").isAuthenticatable()).isTrue();
+
+        memberSecurityStatusCache.evict("user1");
+
+        assertThat(memberSecurityStatusCache.get("user1").isAuthenticatable()).isFalse();
+        verify(memberRepository, times(2)).findByUsername("user1");
+    }
+
+    private Member member(String username, MemberStatus status) {
+        Member member = Member.builder()
+                .username(username)
+                .password("encoded")
+                .nickname(username)
+                .email(username + "@test.com")
+                .status(status)
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        return member;
+    }
+}
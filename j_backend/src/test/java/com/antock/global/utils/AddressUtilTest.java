@@ -42,4 +42,15 @@ public class AddressUtilTest {
         assertThat(result).isEqualTo("서울특별시 강남구");
 
     }
+
+    @Test
+    @DisplayName("캐시 키용 주소 정규화 검증")
+    public void normalize_address() throws Exception {
+
+        //when
+        String result = AddressUtil.normalize(" 서울특별시  강남구 테헤란로 123 (역삼동), 4층 ");
+        //then
+        assertThat(result).isEqualTo("서울특별시 강남구 테헤란로 123 4층");
+
+    }
 }
@@ -0,0 +1,85 @@
+package com.antock.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CharsetDetector 테스트")
+class CharsetDetectorTest {
+
+    private static final String SAMPLE = "통신판매번호,신고기관명,상호,사업자등록번호\n"
+            + "2025-서울강남-0001,서울특별시 강남구,주식회사 테스트,123-45-67890\n";
+
+    private final CharsetDetector detector = new CharsetDetector();
+
+    @Test
+    @DisplayName("UTF-8 BOM 감지")
+    void detect_Utf8Bom() {
+        byte[] bytes = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a', 'b' };
+
+        CharsetDetector.Detection detection = detector.detect(bytes, bytes.length);
+
+        assertThat(detection.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(detection.isBomPresent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("BOM 없는 UTF-8 감지")
+    void detect_Utf8WithoutBom() {
+        byte[] bytes = SAMPLE.getBytes(StandardCharsets.UTF_8);
+
+        CharsetDetector.Detection detection = detector.detect(bytes, bytes.length - 1);
+
+        assertThat(detection.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(detection.getConfidence()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("EUC-KR 감지")
+    void detect_EucKr() {
+        byte[] bytes = SAMPLE.getBytes(CharsetDetector.EUC_KR);
+
+        CharsetDetector.Detection detection = detector.detect(bytes, bytes.length);
+
+        assertThat(detection.getCharset()).isEqualTo(CharsetDetector.EUC_KR);
+        assertThat(detection.getConfidence()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("CP949 확장 한글 감지")
+    void detect_Cp949Extension() {
+        byte[] bytes = "똠방각하 햏".getBytes(CharsetDetector.CP949);
+
+        CharsetDetector.Detection detection = detector.detect(bytes, bytes.length);
+
+        assertThat(detection.getCharset()).isEqualTo(CharsetDetector.CP949);
+    }
+
+    @Test
+    @DisplayName("ASCII 전용 샘플")
+    void detect_AsciiOnly() {
+        byte[] bytes = "id,name\n1,test\n".getBytes(StandardCharsets.US_ASCII);
+
+        CharsetDetector.Detection detection = detector.detect(bytes, bytes.length);
+
+        assertThat(detection.isAsciiOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스트림 감지 후 위치 복원")
+    void detect_StreamIsReset() throws Exception {
+        byte[] bytes = SAMPLE.getBytes(CharsetDetector.EUC_KR);
+        InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(bytes));
+
+        CharsetDetector.Detection detection = detector.detect(inputStream);
+
+        assertThat(detection.getCharset()).isEqualTo(CharsetDetector.EUC_KR);
+        assertThat(inputStream.readAllBytes()).isEqualTo(bytes);
+    }
+}
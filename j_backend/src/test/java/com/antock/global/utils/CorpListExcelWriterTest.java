@@ -0,0 +1,82 @@
+package com.antock.global.utils;
+
+import com.antock.api.corpmanual.application.dto.response.CorpMastManualResponse;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CorpListExcelWriter 테스트")
+class CorpListExcelWriterTest {
+
+    @Test
+    @DisplayName("시트 행 한도에 도달하면 헤더와 함께 다음 시트로 넘어감")
+    void append_RollsOverToNewSheetAtRowLimit() throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (CorpListExcelWriter writer = new CorpListExcelWriter(10, 5)) {
+            for (long id = 1; id <= 10; id++) {
+                writer.append(corp(id));
+            }
+            assertThat(writer.getRowCount()).isEqualTo(10);
+            assertThat(writer.getSheetCount()).isEqualTo(3);
+            writer.writeTo(os);
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(os.toByteArray()))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(3);
+            assertThat(workbook.getSheetName(0)).isEqualTo("법인목록");
+            assertThat(workbook.getSheetName(1)).isEqualTo("법인목록_2");
+            assertThat(workbook.getSheetName(2)).isEqualTo("법인목록_3");
+
+            Sheet first = workbook.getSheetAt(0);
+            assertThat(first.getLastRowNum()).isEqualTo(4);
+            assertThat(first.getRow(0).getCell(1).getStringCellValue()).isEqualTo("법인명");
+            assertThat(first.getRow(4).getCell(0).getNumericCellValue()).isEqualTo(4);
+
+            Sheet second = workbook.getSheetAt(1);
+            assertThat(second.getRow(0).getCell(1).getStringCellValue()).isEqualTo("법인명");
+            assertThat(second.getRow(1).getCell(0).getNumericCellValue()).isEqualTo(5);
+            assertThat(second.getRow(4).getCell(0).getNumericCellValue()).isEqualTo(8);
+
+            Sheet third = workbook.getSheetAt(2);
+            assertThat(third.getRow(0).getCell(1).getStringCellValue()).isEqualTo("법인명");
+            assertThat(third.getLastRowNum()).isEqualTo(2);
+            assertThat(third.getRow(2).getCell(0).getNumericCellValue()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("한도 이하에서는 단일 시트만 생성")
+    void append_BelowLimit_SingleSheet() throws Exception {
+        try (CorpListExcelWriter writer = new CorpListExcelWriter(10, 5)) {
+            for (long id = 1; id <= 4; id++) {
+                writer.append(corp(id));
+            }
+            assertThat(writer.getSheetCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("헤더를 담을 수 없는 한도는 거부")
+    void constructor_RejectsTooSmallLimit() {
+        assertThatThrownBy(() -> new CorpListExcelWriter(10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CorpMastManualResponse corp(long id) {
+        return CorpMastManualResponse.builder()
+                .id(id)
+                .bizNm("법인" + id)
+                .bizNo("123-45-" + id)
+                .sellerId("seller" + id)
+                .siNm("서울특별시")
+                .sggNm("강남구")
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.antock.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LruTtlCache 테스트")
+class LruTtlCacheTest {
+
+    @Test
+    @DisplayName("최대 크기 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void put_EvictsLeastRecentlyUsed() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(2);
+
+        cache.put("a", 1, 60000);
+        cache.put("b", 2, 60000);
+        cache.get("a");
+        cache.put("c", 3, 60000);
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 경과 후 항목 만료")
+    void get_ExpiresAfterTtl() {
+        AtomicLong now = new AtomicLong(1000);
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10, now::get);
+
+        cache.put("a", 1, 500);
+        cache.put("b", 2, 5000);
+        now.addAndGet(600);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.purgeExpired()).isZero();
+        assertThat(cache.get("b")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 키만 무효화")
+    void invalidateIf_RemovesMatchingKeysOnly() {
+        LruTtlCache<String, Integer> cache = new LruTtlCache<>(10);
+        cache.put("seoul:1", 1, 60000);
+        cache.put("seoul:2", 2, 60000);
+        cache.put("busan:1", 3, 60000);
+
+        int removed = cache.invalidateIf(key -> key.startsWith("seoul"));
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("busan:1")).isEqualTo(3);
+    }
+}
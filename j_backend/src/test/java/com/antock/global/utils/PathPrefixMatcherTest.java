@@ -0,0 +1,48 @@
+package com.antock.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PathPrefixMatcher 테스트")
+class PathPrefixMatcherTest {
+
+    private final PathPrefixMatcher matcher = PathPrefixMatcher.of(
+            "/members/login", "/members/join", "/api/v1/members/me/password", "/css", "/error");
+
+    @Test
+    @DisplayName("등록된 접두사로 시작하는 경로는 일치")
+    void matches_Prefix() {
+        assertThat(matcher.matches("/members/login")).isTrue();
+        assertThat(matcher.matches("/api/v1/members/me/password/status")).isTrue();
+        assertThat(matcher.matches("/css/app.css")).isTrue();
+        assertThat(matcher.matches("/cssx")).isTrue();
+    }
+
+    @Test
+    @DisplayName("접두사가 아닌 경로는 불일치")
+    void matches_NotPrefix() {
+        assertThat(matcher.matches("/members")).isFalse();
+        assertThat(matcher.matches("/members/logout")).isFalse();
+        assertThat(matcher.matches("/api/v1/members/me")).isFalse();
+        assertThat(matcher.matches("/")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("String.startsWith 기반 판정과 동일한 결과")
+    void matches_SameAsStartsWith() {
+        String[] prefixes = { "/a", "/ab", "/b/c", "/static" };
+        PathPrefixMatcher prefixMatcher = PathPrefixMatcher.of(prefixes);
+
+        for (String path : new String[] { "/a", "/abc", "/b", "/b/c/d", "/static/js", "/stat", "/c" }) {
+            boolean expected = false;
+            for (String prefix : prefixes) {
+                expected |= path.startsWith(prefix);
+            }
+            assertThat(prefixMatcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+}
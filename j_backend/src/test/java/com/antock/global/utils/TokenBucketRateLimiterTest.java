@@ -0,0 +1,111 @@
+package com.antock.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("버스트 용량까지 즉시 허용하고 이후 거부")
+    void tryAcquire_AllowsBurstThenRejects() {
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(60, 5, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("user:login")).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire("user:login")).isFalse();
+        assertThat(limiter.getUsedPermits("user:login")).isEqualTo(5);
+        assertThat(limiter.tryAcquire("other:login")).isTrue();
+    }
+
+    @Test
+    @DisplayName("분당 허용량에 맞춰 토큰이 다시 채워짐")
+    void tryAcquire_RefillsAtConfiguredRate() {
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(60, 2, clock::get);
+
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.getUsedPermits("key")).isZero();
+        assertThat(limiter.removeIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("초기화 후 다시 버스트 허용")
+    void reset_RestoresBurst() {
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(60, 1, clock::get);
+
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+
+        limiter.reset("key");
+
+        assertThat(limiter.tryAcquire("key")).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 버스트 용량을 초과해 허용하지 않음")
+    void tryAcquire_DoesNotOverAdmitUnderContention() throws InterruptedException {
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(1, 100, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (limiter.tryAcquire("hot")) {
+                    admitted.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(admitted.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("버킷 조회 직후 유휴 정리로 분리돼도 추가 허용하지 않음")
+    void removeIdle_DoesNotLeakPermitToAcquireHoldingDetachedBucket() {
+        AtomicReference<TokenBucketRateLimiter<String>> limiterRef = new AtomicReference<>();
+        AtomicBoolean cleanupOnNextTick = new AtomicBoolean();
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(1, 1, () -> {
+            if (cleanupOnNextTick.compareAndSet(true, false)) {
+                limiterRef.get().removeIdle();
+            }
+            return clock.get();
+        });
+        limiterRef.set(limiter);
+
+        cleanupOnNextTick.set(true);
+        assertThat(limiter.tryAcquire("key")).isTrue();
+
+        assertThat(limiter.tryAcquire("key")).isFalse();
+        assertThat(limiter.getUsedPermits("key")).isEqualTo(1);
+    }
+}